@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.qulice.spi.Corpus;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+
+/**
+ * Benchmark of every custom check of {@code checks.xml}, one at a time.
+ *
+ * <p>The checker is configured with the chosen check only, taken from
+ * {@code checks.xml} together with its properties, under its
+ * {@code TreeWalker} or {@code CombinedRegexpCheck} parent when it has
+ * one there, and without any cache,
+ * so that every invocation parses and checks the whole corpus.</p>
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CustomChecksBench {
+
+    /**
+     * Simple name of the check to run.
+     */
+    @Param({
+        "BracketsStructureCheck", "CascadeIndentationCheck",
+        "ConditionalRegexpMultilineCheck", "ConstantUsageCheck",
+        "ConstructorsCodeFreeCheck", "ConstructorsOrderCheck",
+        "CurlyBracketsStructureCheck", "DiamondOperatorCheck",
+        "EmptyLineBeforeFirstMemberCheck", "EmptyLinesCheck",
+        "EnumValueNameCheck", "ExtraSemicolonCheck",
+        "FinalSemicolonInTryWithResourcesCheck", "IfThenThrowElseCheck",
+        "ImportCohesionCheck", "JavadocCompactParagraphCheck",
+        "JavadocEmptyLineBeforeTagCheck", "JavadocEmptyLineCheck",
+        "JavadocFirstLineCheck", "JavadocLocationCheck",
+        "JavadocNoIndentCheck", "JavadocParameterOrderCheck",
+        "JavadocTagsCheck", "JavadocTagsDotCheck", "JavadocThrowsCheck",
+        "MethodBodyCommentsCheck", "MethodDeclarationLengthCheck",
+        "MethodNameCheck", "MethodsOrderCheck", "MultiLineCommentCheck",
+        "MultilineJavadocTagsCheck", "NestedSwitchCheck",
+        "NoJavadocForOverriddenMethodsCheck",
+        "NoJavadocForPrivateMethodsCheck", "NonStaticMethodCheck",
+        "ParameterNumberCheck", "ProhibitFieldsInTestClassesCheck",
+        "ProhibitLineSeparatorInStringsCheck",
+        "ProhibitStaticNestedClassesCheck", "ProhibitTestExpectedCheck",
+        "ProhibitTestMethodNameCheck", "ProtectedMethodInFinalClassCheck",
+        "QualifyInnerClassCheck", "RedundantSuperConstructorCheck",
+        "SimpleStringSplitCheck", "SingleLineCommentCheck",
+        "StaticAccessViaInstanceCheck", "StringLiteralsConcatenationCheck",
+        "UnknownSuppressionCheck", "UnnecessaryJavaLangCheck"
+    })
+    private String check;
+
+    /**
+     * Number of classes in the corpus.
+     */
+    @Param("100")
+    private int classes;
+
+    /**
+     * Checker with the chosen check only.
+     */
+    private Checker checker;
+
+    /**
+     * Files of the corpus.
+     */
+    private List<File> files;
+
+    /**
+     * Write the corpus and configure the checker.
+     * @throws IOException If fails
+     * @throws CheckstyleException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CheckstyleException {
+        this.files = new ArrayList<>(
+            new Corpus(42L).withClasses(this.classes).withMethods(10)
+                .mock().files("*.java")
+        );
+        this.checker = new Checker();
+        this.checker.setModuleClassLoader(
+            Thread.currentThread().getContextClassLoader()
+        );
+        this.checker.configure(this.only(CustomChecksBench.full()));
+    }
+
+    /**
+     * Release the checker.
+     */
+    @TearDown(Level.Trial)
+    public void destroy() {
+        this.checker.destroy();
+    }
+
+    /**
+     * Run the check over the corpus.
+     * @return Number of errors found
+     * @throws CheckstyleException If fails
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return this.checker.process(this.files);
+    }
+
+    private Configuration only(final Configuration full) {
+        final DefaultConfiguration root = new DefaultConfiguration(full.getName());
+        for (final Map.Entry<String, String> prop : full.getProperties().entrySet()) {
+            if (!"cacheFile".equals(prop.getKey())) {
+                root.addProperty(prop.getKey(), prop.getValue());
+            }
+        }
+        for (final Configuration child : full.getChildren()) {
+            if (child.getChildren().length > 0) {
+                final DefaultConfiguration parent =
+                    new DefaultConfiguration(child.getName());
+                for (final Configuration grand : child.getChildren()) {
+                    if (this.matches(grand)) {
+                        parent.addChild(grand);
+                    }
+                }
+                if (parent.getChildren().length > 0) {
+                    root.addChild(parent);
+                }
+            } else if (this.matches(child)) {
+                root.addChild(child);
+            }
+        }
+        return root;
+    }
+
+    private boolean matches(final Configuration config) {
+        return config.getName().equals(
+            String.format("com.qulice.checkstyle.%s", this.check)
+        );
+    }
+
+    private static Configuration full() throws IOException, CheckstyleException {
+        final Properties props = new Properties();
+        props.setProperty("cache.file", "");
+        try (InputStream stream =
+            CustomChecksBench.class.getResourceAsStream("checks.xml")) {
+            return ConfigurationLoader.loadConfiguration(
+                new InputSource(stream),
+                new PropertiesExpander(props),
+                ConfigurationLoader.IgnoredModulesOptions.OMIT
+            );
+        }
+    }
+}
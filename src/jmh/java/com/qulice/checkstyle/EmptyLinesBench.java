@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link EmptyLinesCheck} on one long generated class.
+ *
+ * <p>The class is made of methods of ten lines, every other one with an
+ * anonymous class inside, so that {@link LineRanges} holds thousands of
+ * ranges and is asked about every line of the file.</p>
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EmptyLinesBench {
+
+    /**
+     * Number of lines in the class, roughly.
+     */
+    @Param("20000")
+    private int lines;
+
+    /**
+     * Checker with the check only.
+     */
+    private Checker checker;
+
+    /**
+     * The class.
+     */
+    private List<File> files;
+
+    /**
+     * Write the class and configure the checker.
+     * @throws IOException If fails
+     * @throws CheckstyleException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CheckstyleException {
+        final Path dir = Files.createTempDirectory("jmh");
+        final List<String> text = new ArrayList<>(this.lines);
+        text.add("public final class Long {");
+        for (int idx = 0; text.size() < this.lines; idx += 1) {
+            text.add(String.format("    int method%d(final int arg) {", idx));
+            text.add("        int sum = arg;");
+            if (idx % 2 == 0) {
+                text.add("        final Runnable run = new Runnable() {");
+                text.add("            @Override");
+                text.add("            public void run() {");
+                text.add("            }");
+                text.add("        };");
+            } else {
+                text.add("        sum += 1;");
+                text.add("");
+                text.add("        sum += 2;");
+                text.add("        sum += 3;");
+                text.add("        sum += 4;");
+            }
+            text.add("        return sum;");
+            text.add("    }");
+            text.add("");
+        }
+        text.add("}");
+        final Path file = dir.resolve("Long.java");
+        Files.write(file, text, StandardCharsets.UTF_8);
+        this.files = Collections.singletonList(file.toFile());
+        final DefaultConfiguration walker = new DefaultConfiguration("TreeWalker");
+        walker.addChild(
+            new DefaultConfiguration(EmptyLinesCheck.class.getName())
+        );
+        final DefaultConfiguration root = new DefaultConfiguration("Checker");
+        root.addChild(walker);
+        this.checker = new Checker();
+        this.checker.setModuleClassLoader(
+            Thread.currentThread().getContextClassLoader()
+        );
+        this.checker.configure(root);
+    }
+
+    /**
+     * Release the checker.
+     */
+    @TearDown(Level.Trial)
+    public void destroy() {
+        this.checker.destroy();
+    }
+
+    /**
+     * Run the check over the class.
+     * @return Number of errors found
+     * @throws CheckstyleException If fails
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return this.checker.process(this.files);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Violation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Diagnostics#violations(List)}.
+ *
+ * <p>The output mixes positioned diagnostics, global ones and the
+ * source and caret lines {@code javac} prints under every positioned
+ * one, the way a real run with thousands of warnings looks.</p>
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DiagnosticsBench {
+
+    /**
+     * Number of diagnostics in the output.
+     */
+    @Param("10000")
+    private int diagnostics;
+
+    /**
+     * Lines of the output.
+     */
+    private List<String> output;
+
+    /**
+     * Make up the output.
+     */
+    @Setup(Level.Trial)
+    public void output() {
+        final Random random = new Random(42L);
+        this.output = new ArrayList<>(this.diagnostics * 3);
+        for (int idx = 0; idx < this.diagnostics; idx += 1) {
+            if (idx % 100 == 0) {
+                this.output.add("error: warnings found and -Werror specified");
+            } else {
+                this.output.add(
+                    String.format(
+                        "/prj/src/main/java/com/example/Type%d.java:%d: warning: [UnusedVariable] The local variable 'x%d' is never read.",
+                        random.nextInt(1000), 1 + random.nextInt(500), idx
+                    )
+                );
+                this.output.add("        final int x = 0;");
+                this.output.add("                  ^");
+            }
+        }
+    }
+
+    /**
+     * Parse the output.
+     * @return Violations
+     */
+    @Benchmark
+    public Collection<Violation> violations() {
+        return new Diagnostics("ErrorProne", "/prj").violations(this.output);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.jmh;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Comparison of JMH results, in JMH's CSV format, with a stored baseline.
+ *
+ * <p>Takes the path of the fresh results, the path of the baseline and
+ * the tolerated slowdown as a fraction, e.g. {@code 0.2} for 20%. A
+ * benchmark is matched with its baseline by its name and parameters.
+ * It regresses when it got slower than the baseline by more than the
+ * tolerance: a higher score in the {@code avgt} and {@code sample}
+ * modes, a lower one in {@code thrpt}. Any regression makes the process
+ * exit with a non-zero code, and so does a missing baseline or one that
+ * shares no benchmark with the results, since nothing was compared. The
+ * fresh results are stored as the baseline only when asked to, by
+ * {@code true} as the fourth argument.</p>
+ *
+ * @since 1.0
+ */
+public final class Baseline {
+
+    /**
+     * Fresh results.
+     */
+    private final Path fresh;
+
+    /**
+     * Stored baseline.
+     */
+    private final Path stored;
+
+    /**
+     * Tolerated slowdown, as a fraction.
+     */
+    private final double tolerance;
+
+    /**
+     * Store the fresh results as the baseline instead of comparing.
+     */
+    private final boolean store;
+
+    /**
+     * Constructor.
+     * @param fresh Fresh results
+     * @param stored Stored baseline
+     * @param tolerance Tolerated slowdown, as a fraction
+     * @param store Store the fresh results as the baseline
+     */
+    public Baseline(final Path fresh, final Path stored,
+        final double tolerance, final boolean store) {
+        this.fresh = fresh;
+        this.stored = stored;
+        this.tolerance = tolerance;
+        this.store = store;
+    }
+
+    /**
+     * Entry point.
+     * @param args Fresh results, stored baseline, tolerance and, optionally,
+     *  whether to store the results as the baseline
+     * @throws IOException If fails to read
+     */
+    public static void main(final String... args) throws IOException {
+        final List<String> regressions = new Baseline(
+            Paths.get(args[0]), Paths.get(args[1]), Double.parseDouble(args[2]),
+            args.length > 3 && Boolean.parseBoolean(args[3])
+        ).regressions();
+        for (final String line : regressions) {
+            Logger.error(Baseline.class, line);
+        }
+        if (!regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compare the results with the baseline.
+     * @return Regressions, as human-readable lines, empty if none
+     * @throws IOException If fails to read
+     */
+    public List<String> regressions() throws IOException {
+        final List<String> regressions = new ArrayList<>(0);
+        if (this.store) {
+            Files.createDirectories(this.stored.toAbsolutePath().getParent());
+            Files.copy(this.fresh, this.stored, StandardCopyOption.REPLACE_EXISTING);
+            Logger.info(this, "%s is stored as the baseline", this.fresh);
+        } else if (Files.exists(this.stored)) {
+            final Map<String, double[]> before = Baseline.scores(this.stored);
+            int compared = 0;
+            for (final Map.Entry<String, double[]> now
+                : Baseline.scores(this.fresh).entrySet()) {
+                final double[] was = before.get(now.getKey());
+                if (was != null) {
+                    compared += 1;
+                    if (this.slower(was, now.getValue())) {
+                        regressions.add(
+                            String.format(
+                                Locale.ENGLISH,
+                                "REGRESSION %s: %.3f -> %.3f",
+                                now.getKey(), was[0], now.getValue()[0]
+                            )
+                        );
+                    }
+                }
+            }
+            if (compared == 0) {
+                regressions.add(
+                    String.format(
+                        "No benchmark of %s is in the baseline %s",
+                        this.fresh, this.stored
+                    )
+                );
+            }
+            Logger.info(
+                this, "%d benchmarks compared with %s", compared, this.stored
+            );
+        } else {
+            regressions.add(
+                String.format(
+                    "No baseline at %s, store one with -Djmh.store=true",
+                    this.stored
+                )
+            );
+        }
+        return regressions;
+    }
+
+    private boolean slower(final double[] was, final double[] now) {
+        final boolean slower;
+        if (now[1] > 0) {
+            slower = now[0] < was[0] * (1.0 - this.tolerance);
+        } else {
+            slower = now[0] > was[0] * (1.0 + this.tolerance);
+        }
+        return slower;
+    }
+
+    private static Map<String, double[]> scores(final Path csv)
+        throws IOException {
+        final List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        final List<String> head = Baseline.cells(lines.get(0));
+        final Map<String, double[]> scores = new LinkedHashMap<>(lines.size());
+        for (final String line : lines.subList(1, lines.size())) {
+            if (!line.isBlank()) {
+                Baseline.score(line, head, scores);
+            }
+        }
+        return scores;
+    }
+
+    private static void score(final String line, final List<String> head,
+        final Map<String, double[]> scores) {
+        final int mode = head.indexOf("Mode");
+        final int score = head.indexOf("Score");
+        final List<String> cells = Baseline.cells(line);
+        final StringBuilder key = new StringBuilder(cells.get(0));
+        for (int idx = 0; idx < head.size(); idx += 1) {
+            if (head.get(idx).startsWith("Param: ")) {
+                key.append(' ').append(head.get(idx).substring(7))
+                    .append('=').append(cells.get(idx));
+            }
+        }
+        double thrpt = 0;
+        if ("thrpt".equals(cells.get(mode))) {
+            thrpt = 1;
+        }
+        scores.put(
+            key.toString(),
+            new double[] {Double.parseDouble(cells.get(score)), thrpt}
+        );
+    }
+
+    private static List<String> cells(final String line) {
+        final List<String> cells = new ArrayList<>(0);
+        final StringBuilder cell = new StringBuilder(0);
+        boolean quoted = false;
+        for (int idx = 0; idx < line.length(); idx += 1) {
+            final char chr = line.charAt(idx);
+            if (chr == '"') {
+                quoted = !quoted;
+            } else if (chr == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(chr);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link DefaultMavenEnvironment#exclude(String, String)},
+ * the path every validator takes for every file it is given.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExcludeBench {
+
+    /**
+     * Number of exclude patterns.
+     */
+    @Param("20")
+    private int excludes;
+
+    /**
+     * Number of file names to match.
+     */
+    @Param("1000")
+    private int files;
+
+    /**
+     * Environment with the excludes.
+     */
+    private DefaultMavenEnvironment env;
+
+    /**
+     * File names to match.
+     */
+    private List<String> names;
+
+    /**
+     * Configure the excludes and make up the names.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<String> patterns = new ArrayList<>(this.excludes);
+        for (int idx = 0; idx < this.excludes; idx += 1) {
+            patterns.add(
+                String.format("checkstyle:/src/main/java/com/example/p%d/.*", idx)
+            );
+        }
+        this.env = new DefaultMavenEnvironment();
+        this.env.setExcludes(patterns);
+        this.names = new ArrayList<>(this.files);
+        for (int idx = 0; idx < this.files; idx += 1) {
+            this.names.add(
+                String.format(
+                    "/src/main/java/com/example/p%d/Type%d.java",
+                    idx % (this.excludes * 2), idx
+                )
+            );
+        }
+    }
+
+    /**
+     * Match every name against the excludes.
+     * @return Number of names excluded
+     */
+    @Benchmark
+    public int exclude() {
+        int excluded = 0;
+        for (final String name : this.names) {
+            if (this.env.exclude("checkstyle", name)) {
+                excluded += 1;
+            }
+        }
+        return excluded;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.pmd;
+
+import com.qulice.spi.Corpus;
+import com.qulice.spi.Environment;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import net.sourceforge.pmd.lang.rule.RulePriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of every rule in {@code com.qulice.pmd.rules}, one at a time.
+ *
+ * <p>PMD gets a ruleset that refers to the chosen rule of
+ * {@code ruleset.xml} only, so the rule runs with the same properties
+ * it has in a real build.</p>
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CustomRulesBench {
+
+    /**
+     * Name of the rule in {@code ruleset.xml}.
+     */
+    @Param({
+        "UnitTestShouldIncludeAssert", "UnitTestContainsTooManyAsserts",
+        "TooManyMethods", "ExcessiveParameterList", "TooManyFields",
+        "ProhibitPlainJunitAssertionsRule", "UseStringIsEmptyRule",
+        "UseCollectionsSingletonList", "ProhibitFormatInLoggerRule",
+        "UnnecessaryLocalRule", "ImplicitFunctionalInterface"
+    })
+    private String rule;
+
+    /**
+     * Number of classes in the corpus.
+     */
+    @Param("100")
+    private int classes;
+
+    /**
+     * Ruleset with the chosen rule only.
+     */
+    private File ruleset;
+
+    /**
+     * Files of the corpus.
+     */
+    private Collection<File> files;
+
+    /**
+     * Write the corpus and the ruleset.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Environment env = new Corpus(42L)
+            .withClasses(this.classes)
+            .withMethods(10)
+            .mock();
+        this.files = env.files("*.java");
+        this.ruleset = new File(env.tempdir(), "ruleset.xml");
+        Files.writeString(
+            this.ruleset.toPath(),
+            String.join(
+                System.lineSeparator(),
+                "<?xml version=\"1.0\"?>",
+                "<ruleset name=\"bench\" xmlns=\"http://pmd.sourceforge.net/ruleset/2.0.0\">",
+                "  <description>One rule of Qulice</description>",
+                String.format(
+                    "  <rule ref=\"com/qulice/pmd/ruleset.xml/%s\"/>", this.rule
+                ),
+                "</ruleset>",
+                ""
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Run the rule over the corpus.
+     * @return Number of violations found
+     */
+    @Benchmark
+    public int analyze() {
+        final PMDConfiguration config = new PMDConfiguration();
+        config.setRuleSets(List.of(this.ruleset.getPath()));
+        config.setThreads(0);
+        config.setMinimumPriority(RulePriority.LOW);
+        config.setIgnoreIncrementalAnalysis(true);
+        config.setSourceEncoding(StandardCharsets.UTF_8);
+        try (PmdAnalysis analysis = PmdAnalysis.create(config)) {
+            for (final File file : this.files) {
+                analysis.files().addFile(file.toPath());
+            }
+            return analysis.performAnalysisAndCollectReport().getViolations().size();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.pmd;
+
+import com.qulice.spi.Corpus;
+import com.qulice.spi.Environment;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link PmdValidator#validate(Collection)}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PmdValidatorBench {
+
+    /**
+     * Number of packages in the corpus.
+     */
+    @Param("10")
+    private int packages;
+
+    /**
+     * Number of classes in every package.
+     */
+    @Param("10")
+    private int classes;
+
+    /**
+     * Environment with the corpus.
+     */
+    private Environment env;
+
+    /**
+     * Files of the corpus.
+     */
+    private Collection<File> files;
+
+    /**
+     * Write the corpus.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void corpus() throws IOException {
+        this.env = new Corpus(42L)
+            .withPackages(this.packages)
+            .withClasses(this.classes)
+            .withMethods(10)
+            .mock();
+        this.files = this.env.files("*.java");
+    }
+
+    /**
+     * Validate the corpus.
+     * @return Violations found
+     */
+    @Benchmark
+    public Collection<Violation> validate() {
+        return new PmdValidator(this.env).validate(this.files);
+    }
+}
@@ -5,10 +5,16 @@
 package com.qulice.checkstyle;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Utility class that checks the existence
- * of tokens of specific type in the AST node subtree.
+ * Types of tokens in the subtree of every node of a file.
  *
  * <p>Some checks used branchContains() method in DetailAST
  * which recursively searched node subtree for the child of a given type.
@@ -17,34 +23,73 @@ import com.puppycrawl.tools.checkstyle.api.DetailAST;
  * for your needs by yourself to avoid unexpected side effects. So here follows it's
  * simple implementation.
  *
+ * <p>A check that asks about many nodes of one file, each of them nested
+ * into the previous one, would walk the same subtrees again and again.
+ * So the tree is walked once, from its leaves up, in the
+ * {@code beginTree()} of the check, and every node gets a set of the
+ * token types found below it, itself included. A question about a node
+ * is then answered with a single lookup.
+ *
  * @since 1.0
  */
-class BranchContains {
+final class BranchContains {
 
     /**
-     * Node, represented by this object.
+     * Token types in the subtree of every node, by node identity.
      */
-    private final DetailAST node;
+    private final Map<DetailAST, BitSet> types;
 
     /**
-     * Creates a decorator which is able to search in the node's subtree.
-     * @param node Node which will be represented by the new BranchContains instance
+     * Creates the index of the tree, walking it right away.
+     * @param root Root of the tree of the file, may be NULL
      */
-    BranchContains(final DetailAST node) {
-        this.node = node;
+    BranchContains(final DetailAST root) {
+        this.types = new IdentityHashMap<>(0);
+        DetailAST top = root;
+        while (top != null) {
+            this.walk(top);
+            top = top.getNextSibling();
+        }
     }
 
     /**
      * Checks if there is a node of type `type` in this node subtree.
-     * The root node itself may also match, i.e.
-     * `new BranchContains(node).contains(node.getType())` is always true
+     * The node itself may also match, i.e.
+     * `check(node, node.getType())` is always true
+     * @param node Node whose subtree to look into
      * @param type Desired type
      * @return Whether node of given type exists somewhere in the subtree
      */
-    boolean check(final int type) {
-        return this.node.getType() == type
-            || new ChildStream(this.node)
-            .children()
-            .anyMatch(child -> new com.qulice.checkstyle.BranchContains(child).check(type));
+    boolean check(final DetailAST node, final int type) {
+        BitSet found = this.types.get(node);
+        if (found == null) {
+            this.walk(node);
+            found = this.types.get(node);
+        }
+        return found.get(type);
+    }
+
+    private void walk(final DetailAST root) {
+        final List<DetailAST> order = new ArrayList<>(0);
+        final Deque<DetailAST> stack = new ArrayDeque<>(0);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final DetailAST node = stack.pop();
+            order.add(node);
+            for (DetailAST child = node.getFirstChild();
+                child != null; child = child.getNextSibling()) {
+                stack.push(child);
+            }
+        }
+        for (int idx = order.size() - 1; idx >= 0; idx -= 1) {
+            final DetailAST node = order.get(idx);
+            final BitSet found = new BitSet(node.getType() + 1);
+            found.set(node.getType());
+            for (DetailAST child = node.getFirstChild();
+                child != null; child = child.getNextSibling()) {
+                found.or(this.types.get(child));
+            }
+            this.types.put(node, found);
+        }
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Checkstyle cache files of a project, one per flavor of
+ * {@code checks.xml}.
+ *
+ * <p>Every {@link ParsedChecks} flavor gets a cache file named by its
+ * {@link ParsedChecks#hash()}, so the cache a run finds is always the
+ * one written by a run of the same configuration: switching the Java
+ * level of a project, which drops some checks, or upgrading Qulice,
+ * starts a new cache instead of reusing one made by other checks. The
+ * files stay between builds. The directory keeps only the few most
+ * recently used of them, the rest are deleted.</p>
+ *
+ * @since 1.0
+ */
+final class CacheFiles {
+
+    /**
+     * How many cache files to keep.
+     */
+    private static final int KEEP = 8;
+
+    /**
+     * Directory of the cache files.
+     */
+    private final File dir;
+
+    /**
+     * Constructor.
+     * @param dir Directory of the cache files
+     */
+    CacheFiles(final File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Cache file of this configuration, marked as the most recently used.
+     * @param checks Configuration
+     * @return Cache file, which may not exist yet
+     */
+    File of(final ParsedChecks checks) {
+        if (!this.dir.exists() && !this.dir.mkdirs()) {
+            throw new IllegalStateException(
+                String.format(
+                    "Unable to create directories needed for %s", this.dir
+                )
+            );
+        }
+        if (!this.dir.canWrite()) {
+            throw new IllegalStateException(
+                String.format(
+                    "Cannot write to %s, check filesystem permissions",
+                    this.dir.getAbsolutePath()
+                )
+            );
+        }
+        final File cache = new File(
+            this.dir, String.format("%s.cache", checks.hash())
+        );
+        if (cache.exists() && !cache.setLastModified(System.currentTimeMillis())) {
+            throw new IllegalStateException(
+                String.format("Unable to touch %s", cache)
+            );
+        }
+        this.prune(cache);
+        return cache;
+    }
+
+    private void prune(final File used) {
+        final File[] files = this.dir.listFiles(
+            (parent, name) -> name.endsWith(".cache")
+        );
+        if (files != null && files.length > CacheFiles.KEEP) {
+            Arrays.sort(
+                files,
+                Comparator.comparingLong(File::lastModified).reversed()
+            );
+            for (final File file : Arrays.copyOfRange(
+                files, CacheFiles.KEEP, files.length
+            )) {
+                if (!file.equals(used)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+}
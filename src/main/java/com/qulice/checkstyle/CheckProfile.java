@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time spent in every Checkstyle check, and tokens it visited.
+ *
+ * <p>{@link TimedCheck} and {@link TimedFileSetCheck} add here what they
+ * measure around the checks they wrap. Checkstyle instantiates them on its
+ * own, so there is no way to hand them an object of a particular run: the
+ * counters are shared by the whole JVM, and {@link #reset()} sets them back
+ * to zero before a profiled run. Two profiled runs at the same time, in
+ * the parallel modules of a reactor build, add to the same counters.</p>
+ *
+ * @since 1.0
+ */
+final class CheckProfile {
+
+    /**
+     * Nanoseconds spent, by check.
+     */
+    private static final Map<String, LongAdder> NANOS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Tokens visited, by check.
+     */
+    private static final Map<String, LongAdder> TOKENS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Counter of nanoseconds spent in this check.
+     * @param check Name of the check
+     * @return Counter to add to
+     */
+    LongAdder nanos(final String check) {
+        return CheckProfile.NANOS.computeIfAbsent(check, name -> new LongAdder());
+    }
+
+    /**
+     * Counter of tokens visited by this check.
+     * @param check Name of the check
+     * @return Counter to add to
+     */
+    LongAdder tokens(final String check) {
+        return CheckProfile.TOKENS.computeIfAbsent(check, name -> new LongAdder());
+    }
+
+    /**
+     * Set all the counters back to zero. The counters stay, since the
+     * checks that add to them keep them.
+     */
+    void reset() {
+        CheckProfile.NANOS.values().forEach(LongAdder::reset);
+        CheckProfile.TOKENS.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Names of the checks, the slowest first.
+     * @return Names
+     */
+    List<String> slowest() {
+        final List<String> names = new ArrayList<>(CheckProfile.NANOS.keySet());
+        names.sort(
+            Comparator.comparingLong(this::spent).reversed()
+                .thenComparing(Comparator.naturalOrder())
+        );
+        return names;
+    }
+
+    /**
+     * Nanoseconds spent in this check.
+     * @param check Name of the check
+     * @return Nanoseconds
+     */
+    long spent(final String check) {
+        return this.nanos(check).sum();
+    }
+
+    /**
+     * Tokens visited by this check.
+     * @param check Name of the check
+     * @return Number of tokens, zero for a check that visits no tokens
+     */
+    long visited(final String check) {
+        return this.tokens(check).sum();
+    }
+
+    /**
+     * All the counters as a JSON document, the slowest check first.
+     * @return JSON
+     */
+    String json() {
+        final StringBuilder json = new StringBuilder(0);
+        json.append("{\"checks\":[");
+        boolean first = true;
+        for (final String check : this.slowest()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append(
+                String.format(
+                    "{\"check\":\"%s\",\"nanos\":%d,\"tokens\":%d}",
+                    check.replace("\\", "\\\\").replace("\"", "\\\""),
+                    this.spent(check),
+                    this.visited(check)
+                )
+            );
+        }
+        return json.append("]}").toString();
+    }
+}
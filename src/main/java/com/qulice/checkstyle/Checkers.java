@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Pool of Checkstyle checkers, configured once per JVM.
+ *
+ * <p>Configuring a {@link Checker} instantiates and sets up every module
+ * of {@code checks.xml}, which costs about as much as checking a small
+ * project. A checker stays usable after {@link Checker#process(List)}, so
+ * instead of being thrown away it goes back to the pool of its
+ * {@link ParsedChecks} flavor, and the next run of the same flavor, in
+ * the next module of a reactor build or the next build of a Maven daemon,
+ * takes it from there. A checker serves one run at a time: the pool
+ * holds as many of them as there were runs at once. Every run sets its
+ * own cache file and listener on the checker it takes; a checker whose
+ * run failed is dropped, since its state is unknown.</p>
+ *
+ * @since 1.0
+ */
+final class Checkers {
+
+    /**
+     * Idle checkers, by the key of their configuration.
+     */
+    private static final Map<String, Queue<Checker>> IDLE =
+        new ConcurrentHashMap<>(4);
+
+    /**
+     * Configuration of the checkers.
+     */
+    private final ParsedChecks config;
+
+    /**
+     * Constructor.
+     * @param config Configuration of the checkers
+     */
+    Checkers(final ParsedChecks config) {
+        this.config = config;
+    }
+
+    /**
+     * Check these files with a checker from the pool.
+     * @param files Files to check
+     * @param cache Checkstyle cache file to use
+     * @param listener Listener of the audit events
+     * @throws CheckstyleException If Checkstyle fails
+     */
+    void process(final List<File> files, final File cache,
+        final AuditListener listener) throws CheckstyleException {
+        final Queue<Checker> idle = Checkers.IDLE.computeIfAbsent(
+            this.config.key(), key -> new ConcurrentLinkedQueue<>()
+        );
+        final Checker checker = this.borrow(idle);
+        try {
+            checker.setCacheFile(cache.getPath());
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to load Checkstyle cache %s", cache), ex
+            );
+        }
+        checker.addListener(listener);
+        try {
+            checker.process(files);
+        } finally {
+            checker.removeListener(listener);
+        }
+        idle.offer(checker);
+    }
+
+    private Checker borrow(final Queue<Checker> idle) {
+        Checker checker = idle.poll();
+        if (checker == null) {
+            checker = new Checker();
+            checker.setModuleClassLoader(
+                Thread.currentThread().getContextClassLoader()
+            );
+            try {
+                checker.configure(this.config.value());
+            } catch (final CheckstyleException ex) {
+                throw new IllegalStateException("Failed to configure checker", ex);
+            }
+        }
+        return checker;
+    }
+}
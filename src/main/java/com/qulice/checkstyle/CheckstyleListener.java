@@ -9,6 +9,8 @@ import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AuditListener;
 import com.qulice.spi.Environment;
 import com.qulice.spi.Relative;
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,6 +18,13 @@ import java.util.List;
 
 /**
  * Listener of Checkstyle events.
+ *
+ * <p>An event holds its message, its arguments and the bundle to format
+ * them with, and a legacy module may have hundreds of thousands of
+ * them, so none is kept: each one is turned into a
+ * {@link Violation.Compact}, handed to the reporter and indexed by its
+ * file, check and line as soon as Checkstyle reports it.</p>
+ *
  * @since 0.3
  */
 final class CheckstyleListener implements AuditListener {
@@ -26,9 +35,19 @@ final class CheckstyleListener implements AuditListener {
     private final Environment env;
 
     /**
-     * Collection of events collected.
+     * Where to hand the violations.
      */
-    private final List<AuditEvent> all;
+    private final Reporter reporter;
+
+    /**
+     * Violations handed over so far.
+     */
+    private int count;
+
+    /**
+     * Lines of the events so far, by file and by check.
+     */
+    private final EventIndex lines;
 
     /**
      * Files that Checkstyle actually processed, cache aside.
@@ -40,7 +59,17 @@ final class CheckstyleListener implements AuditListener {
      * @param environ The environment
      */
     CheckstyleListener(final Environment environ) {
-        this.all = new ArrayList<>(0);
+        this(environ, new Reporter.None());
+    }
+
+    /**
+     * Public ctor.
+     * @param environ The environment
+     * @param reporter Where to hand the violations
+     */
+    CheckstyleListener(final Environment environ, final Reporter reporter) {
+        this.reporter = reporter;
+        this.lines = new EventIndex();
         this.started = new ArrayList<>(0);
         this.env = environ;
     }
@@ -72,7 +101,18 @@ final class CheckstyleListener implements AuditListener {
         ).path();
         if (!this.env.exclude("checkstyle", path)
             && !this.skipJavadocPackage(event, path)) {
-            this.all.add(event);
+            final String check = event.getSourceName();
+            this.count += 1;
+            this.reporter.report(
+                new Violation.Compact(
+                    "Checkstyle",
+                    check.substring(check.lastIndexOf('.') + 1),
+                    event.getFileName(),
+                    event.getLine(),
+                    event.getMessage()
+                )
+            );
+            this.lines.add(event);
         }
     }
 
@@ -94,11 +134,19 @@ final class CheckstyleListener implements AuditListener {
     }
 
     /**
-     * Get all events.
-     * @return List of events
+     * How many violations were handed to the reporter.
+     * @return Number of violations, one per event
+     */
+    int violations() {
+        return this.count;
+    }
+
+    /**
+     * Get all events, indexed by file and by check.
+     * @return Index of the events
      */
-    List<AuditEvent> events() {
-        return Collections.unmodifiableList(this.all);
+    EventIndex index() {
+        return this.lines;
     }
 
     /**
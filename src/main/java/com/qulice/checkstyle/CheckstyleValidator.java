@@ -5,26 +5,23 @@
 package com.qulice.checkstyle;
 
 import com.jcabi.log.Logger;
-import com.puppycrawl.tools.checkstyle.Checker;
-import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
-import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
-import com.puppycrawl.tools.checkstyle.PropertiesExpander;
-import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.qulice.spi.Environment;
 import com.qulice.spi.Ignored;
 import com.qulice.spi.Relative;
+import com.qulice.spi.Reporter;
 import com.qulice.spi.ResourceValidator;
 import com.qulice.spi.Violation;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
-import java.util.Properties;
 import java.util.Set;
-import org.xml.sax.InputSource;
 
 /**
  * Validator with Checkstyle.
@@ -60,14 +57,9 @@ public final class CheckstyleValidator implements ResourceValidator {
     private static final int MINIMUM = 14;
 
     /**
-     * Checkstyle checker.
+     * How many of the slowest checks to log when profiling.
      */
-    private final Checker checker;
-
-    /**
-     * Listener of checkstyle messages.
-     */
-    private final CheckstyleListener listener;
+    private static final int SLOWEST = 10;
 
     /**
      * Environment to use.
@@ -80,23 +72,35 @@ public final class CheckstyleValidator implements ResourceValidator {
      */
     public CheckstyleValidator(final Environment env) {
         this.env = env;
-        this.checker = new Checker();
-        this.listener = new CheckstyleListener(this.env);
     }
 
     @Override
     public Collection<Violation> validate(final Collection<File> files) {
-        this.checker.setModuleClassLoader(
-            Thread.currentThread().getContextClassLoader()
+        final Collection<Violation> results = new ArrayList<>(0);
+        this.validate(files, new Reporter.Collected(results));
+        return results;
+    }
+
+    @Override
+    public void validate(final Collection<File> files, final Reporter reporter) {
+        final boolean timed = Boolean.parseBoolean(
+            this.env.param("qulice.checkstyle-profile", "false")
         );
-        try {
-            this.checker.configure(this.configuration());
-        } catch (final CheckstyleException ex) {
-            throw new IllegalStateException("Failed to configure checker", ex);
+        final ParsedChecks checks = this.checks(timed);
+        final File cache;
+        if (timed) {
+            cache = this.file("profile.cache");
+            if (cache.exists() && !cache.delete()) {
+                throw new IllegalStateException(
+                    String.format("Unable to delete %s", cache.getPath())
+                );
+            }
+        } else {
+            cache = new CacheFiles(
+                new File(this.env.tempdir(), "checkstyle")
+            ).of(checks);
         }
-        this.checker.addListener(this.listener);
         final List<File> sources = this.getNonExcludedFiles(files);
-        final Collection<Violation> results = new ArrayList<>(0);
         if (sources.isEmpty()) {
             Logger.debug(
                 this,
@@ -104,30 +108,27 @@ public final class CheckstyleValidator implements ResourceValidator {
                 files.size()
             );
         } else {
+            final CheckstyleListener listener =
+                new CheckstyleListener(this.env, reporter);
             try {
                 Logger.debug(this, "Checkstyle processing %d files", sources.size());
-                this.checker.process(sources);
+                final CheckProfile profile = new CheckProfile();
+                if (timed) {
+                    profile.reset();
+                }
+                new Checkers(checks).process(sources, cache, listener);
                 Logger.debug(this, "Checkstyle processed %d files", sources.size());
+                if (timed) {
+                    this.report(profile);
+                }
             } catch (final CheckstyleException ex) {
                 throw new IllegalStateException("Failed to process files", ex);
             }
-            for (final AuditEvent event : this.listener.events()) {
-                final String check = event.getSourceName();
-                results.add(
-                    new Violation.Default(
-                        this.name(),
-                        check.substring(check.lastIndexOf('.') + 1),
-                        event.getFileName(),
-                        String.valueOf(event.getLine()),
-                        event.getMessage()
-                    )
-                );
+            for (final Violation violation
+                : new UnusedSuppressions(this.env).validate(listener.processed())) {
+                reporter.report(violation);
             }
-            results.addAll(
-                new UnusedSuppressions(this.env).validate(this.listener.processed())
-            );
         }
-        return results;
     }
 
     @Override public String name() {
@@ -136,7 +137,7 @@ public final class CheckstyleValidator implements ResourceValidator {
 
     @Override
     public int rules() {
-        return CheckstyleValidator.count(this.configuration());
+        return CheckstyleValidator.count(this.checks(false).value());
     }
 
     /**
@@ -167,9 +168,9 @@ public final class CheckstyleValidator implements ResourceValidator {
         return relevant;
     }
 
-    private Configuration configuration() {
+    private File file(final String name) {
         final File cache =
-            new File(this.env.tempdir(), "checkstyle/checkstyle.cache");
+            new File(new File(this.env.tempdir(), "checkstyle"), name);
         final File parent = cache.getParentFile();
         if (!parent.exists() && !parent.mkdirs()) {
             throw new IllegalStateException(
@@ -187,27 +188,44 @@ public final class CheckstyleValidator implements ResourceValidator {
                 )
             );
         }
-        final Properties props = new Properties();
-        props.setProperty("cache.file", cache.getPath());
-        final Configuration config;
-        try (java.io.InputStream stream = this.getClass().getResourceAsStream("checks.xml")) {
-            if (stream == null) {
-                throw new IllegalStateException(
-                    "Checkstyle configuration file 'checks.xml' not found in classpath."
-                );
-            }
-            config = ConfigurationLoader.loadConfiguration(
-                new InputSource(stream),
-                new PropertiesExpander(props),
-                ConfigurationLoader.IgnoredModulesOptions.OMIT
+        return cache;
+    }
+
+    private void report(final CheckProfile profile) {
+        final List<String> checks = profile.slowest();
+        for (final String check : checks.subList(
+            0, Math.min(CheckstyleValidator.SLOWEST, checks.size())
+        )) {
+            Logger.info(
+                this,
+                "Checkstyle %s took %[nano]s, %d tokens visited",
+                check, profile.spent(check), profile.visited(check)
+            );
+        }
+        final File json = this.file("profile.json");
+        try {
+            Files.write(
+                json.toPath(), profile.json().getBytes(StandardCharsets.UTF_8)
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to save Checkstyle profile to %s", json), ex
             );
-        } catch (final CheckstyleException | java.io.IOException ex) {
-            throw new IllegalStateException("Failed to load config", ex);
         }
+        Logger.info(
+            this, "Checkstyle profile of %d checks saved to %s",
+            checks.size(), json
+        );
+    }
+
+    private ParsedChecks checks(final boolean timed) {
+        final Set<String> dropped;
         if (this.level() < CheckstyleValidator.MINIMUM) {
-            CheckstyleValidator.strip(config, CheckstyleValidator.MODERN);
+            dropped = CheckstyleValidator.MODERN;
+        } else {
+            dropped = Set.of();
         }
-        return config;
+        return new ParsedChecks(dropped, timed);
     }
 
     private int level() {
@@ -256,17 +274,4 @@ public final class CheckstyleValidator implements ResourceValidator {
         }
         return total;
     }
-
-    private static void strip(final Configuration config,
-        final Set<String> names) {
-        for (final Configuration child : config.getChildren()) {
-            final String name = child.getName();
-            final String simple = name.substring(name.lastIndexOf('.') + 1);
-            if (names.contains(simple)) {
-                ((DefaultConfiguration) config).removeChild(child);
-            } else {
-                CheckstyleValidator.strip(child, names);
-            }
-        }
-    }
 }
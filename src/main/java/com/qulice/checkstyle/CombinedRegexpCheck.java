@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultContext;
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpMultilineCheck;
+import com.puppycrawl.tools.checkstyle.checks.regexp.RegexpSinglelineCheck;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regexp checks of {@code checks.xml}, run behind one literal prefilter.
+ *
+ * <p>Every {@code RegexpSingleline}, {@code RegexpMultiline} and
+ * {@link ConditionalRegexpMultilineCheck} module nested into this one is
+ * set up the way Checkstyle would set it up on its own, with its id,
+ * message and file extensions. Before a file reaches them, a single
+ * {@link LiteralSearch} pass over its text finds which of the
+ * {@link RequiredLiterals} of their expressions it contains, and only
+ * the checks whose literals are all there get to see the file. Most
+ * files contain no {@code synchronized (this)} or
+ * {@code org.apache.commons.codec.CharEncoding}, so most of the
+ * expressions are never tried on them. The violations come out of the
+ * nested checks unchanged, so their source names and ids, which
+ * suppressions and exclusions rely on, are the same as without this
+ * module.</p>
+ *
+ * @since 1.0
+ */
+public final class CombinedRegexpCheck extends AbstractFileSetCheck {
+
+    /**
+     * Nested checks.
+     */
+    private final List<AbstractFileSetCheck> checks;
+
+    /**
+     * Indexes of the literals every nested check needs, in
+     * {@link #literals}.
+     */
+    private final List<int[]> needs;
+
+    /**
+     * All the literals, without duplicates.
+     */
+    private final List<String> literals;
+
+    /**
+     * Search for the literals, ready after {@link #init()}.
+     */
+    private LiteralSearch search;
+
+    /**
+     * Default constructor.
+     */
+    public CombinedRegexpCheck() {
+        this.checks = new ArrayList<>(0);
+        this.needs = new ArrayList<>(0);
+        this.literals = new ArrayList<>(0);
+    }
+
+    @Override
+    public void init() {
+        this.search = new LiteralSearch(this.literals);
+        if (this.getFileExtensions().length == 0) {
+            final Set<String> all = new LinkedHashSet<>(0);
+            boolean any = false;
+            for (final AbstractFileSetCheck check : this.checks) {
+                all.addAll(Arrays.asList(check.getFileExtensions()));
+                any = any || check.getFileExtensions().length == 0;
+            }
+            if (!any && !all.isEmpty()) {
+                this.setFileExtensions(all.toArray(new String[0]));
+            }
+        }
+    }
+
+    @Override
+    public void beginProcessing(final String charset) {
+        for (final AbstractFileSetCheck check : this.checks) {
+            check.setMessageDispatcher(this.getMessageDispatcher());
+            check.beginProcessing(charset);
+        }
+    }
+
+    @Override
+    public void finishProcessing() {
+        for (final AbstractFileSetCheck check : this.checks) {
+            check.finishProcessing();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (final AbstractFileSetCheck check : this.checks) {
+            check.destroy();
+        }
+        super.destroy();
+    }
+
+    @Override
+    protected void processFiltered(final File file, final FileText text)
+        throws CheckstyleException {
+        final BitSet found = this.search.found(text.getFullText());
+        for (int idx = 0; idx < this.checks.size(); idx += 1) {
+            boolean all = true;
+            for (final int literal : this.needs.get(idx)) {
+                all = all && found.get(literal);
+            }
+            if (all) {
+                this.addViolations(this.checks.get(idx).process(file, text));
+            }
+        }
+    }
+
+    @Override
+    protected void setupChild(final Configuration child)
+        throws CheckstyleException {
+        final String name = child.getName();
+        final AbstractFileSetCheck check;
+        if ("RegexpSingleline".equals(name)) {
+            check = new RegexpSinglelineCheck();
+        } else if ("RegexpMultiline".equals(name)) {
+            check = new RegexpMultilineCheck();
+        } else if (ConditionalRegexpMultilineCheck.class.getName().equals(name)) {
+            check = new ConditionalRegexpMultilineCheck();
+        } else {
+            throw new CheckstyleException(
+                String.format(
+                    "%s is not allowed as a child in %s",
+                    name, this.getClass().getName()
+                )
+            );
+        }
+        final DefaultContext context = new DefaultContext();
+        context.add("severity", this.getSeverityLevel().getName());
+        context.add("tabWidth", String.valueOf(this.getTabWidth()));
+        check.contextualize(context);
+        check.configure(child);
+        check.init();
+        this.checks.add(check);
+        this.needs.add(this.indexes(child));
+    }
+
+    private int[] indexes(final Configuration child) throws CheckstyleException {
+        final Collection<String> required = new ArrayList<>(0);
+        final boolean exact =
+            !"true".equals(CombinedRegexpCheck.property(child, "ignoreCase"))
+            && CombinedRegexpCheck.property(child, "minimum").matches("0*");
+        if (exact) {
+            required.addAll(
+                new RequiredLiterals(
+                    CombinedRegexpCheck.property(child, "format")
+                ).value()
+            );
+            required.addAll(
+                new RequiredLiterals(
+                    CombinedRegexpCheck.property(child, "condition")
+                ).value()
+            );
+        }
+        final int[] indexes = new int[required.size()];
+        int pos = 0;
+        for (final String literal : required) {
+            int idx = this.literals.indexOf(literal);
+            if (idx < 0) {
+                this.literals.add(literal);
+                idx = this.literals.size() - 1;
+            }
+            indexes[pos] = idx;
+            pos += 1;
+        }
+        return indexes;
+    }
+
+    private static String property(final Configuration config,
+        final String name) throws CheckstyleException {
+        String value = "";
+        if (Arrays.asList(config.getPropertyNames()).contains(name)) {
+            value = config.getProperty(name);
+        }
+        return value;
+    }
+}
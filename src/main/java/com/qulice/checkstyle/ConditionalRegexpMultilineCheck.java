@@ -11,6 +11,11 @@ import java.util.regex.Pattern;
 
 /**
  * Performs multiline regexp match only if a regexp condition passes.
+ *
+ * <p>The condition is looked for in the whole text of the file at once,
+ * with {@code ^} and {@code $} matching at line breaks, instead of in
+ * every line separately.</p>
+ *
  * @since 0.5
  */
 public final class ConditionalRegexpMultilineCheck extends
@@ -35,14 +40,7 @@ public final class ConditionalRegexpMultilineCheck extends
 
     @Override
     public void processFiltered(final File file, final FileText lines) {
-        boolean found = false;
-        for (final String line : lines.toLinesArray()) {
-            if (this.condition.matcher(line).find()) {
-                found = true;
-                break;
-            }
-        }
-        if (found) {
+        if (this.condition.matcher(lines.getFullText()).find()) {
             super.processFiltered(file, lines);
         }
     }
@@ -52,6 +50,6 @@ public final class ConditionalRegexpMultilineCheck extends
      * @param cond Regexp that has to match in file
      */
     public void setCondition(final String cond) {
-        this.condition = Pattern.compile(cond);
+        this.condition = Pattern.compile(cond, Pattern.MULTILINE);
     }
 }
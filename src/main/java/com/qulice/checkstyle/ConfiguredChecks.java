@@ -4,12 +4,12 @@
  */
 package com.qulice.checkstyle;
 
-import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
-import com.puppycrawl.tools.checkstyle.PropertiesExpander;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Properties;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
@@ -24,17 +24,27 @@ import org.cactoos.scalar.Unchecked;
  * module and its name with the {@code Check} suffix count as enabled,
  * since either of them matches the class name of the check.
  *
+ * <p>The names are put into a hash set once, so the usual suppression,
+ * which spells the name of a module in full, is answered by one lookup.
+ * Any other name, a part of the name of a module or a misspelled one,
+ * is looked for inside every name once and the answer is remembered.
+ *
  * @since 1.0
  */
 final class ConfiguredChecks {
 
     /**
-     * Names of the enabled checks, read from {@code checks.xml} once.
+     * Names of the enabled checks, collected from {@link ParsedChecks} once.
      */
     private final Unchecked<Collection<String>> names = new Unchecked<>(
         new Sticky<>(ConfiguredChecks::load)
     );
 
+    /**
+     * Answers given to the names that are not in {@link #names}.
+     */
+    private final Map<String, Boolean> partial = new ConcurrentHashMap<>(0);
+
     /**
      * Is any of the enabled checks named by this suppression?
      *
@@ -46,19 +56,14 @@ final class ConfiguredChecks {
      * @return True if the name matches at least one enabled check
      */
     boolean covers(final String name) {
-        return this.names.value().stream().anyMatch(known -> known.contains(name));
+        final Collection<String> known = this.names.value();
+        return known.contains(name) || this.partial.computeIfAbsent(
+            name, part -> known.stream().anyMatch(full -> full.contains(part))
+        );
     }
 
-    private static Collection<String> load() throws Exception {
-        final Properties props = new Properties();
-        props.setProperty("cache.file", "");
-        return ConfiguredChecks.modules(
-            ConfigurationLoader.loadConfiguration(
-                ConfiguredChecks.class.getResource("checks.xml").toString(),
-                new PropertiesExpander(props),
-                ConfigurationLoader.IgnoredModulesOptions.OMIT
-            )
-        );
+    private static Collection<String> load() {
+        return ConfiguredChecks.modules(new ParsedChecks(Set.of()).value());
     }
 
     private static Collection<String> modules(final Configuration config) {
@@ -7,9 +7,8 @@ package com.qulice.checkstyle;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
-import java.util.Comparator;
+import java.util.Optional;
 import java.util.regex.Pattern;
-import java.util.stream.StreamSupport;
 
 /**
  * Check for empty lines inside methods and constructors.
@@ -22,7 +21,9 @@ import java.util.stream.StreamSupport;
  * <p>This class is not thread safe. It builds a list of line ranges by visiting
  * each method definition and each anonymous inner type, keeps them in
  * instance fields until finishTree() reports and clears them, so a single
- * instance must not be shared between threads.
+ * instance must not be shared between threads. For every empty line it
+ * asks both lists for the innermost range around it, which they answer
+ * without looking at every range.
  *
  * @since 0.3
  */
@@ -114,18 +115,14 @@ public final class EmptyLinesCheck extends AbstractCheck {
 
     private boolean insideMethod(final int line) {
         return EmptyLinesCheck.linesBetweenBraces(
-            line, this.methods::iterator, Integer.MIN_VALUE
+            this.methods.innermost(line), Integer.MIN_VALUE
         ) < EmptyLinesCheck.linesBetweenBraces(
-            line, this.anons::iterator, Integer.MAX_VALUE
+            this.anons.innermost(line), Integer.MAX_VALUE
         );
     }
 
-    private static int linesBetweenBraces(final int line,
-        final Iterable<LineRange> iterator, final int def) {
-        return StreamSupport.stream(iterator.spliterator(), false)
-            .filter(r -> r.within(line))
-            .min(Comparator.comparingInt(r -> r.last() - r.first()))
-            .map(r -> r.last() - r.first())
-            .orElse(def);
+    private static int linesBetweenBraces(final Optional<LineRange> range,
+        final int def) {
+        return range.map(r -> r.last() - r.first()).orElse(def);
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lines of Checkstyle events, by file and by check.
+ *
+ * <p>Asking whether a check reported anything between two lines of a
+ * file used to mean filtering all the events of the run by the name of
+ * the file and then looking at each of them again for every question.
+ * Here the events are grouped once, by file and then by the source name
+ * of the check, and the lines of every group are sorted, so a question
+ * costs a binary search in each group of the file whose source name
+ * matches. Only the file, the check and the line of an event are kept,
+ * as the events come, and the groups are sorted once asked.</p>
+ *
+ * @since 1.0
+ */
+final class EventIndex {
+
+    /**
+     * Lines of the events, by source name, by file name, as they come.
+     */
+    private final Map<String, Map<String, List<Integer>>> groups;
+
+    /**
+     * Sorted lines of the events, by source name, by file name, NULL if
+     * not sorted since the last event.
+     */
+    private Map<String, Map<String, int[]>> lines;
+
+    /**
+     * Constructor.
+     */
+    EventIndex() {
+        this.groups = new HashMap<>(0);
+    }
+
+    /**
+     * Constructor.
+     * @param events Events to index
+     */
+    EventIndex(final Collection<AuditEvent> events) {
+        this();
+        for (final AuditEvent event : events) {
+            this.add(event);
+        }
+    }
+
+    /**
+     * Index this event, keeping only its file, check and line.
+     * @param event The event
+     */
+    void add(final AuditEvent event) {
+        this.groups.computeIfAbsent(event.getFileName(), name -> new HashMap<>(0))
+            .computeIfAbsent(event.getSourceName(), name -> new ArrayList<>(1))
+            .add(event.getLine());
+        this.lines = null;
+    }
+
+    /**
+     * Is there an event of this check in the file between these lines?
+     *
+     * <p>The check matches every source name it is a substring of, the
+     * way the suppression filters of {@code checks.xml} match it.</p>
+     *
+     * @param file Name of the file, as Checkstyle reports it
+     * @param check Name of the check, or a part of its source name
+     * @param range First and last lines, both inclusive
+     * @return TRUE if there is at least one such event
+     */
+    boolean any(final String file, final String check, final LineRange range) {
+        boolean found = false;
+        for (final Map.Entry<String, int[]> source
+            : this.sorted().getOrDefault(file, Collections.emptyMap()).entrySet()) {
+            if (source.getKey().contains(check)
+                && EventIndex.hits(source.getValue(), range)) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    private Map<String, Map<String, int[]>> sorted() {
+        if (this.lines == null) {
+            this.lines = new HashMap<>(this.groups.size());
+            for (final Map.Entry<String, Map<String, List<Integer>>> file
+                : this.groups.entrySet()) {
+                final Map<String, int[]> checks =
+                    new HashMap<>(file.getValue().size());
+                for (final Map.Entry<String, List<Integer>> check
+                    : file.getValue().entrySet()) {
+                    checks.put(
+                        check.getKey(),
+                        check.getValue().stream()
+                            .mapToInt(Integer::intValue)
+                            .sorted()
+                            .toArray()
+                    );
+                }
+                this.lines.put(file.getKey(), checks);
+            }
+        }
+        return this.lines;
+    }
+
+    private static boolean hits(final int[] sorted, final LineRange range) {
+        int pos = Arrays.binarySearch(sorted, range.first());
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        return pos < sorted.length && sorted[pos] <= range.last();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FullIdent;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Names a compilation unit brings into scope: its imports and its nested
+ * types.
+ *
+ * <p>A check that asks whether a name is imported used to climb to the
+ * root of the tree and look through all the top-level nodes of the file,
+ * once for every method it judged, which is quadratic in a JNA binding
+ * with thousands of methods. Here the top-level nodes are read once, in
+ * the {@code beginTree()} of the first check that needs them, and the
+ * answers are set lookups. The other checks of the same file get the same
+ * root node from Checkstyle and share the index; the last one is kept
+ * per thread, since a thread walks one file at a time.</p>
+ *
+ * @since 1.0
+ */
+final class ImportIndex {
+
+    /**
+     * The index of the file the current thread walks.
+     */
+    private static final ThreadLocal<ImportIndex> LAST = new ThreadLocal<>();
+
+    /**
+     * Root node the index is built from.
+     */
+    private final DetailAST root;
+
+    /**
+     * Names imported one by one, fully qualified.
+     */
+    private final Collection<String> explicit;
+
+    /**
+     * Packages imported with a wildcard, without the {@code .*}.
+     */
+    private final Collection<String> wildcards;
+
+    /**
+     * Simple names of the types nested into the first top-level type,
+     * at any depth.
+     */
+    private final Collection<String> nested;
+
+    /**
+     * Constructor.
+     * @param root Root of the tree of the file, may be NULL
+     */
+    ImportIndex(final DetailAST root) {
+        this.root = root;
+        this.explicit = new HashSet<>(0);
+        this.wildcards = new HashSet<>(0);
+        this.nested = new HashSet<>(0);
+        DetailAST top = root;
+        if (top != null && top.getType() == TokenTypes.COMPILATION_UNIT) {
+            top = top.getFirstChild();
+        }
+        for (DetailAST node = top;
+            node != null; node = node.getNextSibling()) {
+            this.read(node);
+        }
+        final DetailAST first = ImportIndex.first(top);
+        if (first != null) {
+            this.scan(first);
+        }
+    }
+
+    /**
+     * The index of this tree, built now or by another check of the same
+     * file.
+     * @param root Root of the tree of the file, may be NULL
+     * @return The index
+     */
+    static ImportIndex of(final DetailAST root) {
+        ImportIndex index = ImportIndex.LAST.get();
+        if (index == null || index.root != root) {
+            index = new ImportIndex(root);
+            ImportIndex.LAST.set(index);
+        }
+        return index;
+    }
+
+    /**
+     * Does the file import this type, by its name or with a wildcard?
+     * @param name Fully qualified name of the type
+     * @return TRUE if imported
+     */
+    boolean imports(final String name) {
+        final int dot = name.lastIndexOf('.');
+        return this.explicit.contains(name)
+            || dot > 0 && this.wildcards.contains(name.substring(0, dot));
+    }
+
+    /**
+     * Is there a type with this simple name nested into the first
+     * top-level type of the file?
+     * @param name Simple name
+     * @return TRUE if there is
+     */
+    boolean nests(final String name) {
+        return this.nested.contains(name);
+    }
+
+    private void read(final DetailAST node) {
+        if (node.getType() == TokenTypes.IMPORT) {
+            final String name = FullIdent.createFullIdentBelow(node).getText();
+            if (name.endsWith(".*")) {
+                this.wildcards.add(name.substring(0, name.length() - 2));
+            } else {
+                this.explicit.add(name);
+            }
+        }
+    }
+
+    private void scan(final DetailAST type) {
+        final DetailAST content = type.findFirstToken(TokenTypes.OBJBLOCK);
+        if (content != null) {
+            for (DetailAST child = content.getFirstChild();
+                child != null; child = child.getNextSibling()) {
+                if (ImportIndex.isType(child)) {
+                    this.nested.add(
+                        child.findFirstToken(TokenTypes.IDENT).getText()
+                    );
+                    this.scan(child);
+                }
+            }
+        }
+    }
+
+    private static DetailAST first(final DetailAST top) {
+        DetailAST found = null;
+        for (DetailAST node = top;
+            node != null && found == null; node = node.getNextSibling()) {
+            if (ImportIndex.isType(node)) {
+                found = node;
+            } else {
+                found = ImportIndex.first(node.getFirstChild());
+            }
+        }
+        return found;
+    }
+
+    private static boolean isType(final DetailAST node) {
+        return node.getType() == TokenTypes.CLASS_DEF
+            || node.getType() == TokenTypes.ENUM_DEF
+            || node.getType() == TokenTypes.INTERFACE_DEF;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
+import com.puppycrawl.tools.checkstyle.api.AbstractAutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.Context;
+import java.util.Arrays;
+
+/**
+ * A module of {@code checks.xml} that another module sets up for itself,
+ * the way Checkstyle would set it up.
+ *
+ * <p>The module is found by its name, short or fully qualified, with
+ * Checkstyle's own factory, gets the context its parent would give it,
+ * then its own properties.</p>
+ *
+ * @since 1.0
+ */
+final class InnerModule {
+
+    /**
+     * Configuration of the module.
+     */
+    private final Configuration config;
+
+    /**
+     * Constructor.
+     * @param config Configuration of the module
+     */
+    InnerModule(final Configuration config) {
+        this.config = config;
+    }
+
+    /**
+     * Instantiate and set up the module.
+     * @param type Type the module must be of
+     * @param context Context of the parent
+     * @param <T> Type of the module
+     * @return The module
+     * @throws CheckstyleException If the module can't be set up
+     */
+    <T extends AbstractAutomaticBean> T value(final Class<T> type,
+        final Context context) throws CheckstyleException {
+        final Object module = new PackageObjectFactory(
+            Checker.class.getPackage().getName(),
+            Thread.currentThread().getContextClassLoader()
+        ).createModule(this.config.getName());
+        if (!type.isInstance(module)) {
+            throw new CheckstyleException(
+                String.format(
+                    "%s is not a %s", this.config.getName(), type.getSimpleName()
+                )
+            );
+        }
+        final T bean = type.cast(module);
+        bean.contextualize(context);
+        bean.configure(this.config);
+        return bean;
+    }
+
+    /**
+     * Name of the module to report its numbers under: the simple name of
+     * its class, followed by its id, if it has one.
+     * @param module The module
+     * @return Name
+     * @throws CheckstyleException If the configuration can't be read
+     */
+    String name(final Object module) throws CheckstyleException {
+        final String name;
+        if (Arrays.asList(this.config.getPropertyNames()).contains("id")) {
+            name = String.format(
+                "%s[%s]", module.getClass().getSimpleName(),
+                this.config.getProperty("id")
+            );
+        } else {
+            name = module.getClass().getSimpleName();
+        }
+        return name;
+    }
+}
@@ -57,6 +57,11 @@ public final class JavadocCompactParagraphCheck extends AbstractCheck {
     private static final String MSG_CLOSE =
         "Closing paragraph tag </p> must be preceded by text on the same line";
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -90,14 +95,17 @@ public final class JavadocCompactParagraphCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
+        final String[] lines = this.index.lines();
         final int current = ast.getLineNo();
-        final int start =
-            JavadocCompactParagraphCheck.findCommentStart(lines, current) + 1;
-        final int end =
-            JavadocCompactParagraphCheck.findCommentEnd(lines, current) - 1;
+        final int start = this.index.opening(current - 1) + 1;
+        final int end = this.index.end(current - 1) - 1;
         if (JavadocCompactParagraphCheck.isNodeHavingJavadoc(ast, start)
             && start < lines.length && end >= start) {
             this.checkParagraphs(lines, start, end);
@@ -170,34 +178,4 @@ public final class JavadocCompactParagraphCheck extends AbstractCheck {
         }
         return start;
     }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return JavadocCompactParagraphCheck.findTrimmedTextUp(
-            lines, start, "/**"
-        );
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            final String trimmed = lines[pos].trim();
-            if ("*/".equals(trimmed) || "**/".equals(trimmed)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findTrimmedTextUp(final String[] lines,
-        final int start, final String text) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
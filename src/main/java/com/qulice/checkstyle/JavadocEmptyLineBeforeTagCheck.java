@@ -44,6 +44,11 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  */
 public final class JavadocEmptyLineBeforeTagCheck extends AbstractCheck {
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -77,40 +82,39 @@ public final class JavadocEmptyLineBeforeTagCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
         final int current = ast.getLineNo();
-        final int start =
-            JavadocEmptyLineBeforeTagCheck.findCommentStart(lines, current) + 1;
-        final int end =
-            JavadocEmptyLineBeforeTagCheck.findCommentEnd(lines, current) - 1;
+        final int start = this.index.opening(current - 1) + 1;
+        final int end = this.index.end(current - 1) - 1;
         if (JavadocEmptyLineBeforeTagCheck.isNodeHavingJavadoc(ast, start)
-            && start < lines.length && end >= start) {
-            final int tag =
-                JavadocEmptyLineBeforeTagCheck.findFirstTag(lines, start, end);
+            && start < this.index.lines().length && end >= start) {
+            final int tag = this.index.tag(start, end);
             if (tag > start) {
-                this.inspect(lines, start, tag);
+                this.inspect(start, tag);
             }
         }
     }
 
-    private void inspect(final String[] lines, final int start, final int tag) {
+    private void inspect(final int start, final int tag) {
         int body = tag - 1;
-        while (body >= start
-            && JavadocEmptyLineBeforeTagCheck.isJavadocLineEmpty(lines[body])) {
+        while (body >= start && this.index.blank(body)) {
             body -= 1;
         }
         if (body >= start) {
             boolean multi = false;
             for (int pos = start; pos <= body; pos += 1) {
-                if (JavadocEmptyLineBeforeTagCheck.isJavadocLineEmpty(lines[pos])) {
+                if (this.index.blank(pos)) {
                     multi = true;
                     break;
                 }
             }
-            final boolean empty =
-                JavadocEmptyLineBeforeTagCheck.isJavadocLineEmpty(lines[tag - 1]);
+            final boolean empty = this.index.blank(tag - 1);
             if (multi && !empty) {
                 this.log(
                     tag + 1,
@@ -125,10 +129,6 @@ public final class JavadocEmptyLineBeforeTagCheck extends AbstractCheck {
         }
     }
 
-    private static boolean isJavadocLineEmpty(final String line) {
-        return "*".equals(line.trim());
-    }
-
     private static boolean isNodeHavingJavadoc(final DetailAST node,
         final int start) {
         int previous = 0;
@@ -138,45 +138,4 @@ public final class JavadocEmptyLineBeforeTagCheck extends AbstractCheck {
         }
         return start > previous;
     }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return JavadocEmptyLineBeforeTagCheck.findTrimmedTextUp(lines, start, "/**");
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            final String trimmed = lines[pos].trim();
-            if ("*/".equals(trimmed) || "**/".equals(trimmed)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findFirstTag(final String[] lines, final int start,
-        final int end) {
-        int found = -1;
-        for (int pos = start; pos <= end; pos += 1) {
-            final String trimmed = lines[pos].trim();
-            if (trimmed.startsWith("* @") || trimmed.startsWith("*@")) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findTrimmedTextUp(final String[] lines,
-        final int start, final String text) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
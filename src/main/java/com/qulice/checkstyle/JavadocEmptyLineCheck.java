@@ -32,6 +32,11 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  */
 public final class JavadocEmptyLineCheck extends AbstractCheck {
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -65,37 +70,32 @@ public final class JavadocEmptyLineCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
         final int current = ast.getLineNo();
-        final int start =
-            JavadocEmptyLineCheck.findCommentStart(lines, current) + 1;
+        final int start = this.index.opening(current - 1) + 1;
         if (JavadocEmptyLineCheck.isNodeHavingJavadoc(ast, start)
-            && start < lines.length) {
-            if (JavadocEmptyLineCheck.isJavadocLineEmpty(lines[start])) {
+            && start < this.index.lines().length) {
+            if (this.index.blank(start)) {
                 this.log(start + 1, "Empty Javadoc line at the beginning");
             }
-            final int end =
-                JavadocEmptyLineCheck.findCommentEnd(lines, current) - 1;
-            if (end >= start
-                && JavadocEmptyLineCheck.isJavadocLineEmpty(lines[end])) {
+            final int end = this.index.end(current - 1) - 1;
+            if (end >= start && this.index.blank(end)) {
                 this.log(end + 1, "Empty Javadoc line at the end");
             }
             for (int pos = start + 1; pos <= end; pos += 1) {
-                if (JavadocEmptyLineCheck.isJavadocLineEmpty(lines[pos])
-                    && JavadocEmptyLineCheck.isJavadocLineEmpty(lines[pos - 1])
-                ) {
+                if (this.index.blank(pos) && this.index.blank(pos - 1)) {
                     this.log(pos + 1, "Two consecutive empty Javadoc lines");
                 }
             }
         }
     }
 
-    private static boolean isJavadocLineEmpty(final String line) {
-        return "*".equals(line.trim());
-    }
-
     private static boolean isNodeHavingJavadoc(final DetailAST node,
         final int start) {
         return start > getLineNoOfPreviousNode(node);
@@ -109,32 +109,4 @@ public final class JavadocEmptyLineCheck extends AbstractCheck {
         }
         return start;
     }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return JavadocEmptyLineCheck.findTrimmedTextUp(lines, start, "/**");
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            final String trimmed = lines[pos].trim();
-            if ("*/".equals(trimmed) || "**/".equals(trimmed)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findTrimmedTextUp(final String[] lines,
-        final int start, final String text) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
@@ -27,6 +27,11 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  */
 public final class JavadocFirstLineCheck extends AbstractCheck {
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -60,9 +65,14 @@ public final class JavadocFirstLineCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
+        final String[] lines = this.index.lines();
         final int start = JavadocFirstLineCheck.findOpeningLine(
             lines, ast.getLineNo() - 1
         );
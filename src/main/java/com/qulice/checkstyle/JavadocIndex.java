@@ -0,0 +1,216 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Javadoc markers of one file, found in a single pass over its lines.
+ *
+ * <p>The Javadoc checks of this package look for the opening
+ * {@code /**} above a declaration, the closing {@code *&#47;}, the
+ * at-clauses and the empty {@code *} lines between them. Before this
+ * class, each of them asked Checkstyle for a fresh copy of all the lines
+ * of the file on every declaration and trimmed them one by one, walking
+ * up from the declaration to the top of the file. Now the lines are
+ * copied and trimmed once per file, the lines of every kind of marker
+ * are kept in sorted arrays, and a walk up turns into a binary search:
+ * the line span of the block above a declaration, its at-clauses and its
+ * paragraph breaks are all a lookup away.</p>
+ *
+ * <p>Every check asks for the index in its {@code beginTree()}; the first
+ * one builds it and the rest of the checks of the same file, which get
+ * the same {@link FileContents} from Checkstyle, share it. The last
+ * index is kept per thread, since a thread walks one file at a time.</p>
+ *
+ * @since 1.0
+ */
+final class JavadocIndex {
+
+    /**
+     * The index of the file the current thread walks.
+     */
+    private static final ThreadLocal<JavadocIndex> LAST = new ThreadLocal<>();
+
+    /**
+     * Contents the index is built from.
+     */
+    private final FileContents source;
+
+    /**
+     * Lines of the file.
+     */
+    private final String[] text;
+
+    /**
+     * Lines of the file, trimmed.
+     */
+    private final String[] trimmed;
+
+    /**
+     * Lines that are exactly {@code /**}, trimmed.
+     */
+    private final int[] openings;
+
+    /**
+     * Lines that are exactly {@code /*}, trimmed.
+     */
+    private final int[] comments;
+
+    /**
+     * Lines that are exactly {@code *&#47;}, trimmed.
+     */
+    private final int[] closings;
+
+    /**
+     * Lines that are exactly {@code *&#47;} or {@code **&#47;}, trimmed.
+     */
+    private final int[] ends;
+
+    /**
+     * Lines that start an at-clause, {@code * @} or {@code *@}, trimmed.
+     */
+    private final int[] tags;
+
+    /**
+     * Empty Javadoc lines, {@code *} only, trimmed.
+     */
+    private final int[] blanks;
+
+    /**
+     * Constructor.
+     * @param source Contents of the file
+     */
+    JavadocIndex(final FileContents source) {
+        this.source = source;
+        this.text = source.getLines();
+        this.trimmed = new String[this.text.length];
+        for (int pos = 0; pos < this.text.length; pos += 1) {
+            this.trimmed[pos] = this.text[pos].trim();
+        }
+        this.openings = this.where("/**"::equals);
+        this.comments = this.where("/*"::equals);
+        this.closings = this.where("*/"::equals);
+        this.ends = this.where(line -> "*/".equals(line) || "**/".equals(line));
+        this.tags = this.where(line -> line.startsWith("* @") || line.startsWith("*@"));
+        this.blanks = this.where("*"::equals);
+    }
+
+    /**
+     * The index of these contents, built now or by another check of the
+     * same file.
+     * @param contents Contents of the file
+     * @return The index
+     */
+    static JavadocIndex of(final FileContents contents) {
+        JavadocIndex index = JavadocIndex.LAST.get();
+        if (index == null || index.source != contents) {
+            index = new JavadocIndex(contents);
+            JavadocIndex.LAST.set(index);
+        }
+        return index;
+    }
+
+    /**
+     * Lines of the file, shared by all the checks: not to be modified.
+     * @return Lines
+     */
+    String[] lines() {
+        return this.text;
+    }
+
+    /**
+     * The last {@code /**} line at or above this one.
+     * @param line Zero-based line to look up from
+     * @return Zero-based line, or -1 if there is none
+     */
+    int opening(final int line) {
+        return JavadocIndex.floor(this.openings, line);
+    }
+
+    /**
+     * The last {@code /*} line at or above this one.
+     * @param line Zero-based line to look up from
+     * @return Zero-based line, or -1 if there is none
+     */
+    int comment(final int line) {
+        return JavadocIndex.floor(this.comments, line);
+    }
+
+    /**
+     * The last {@code *&#47;} line at or above this one.
+     * @param line Zero-based line to look up from
+     * @return Zero-based line, or -1 if there is none
+     */
+    int closing(final int line) {
+        return JavadocIndex.floor(this.closings, line);
+    }
+
+    /**
+     * The last {@code *&#47;} or {@code **&#47;} line at or above this one.
+     * @param line Zero-based line to look up from
+     * @return Zero-based line, or -1 if there is none
+     */
+    int end(final int line) {
+        return JavadocIndex.floor(this.ends, line);
+    }
+
+    /**
+     * The first at-clause between these lines.
+     * @param from First zero-based line, inclusive
+     * @param until Last zero-based line, inclusive
+     * @return Zero-based line, or -1 if there is none
+     */
+    int tag(final int from, final int until) {
+        int found = Arrays.binarySearch(this.tags, from);
+        if (found < 0) {
+            found = -found - 1;
+        }
+        final int line;
+        if (found < this.tags.length && this.tags[found] <= until) {
+            line = this.tags[found];
+        } else {
+            line = -1;
+        }
+        return line;
+    }
+
+    /**
+     * Is this line an empty Javadoc line, that is a paragraph break?
+     * @param line Zero-based line
+     * @return TRUE if it holds nothing but {@code *}
+     */
+    boolean blank(final int line) {
+        return Arrays.binarySearch(this.blanks, line) >= 0;
+    }
+
+    private int[] where(final Predicate<String> kind) {
+        int count = 0;
+        final int[] found = new int[this.trimmed.length];
+        for (int pos = 0; pos < this.trimmed.length; pos += 1) {
+            if (kind.test(this.trimmed[pos])) {
+                found[count] = pos;
+                count += 1;
+            }
+        }
+        return Arrays.copyOf(found, count);
+    }
+
+    private static int floor(final int[] lines, final int line) {
+        int found = Arrays.binarySearch(lines, line);
+        if (found < 0) {
+            found = -found - 2;
+        }
+        final int result;
+        if (found >= 0) {
+            result = lines[found];
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+}
@@ -22,6 +22,11 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  */
 public final class JavadocLocationCheck extends AbstractCheck {
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -50,12 +55,17 @@ public final class JavadocLocationCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
         if (!JavadocLocationCheck.isField(ast)) {
             return;
         }
-        final String[] lines = this.getLines();
+        final String[] lines = this.index.lines();
         this.checkEmptyLines(ast, lines);
         this.checkAnnotationAboveJavadoc(ast, lines);
     }
@@ -38,6 +38,11 @@ public final class JavadocNoIndentCheck extends AbstractCheck {
     private static final String MESSAGE =
         "Extra indentation is not allowed in Javadoc";
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -71,18 +76,19 @@ public final class JavadocNoIndentCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
+        final String[] lines = this.index.lines();
         final int current = ast.getLineNo();
-        final int start =
-            JavadocNoIndentCheck.findCommentStart(lines, current) + 1;
+        final int start = this.index.opening(current - 1) + 1;
         if (JavadocNoIndentCheck.isNodeHavingJavadoc(ast, start)
             && start < lines.length) {
-            this.check(
-                lines, start,
-                JavadocNoIndentCheck.findCommentEnd(lines, current) - 1
-            );
+            this.check(lines, start, this.index.end(current - 1) - 1);
         }
     }
 
@@ -184,32 +190,4 @@ public final class JavadocNoIndentCheck extends AbstractCheck {
         }
         return start;
     }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return JavadocNoIndentCheck.findTrimmedTextUp(lines, start, "/**");
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            final String trimmed = lines[pos].trim();
-            if ("*/".equals(trimmed) || "**/".equals(trimmed)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findTrimmedTextUp(final String[] lines,
-        final int start, final String text) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
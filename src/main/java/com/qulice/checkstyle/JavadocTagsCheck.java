@@ -45,6 +45,11 @@ public final class JavadocTagsCheck extends AbstractCheck {
      */
     private final List<RequiredJavaDocTag> required;
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -84,12 +89,17 @@ public final class JavadocTagsCheck extends AbstractCheck {
         );
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
+        final String[] lines = this.index.lines();
         final int start = ast.getLineNo();
-        final int cstart = JavadocTagsCheck.findCommentStart(lines, start);
-        final int cend = JavadocTagsCheck.findCommentEnd(lines, start);
+        final int cstart = this.index.opening(start - 1);
+        final int cend = this.index.closing(start - 1);
         if (cend > cstart && cstart >= 0) {
             for (final String tag : JavadocTagsCheck.PROHIBITED) {
                 this.findProhibited(lines, start, cstart, cend, tag);
@@ -102,29 +112,6 @@ public final class JavadocTagsCheck extends AbstractCheck {
         }
     }
 
-    private static int findTrimmedTextUp(
-        final String[] lines,
-        final int start,
-        final String text
-    ) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return JavadocTagsCheck.findTrimmedTextUp(lines, start, "/**");
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        return JavadocTagsCheck.findTrimmedTextUp(lines, start, "*/");
-    }
-
     private void findProhibited(
         final String[] lines,
         final int start,
@@ -43,6 +43,11 @@ public final class JavadocTagsDotCheck extends AbstractCheck {
     private static final String MESSAGE =
         "No dot allowed at the end of a '@param' or '@return' Javadoc tag";
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -68,17 +73,17 @@ public final class JavadocTagsDotCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
-        final int cend = JavadocTagsDotCheck.findTrimmedTextUp(
-            lines, ast.getLineNo() - 1, "*/"
-        );
-        final int cstart = JavadocTagsDotCheck.findTrimmedTextUp(
-            lines, cend, "/**"
-        );
+        final int cend = this.index.closing(ast.getLineNo() - 2);
+        final int cstart = this.index.opening(cend - 1);
         if (cstart >= 0 && cend > cstart) {
-            this.inspect(lines, cstart, cend);
+            this.inspect(this.index.lines(), cstart, cend);
         }
     }
 
@@ -129,19 +134,4 @@ public final class JavadocTagsDotCheck extends AbstractCheck {
         }
         return result;
     }
-
-    private static int findTrimmedTextUp(
-        final String[] lines,
-        final int start,
-        final String text
-    ) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
@@ -42,12 +42,19 @@ final class JnaBinding {
      */
     private final DetailAST node;
 
+    /**
+     * Imports of the file.
+     */
+    private final ImportIndex imports;
+
     /**
      * Ctor.
      * @param method The METHOD_DEF node
+     * @param imports Imports of the file
      */
-    JnaBinding(final DetailAST method) {
+    JnaBinding(final DetailAST method, final ImportIndex imports) {
         this.node = method;
+        this.imports = imports;
     }
 
     /**
@@ -60,7 +67,7 @@ final class JnaBinding {
         while (type != null) {
             if (type.getType() == TokenTypes.CLASS_DEF
                 || type.getType() == TokenTypes.INTERFACE_DEF) {
-                answer = JnaBinding.mapped(type);
+                answer = this.mapped(type);
                 break;
             }
             type = type.getParent();
@@ -68,59 +75,33 @@ final class JnaBinding {
         return answer;
     }
 
-    private static boolean mapped(final DetailAST type) {
-        return JnaBinding.declares(type, TokenTypes.EXTENDS_CLAUSE)
-            || JnaBinding.declares(type, TokenTypes.IMPLEMENTS_CLAUSE);
+    private boolean mapped(final DetailAST type) {
+        return this.declares(type, TokenTypes.EXTENDS_CLAUSE)
+            || this.declares(type, TokenTypes.IMPLEMENTS_CLAUSE);
     }
 
-    private static boolean declares(final DetailAST type, final int clause) {
+    private boolean declares(final DetailAST type, final int clause) {
         final DetailAST names = type.findFirstToken(clause);
-        final boolean answer;
-        if (names == null) {
-            answer = false;
-        } else {
-            answer = new ChildStream(names).children()
-                .anyMatch(JnaBinding::library);
+        boolean answer = false;
+        if (names != null) {
+            for (DetailAST name = names.getFirstChild();
+                name != null && !answer; name = name.getNextSibling()) {
+                answer = this.library(name);
+            }
         }
         return answer;
     }
 
-    private static boolean library(final DetailAST name) {
+    private boolean library(final DetailAST name) {
         final String text = FullIdent.createFullIdent(name).getText();
         return JnaBinding.LIBRARIES.stream().anyMatch(
             known -> known.equals(text)
                 || JnaBinding.simple(known).equals(text)
-                && JnaBinding.imported(name, known)
+                && this.imports.imports(known)
         );
     }
 
-    private static boolean imported(final DetailAST node, final String known) {
-        DetailAST root = node;
-        while (root.getParent() != null) {
-            root = root.getParent();
-        }
-        return new ChildStream(root).children().anyMatch(
-            child -> JnaBinding.importing(child, known)
-        );
-    }
-
-    private static boolean importing(final DetailAST node, final String known) {
-        return node.getType() == TokenTypes.IMPORT
-            && JnaBinding.brings(
-                FullIdent.createFullIdentBelow(node).getText(), known
-            );
-    }
-
-    private static boolean brings(final String text, final String known) {
-        return known.equals(text)
-            || String.format("%s.*", JnaBinding.pack(known)).equals(text);
-    }
-
     private static String simple(final String known) {
         return known.substring(known.lastIndexOf('.') + 1);
     }
-
-    private static String pack(final String known) {
-        return known.substring(0, known.lastIndexOf('.'));
-    }
 }
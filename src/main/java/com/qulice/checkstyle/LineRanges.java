@@ -4,15 +4,31 @@
  */
 package com.qulice.checkstyle;
 
-import com.google.common.collect.FluentIterable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents a set of LineRange objects. For example, an instance of this class
  * could represent all the line ranges for methods in a given Java source code
  * file.
+ *
+ * <p>The ranges are kept in the order they were added, and also, once
+ * asked about, sorted by their first lines together with the farthest last
+ * line reached by any range up to every position. A line is then in range
+ * when the farthest last line among the ranges that start at or before it
+ * is at or after it, which is one binary search instead of a look at every
+ * range. The ranges of a source nest into one another or don't meet at
+ * all, so every sorted range also knows the range it is nested into, and
+ * the innermost range a line is in is found by climbing from the last
+ * range that starts at or before it, as many steps as the ranges are
+ * deep. The sorted copy is dropped when a range is added.
+ *
  * @since 0.16
  */
 public final class LineRanges {
@@ -20,7 +36,23 @@ public final class LineRanges {
     /**
      * Line ranges collected so far.
      */
-    private final Collection<LineRange> lines;
+    private final List<LineRange> lines;
+
+    /**
+     * Line ranges sorted by their first lines, NULL if not sorted yet.
+     */
+    private LineRange[] sorted;
+
+    /**
+     * Farthest last line of the sorted ranges, up to every position.
+     */
+    private int[] reach;
+
+    /**
+     * Position of the sorted range every sorted range is nested into,
+     * negative for the outermost ones.
+     */
+    private int[] parent;
 
     /**
      * Default constructor.
@@ -35,6 +67,7 @@ public final class LineRanges {
      */
     public void add(final LineRange line) {
         this.lines.add(line);
+        this.sorted = null;
     }
 
     /**
@@ -51,26 +84,53 @@ public final class LineRanges {
      * @return True if the given line number is within any line range
      */
     public boolean inRange(final int line) {
-        return !this.lines.isEmpty()
-            && FluentIterable.from(this.lines)
-            .anyMatch(new LineWithAny(line));
+        final int found = this.before(line);
+        return found >= 0 && this.reach[found] >= line;
     }
 
     /**
-     * Gets the subset of LineRanges that are within all given ranges. Does
-     * not return null; instead, returns empty range if there are no matches.
+     * Finds the innermost line range the given line number is within.
+     * @param line The given line number to check
+     * @return The shortest line range the line is within, if any
+     */
+    public Optional<LineRange> innermost(final int line) {
+        final LineRange[] ranges = this.ordered();
+        int found = this.before(line);
+        if (found >= 0 && this.reach[found] < line) {
+            found = -1;
+        }
+        while (found >= 0 && ranges[found].last() < line) {
+            found = this.parent[found];
+        }
+        final Optional<LineRange> range;
+        if (found < 0) {
+            range = Optional.empty();
+        } else {
+            range = Optional.of(ranges[found]);
+        }
+        return range;
+    }
+
+    /**
+     * Gets the subset of LineRanges that are within any of given ranges.
+     * Does not return null; instead, returns empty range if there are no
+     * matches. Both sets are swept once, in the order of their first lines,
+     * and so are the ranges returned.
      * @param ranges The ranges to filter on
      * @return Returns all LineRange elements that are within range
      */
     public LineRanges within(final LineRanges ranges) {
         final LineRanges result = new com.qulice.checkstyle.LineRanges();
-        final Iterator<LineRange> iterator = ranges.iterator();
-        while (iterator.hasNext()) {
-            final LineRange next = iterator.next();
-            for (final LineRange line : this.lines) {
-                if (next.within(line)) {
-                    result.add(line);
-                }
+        final LineRange[] outer = ranges.ordered();
+        int next = 0;
+        int last = Integer.MIN_VALUE;
+        for (final LineRange line : this.ordered()) {
+            while (next < outer.length && outer[next].first() <= line.first()) {
+                last = Math.max(last, outer[next].last());
+                next += 1;
+            }
+            if (last >= line.last()) {
+                result.add(line);
             }
         }
         return result;
@@ -81,5 +141,53 @@ public final class LineRanges {
      */
     public void clear() {
         this.lines.clear();
+        this.sorted = null;
+    }
+
+    private int before(final int line) {
+        final LineRange[] ranges = this.ordered();
+        int low = 0;
+        int high = ranges.length - 1;
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (ranges[mid].first() <= line) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private LineRange[] ordered() {
+        if (this.sorted == null) {
+            final LineRange[] ranges = this.lines.toArray(new LineRange[0]);
+            Arrays.sort(
+                ranges,
+                Comparator.comparingInt(LineRange::first)
+                    .thenComparing(LineRange::last, Comparator.reverseOrder())
+            );
+            this.reach = new int[ranges.length];
+            this.parent = new int[ranges.length];
+            final Deque<Integer> open = new ArrayDeque<>(0);
+            int last = Integer.MIN_VALUE;
+            for (int idx = 0; idx < ranges.length; idx += 1) {
+                last = Math.max(last, ranges[idx].last());
+                this.reach[idx] = last;
+                while (!open.isEmpty()
+                    && ranges[open.peek()].last() < ranges[idx].first()) {
+                    open.pop();
+                }
+                this.parent[idx] = -1;
+                if (!open.isEmpty()) {
+                    this.parent[idx] = open.peek();
+                }
+                open.push(idx);
+            }
+            this.sorted = ranges;
+        }
+        return this.sorted;
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Search for many plain strings at once, in one pass over a text.
+ *
+ * <p>This is the Aho-Corasick automaton: a trie of all the strings, where
+ * every node also knows the longest proper suffix of its path that is a
+ * path from the root too, so a mismatch never moves the search back in
+ * the text. The time of a search depends on the length of the text and
+ * the number of strings found, not on how many strings there are.</p>
+ *
+ * @since 1.0
+ */
+final class LiteralSearch {
+
+    /**
+     * Transitions of every node, by character.
+     */
+    private final List<Map<Character, Integer>> edges;
+
+    /**
+     * Suffix link of every node.
+     */
+    private final List<Integer> links;
+
+    /**
+     * Strings that end at every node, suffixes included, by their index.
+     */
+    private final List<BitSet> ends;
+
+    /**
+     * Number of strings.
+     */
+    private final int total;
+
+    /**
+     * Constructor.
+     * @param strings Strings to search for, none of them empty
+     */
+    LiteralSearch(final List<String> strings) {
+        this.edges = new ArrayList<>(0);
+        this.links = new ArrayList<>(0);
+        this.ends = new ArrayList<>(0);
+        this.total = strings.size();
+        this.node();
+        for (int idx = 0; idx < strings.size(); idx += 1) {
+            int node = 0;
+            for (final char chr : strings.get(idx).toCharArray()) {
+                Integer next = this.edges.get(node).get(chr);
+                if (next == null) {
+                    next = this.node();
+                    this.edges.get(node).put(chr, next);
+                }
+                node = next;
+            }
+            this.ends.get(node).set(idx);
+        }
+        this.link();
+    }
+
+    /**
+     * Which of the strings does this text contain?
+     * @param text The text
+     * @return Indexes of the strings found
+     */
+    BitSet found(final CharSequence text) {
+        final BitSet found = new BitSet(this.total);
+        int node = 0;
+        for (int pos = 0; pos < text.length(); pos += 1) {
+            final char chr = text.charAt(pos);
+            Integer next = this.edges.get(node).get(chr);
+            while (next == null && node != 0) {
+                node = this.links.get(node);
+                next = this.edges.get(node).get(chr);
+            }
+            if (next == null) {
+                node = 0;
+            } else {
+                node = next;
+            }
+            final BitSet here = this.ends.get(node);
+            if (!here.isEmpty()) {
+                found.or(here);
+                if (found.cardinality() == this.total) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int node() {
+        this.edges.add(new HashMap<>(4));
+        this.links.add(0);
+        this.ends.add(new BitSet(0));
+        return this.edges.size() - 1;
+    }
+
+    private void link() {
+        final Queue<Integer> queue = new ArrayDeque<>(this.edges.get(0).values());
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (final Map.Entry<Character, Integer> edge
+                : this.edges.get(node).entrySet()) {
+                final int child = edge.getValue();
+                int link = this.links.get(node);
+                Integer target = this.edges.get(link).get(edge.getKey());
+                while (target == null && link != 0) {
+                    link = this.links.get(link);
+                    target = this.edges.get(link).get(edge.getKey());
+                }
+                if (target == null || target == child) {
+                    this.links.set(child, 0);
+                } else {
+                    this.links.set(child, target);
+                }
+                this.ends.get(child).or(this.ends.get(this.links.get(child)));
+                queue.add(child);
+            }
+        }
+    }
+}
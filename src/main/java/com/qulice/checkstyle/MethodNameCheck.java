@@ -23,6 +23,11 @@ import com.puppycrawl.tools.checkstyle.api.DetailAST;
 public final class MethodNameCheck
     extends com.puppycrawl.tools.checkstyle.checks.naming.MethodNameCheck {
 
+    /**
+     * Imports of the file being checked.
+     */
+    private ImportIndex imports;
+
     /**
      * Default constructor.
      */
@@ -30,9 +35,15 @@ public final class MethodNameCheck
         // nothing to initialize
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        super.beginTree(root);
+        this.imports = ImportIndex.of(root);
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        if (!new JnaBinding(ast).is()) {
+        if (!new JnaBinding(ast, this.imports).is()) {
             super.visitToken(ast);
         }
     }
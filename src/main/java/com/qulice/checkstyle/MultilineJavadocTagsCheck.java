@@ -36,6 +36,11 @@ import org.cactoos.text.Sub;
  */
 public final class MultilineJavadocTagsCheck extends AbstractCheck {
 
+    /**
+     * Javadoc markers of the file being checked.
+     */
+    private JavadocIndex index;
+
     /**
      * Default constructor.
      */
@@ -62,16 +67,20 @@ public final class MultilineJavadocTagsCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.index = JavadocIndex.of(this.getFileContents());
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        final String[] lines = this.getLines();
         final int start = ast.getLineNo();
-        final int cstart =
-            MultilineJavadocTagsCheck.findCommentStart(lines, start) + 1;
-        final int cend =
-            MultilineJavadocTagsCheck.findCommentEnd(lines, start) - 1;
+        final int cstart = Math.max(
+            this.index.opening(start - 1), this.index.comment(start - 1)
+        ) + 1;
+        final int cend = this.index.closing(start - 1) - 1;
         if (cend >= cstart && cstart >= 0) {
-            this.checkJavaDoc(lines, cstart, cend);
+            this.checkJavaDoc(this.index.lines(), cstart, cend);
         } else {
             this.log(0, "Can't find method comment");
         }
@@ -81,19 +90,19 @@ public final class MultilineJavadocTagsCheck extends AbstractCheck {
     private void checkJavaDoc(final String[] lines, final int start,
         final int end) {
         boolean tagged = false;
-        int index = -1;
+        int offset = -1;
         for (int current = start; current <= end; current += 1) {
             final String line = lines[current];
             if (line.contains("* @")) {
                 tagged = true;
-                index = line.indexOf('@');
+                offset = line.indexOf('@');
             } else if (tagged) {
                 final int comment = line.indexOf('*');
                 final String sub = new Sub(
-                    line, comment + 1, index + 1
+                    line, comment + 1, offset + 1
                 ).toString();
                 final String ext = new Sub(
-                    line, comment + 1, index + 2
+                    line, comment + 1, offset + 2
                 ).toString();
                 if (!sub.trim().isEmpty() || ext.trim().isEmpty()) {
                     this.log(
@@ -104,27 +113,4 @@ public final class MultilineJavadocTagsCheck extends AbstractCheck {
             }
         }
     }
-
-    private static int findCommentStart(final String[] lines, final int start) {
-        return Math.max(
-            MultilineJavadocTagsCheck.findTrimmedTextUp(lines, start, "/**"),
-            MultilineJavadocTagsCheck.findTrimmedTextUp(lines, start, "/*")
-        );
-    }
-
-    private static int findCommentEnd(final String[] lines, final int start) {
-        return MultilineJavadocTagsCheck.findTrimmedTextUp(lines, start, "*/");
-    }
-
-    private static int findTrimmedTextUp(final String[] lines,
-        final int start, final String text) {
-        int found = -1;
-        for (int pos = start - 1; pos >= 0; pos -= 1) {
-            if (lines[pos].trim().equals(text)) {
-                found = pos;
-                break;
-            }
-        }
-        return found;
-    }
 }
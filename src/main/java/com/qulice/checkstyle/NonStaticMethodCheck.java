@@ -41,6 +41,11 @@ public final class NonStaticMethodCheck extends AbstractCheck {
      */
     private Pattern exclude;
 
+    /**
+     * Token types below every node of the file being checked.
+     */
+    private BranchContains branches;
+
     /**
      * Default constructor.
      */
@@ -73,6 +78,11 @@ public final class NonStaticMethodCheck extends AbstractCheck {
         return this.getDefaultTokens();
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.branches = new BranchContains(root);
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public void visitToken(final DetailAST ast) {
@@ -91,17 +101,16 @@ public final class NonStaticMethodCheck extends AbstractCheck {
         if (modifiers.findFirstToken(TokenTypes.LITERAL_STATIC) != null) {
             return;
         }
-        final BranchContains checker = new BranchContains(method);
         final boolean onlythrow =
-            checker.check(TokenTypes.LITERAL_THROW)
-                && !checker.check(TokenTypes.LCURLY)
+            this.branches.check(method, TokenTypes.LITERAL_THROW)
+                && !this.branches.check(method, TokenTypes.LCURLY)
                 && this.countSemiColons(method) == 1;
         final boolean skip = AnnotationUtil.containsAnnotation(method, "Override")
-            || isInAbstractOrNativeMethod(method)
+            || this.isInAbstractOrNativeMethod(method)
             || onlythrow;
         if (!skip
-            && !checker.check(TokenTypes.LITERAL_THIS)
-            && !checker.check(TokenTypes.LITERAL_SUPER)) {
+            && !this.branches.check(method, TokenTypes.LITERAL_THIS)
+            && !this.branches.check(method, TokenTypes.LITERAL_SUPER)) {
             this.log(
                 method.getLineNo(),
                 "This method must be static, because it does not refer to \"this\""
@@ -109,12 +118,10 @@ public final class NonStaticMethodCheck extends AbstractCheck {
         }
     }
 
-    private static boolean isInAbstractOrNativeMethod(final DetailAST method) {
-        final BranchContains checker = new BranchContains(
-            method.findFirstToken(TokenTypes.MODIFIERS)
-        );
-        return checker.check(TokenTypes.ABSTRACT)
-            || checker.check(TokenTypes.LITERAL_NATIVE);
+    private boolean isInAbstractOrNativeMethod(final DetailAST method) {
+        final DetailAST modifiers = method.findFirstToken(TokenTypes.MODIFIERS);
+        return this.branches.check(modifiers, TokenTypes.ABSTRACT)
+            || this.branches.check(modifiers, TokenTypes.LITERAL_NATIVE);
     }
 
     @SuppressWarnings("deprecation")
@@ -32,6 +32,11 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 public final class ParameterNumberCheck
     extends com.puppycrawl.tools.checkstyle.checks.sizes.ParameterNumberCheck {
 
+    /**
+     * Imports of the file being checked.
+     */
+    private ImportIndex imports;
+
     /**
      * Default constructor.
      */
@@ -39,14 +44,20 @@ public final class ParameterNumberCheck
         // nothing to initialize
     }
 
+    @Override
+    public void beginTree(final DetailAST root) {
+        super.beginTree(root);
+        this.imports = ImportIndex.of(root);
+    }
+
     @Override
     public void visitToken(final DetailAST ast) {
-        if (!ParameterNumberCheck.tolerated(ast)) {
+        if (!this.tolerated(ast)) {
             super.visitToken(ast);
         }
     }
 
-    private static boolean tolerated(final DetailAST ast) {
+    private boolean tolerated(final DetailAST ast) {
         final boolean answer;
         if (ast.getType() == TokenTypes.CTOR_DEF) {
             answer = ParameterNumberCheck.parameters(ast)
@@ -54,7 +65,7 @@ public final class ParameterNumberCheck
         } else {
             answer = ast.findFirstToken(TokenTypes.MODIFIERS)
                 .findFirstToken(TokenTypes.LITERAL_PRIVATE) != null
-                || new JnaBinding(ast).is();
+                || new JnaBinding(ast, this.imports).is();
         }
         return answer;
     }
@@ -66,12 +77,16 @@ public final class ParameterNumberCheck
 
     private static long attributes(final DetailAST ctor) {
         final DetailAST block = ctor.getParent();
-        return ParameterNumberCheck.components(block.getParent())
-            + new ChildStream(block).children().filter(
-                node -> node.getType() == TokenTypes.VARIABLE_DEF
-                    && node.findFirstToken(TokenTypes.MODIFIERS)
-                        .findFirstToken(TokenTypes.LITERAL_STATIC) == null
-            ).count();
+        long count = ParameterNumberCheck.components(block.getParent());
+        for (DetailAST node = block.getFirstChild();
+            node != null; node = node.getNextSibling()) {
+            if (node.getType() == TokenTypes.VARIABLE_DEF
+                && node.findFirstToken(TokenTypes.MODIFIERS)
+                    .findFirstToken(TokenTypes.LITERAL_STATIC) == null) {
+                count += 1;
+            }
+        }
+        return count;
     }
 
     private static int components(final DetailAST type) {
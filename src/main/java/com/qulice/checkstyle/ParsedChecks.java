@@ -0,0 +1,241 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.xml.sax.InputSource;
+
+/**
+ * The {@code checks.xml} configuration, parsed once per JVM.
+ *
+ * <p>Every flavor of the configuration, that is {@code checks.xml} with
+ * a given set of modules dropped, is parsed the first time it is asked
+ * for and kept for the rest of the JVM's life, so the modules of a
+ * reactor build, or the repeated runs of a Maven daemon, pay for the XML
+ * parsing only once. The {@code cacheFile} property is left out of the
+ * parsed configuration, because its value differs from project to
+ * project; {@link Checkers} gives every run its own cache file instead.
+ * Nobody changes a configuration once it is parsed, which is what makes
+ * sharing it between threads safe.</p>
+ *
+ * <p>The timed flavor has every check nested into a {@link TimedCheck}
+ * or a {@link TimedFileSetCheck}, which is the only way to get between
+ * Checkstyle and a check it instantiates on its own. Filters and
+ * holders are left as they are.</p>
+ *
+ * @since 1.0
+ */
+final class ParsedChecks {
+
+    /**
+     * Configurations parsed so far, by their {@link #key()}.
+     */
+    private static final Map<String, Configuration> PARSED =
+        new ConcurrentHashMap<>(4);
+
+    /**
+     * Hashes of the configurations parsed so far, by their {@link #key()}.
+     */
+    private static final Map<String, String> HASHES =
+        new ConcurrentHashMap<>(4);
+
+    /**
+     * Simple names of the modules to drop.
+     */
+    private final Set<String> dropped;
+
+    /**
+     * Nest every check into a timing module?
+     */
+    private final boolean timed;
+
+    /**
+     * Constructor.
+     * @param dropped Simple names of the modules to drop
+     */
+    ParsedChecks(final Set<String> dropped) {
+        this(dropped, false);
+    }
+
+    /**
+     * Constructor.
+     * @param dropped Simple names of the modules to drop
+     * @param timed Nest every check into a timing module
+     */
+    ParsedChecks(final Set<String> dropped, final boolean timed) {
+        this.dropped = dropped;
+        this.timed = timed;
+    }
+
+    /**
+     * Key of this flavor of the configuration.
+     * @return The names of the dropped modules, sorted, and a mark of
+     *  the timed flavor
+     */
+    String key() {
+        String key = String.join(",", new TreeSet<>(this.dropped));
+        if (this.timed) {
+            key = String.format("%s;timed", key);
+        }
+        return key;
+    }
+
+    /**
+     * The configuration, parsed now or taken from the earlier parsing.
+     * @return Configuration, not to be modified
+     */
+    Configuration value() {
+        return ParsedChecks.PARSED.computeIfAbsent(
+            this.key(), key -> this.parse()
+        );
+    }
+
+    /**
+     * Hash of the configuration, its modules, their properties and
+     * messages, and the version of Qulice, whose checks may change
+     * while the configuration stays the same.
+     * @return Hex string, the same in every JVM for the same flavor
+     */
+    String hash() {
+        return ParsedChecks.HASHES.computeIfAbsent(
+            this.key(), key -> ParsedChecks.hex(this.value())
+        );
+    }
+
+    private static String hex(final Configuration config) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+            ParsedChecks.update(
+                digest,
+                String.valueOf(
+                    ParsedChecks.class.getPackage().getImplementationVersion()
+                )
+            );
+            ParsedChecks.digest(config, digest);
+        } catch (final NoSuchAlgorithmException | CheckstyleException ex) {
+            throw new IllegalStateException("Failed to hash config", ex);
+        }
+        final StringBuilder hex = new StringBuilder(0);
+        for (final byte bte : Arrays.copyOf(digest.digest(), 8)) {
+            hex.append(String.format("%02x", bte));
+        }
+        return hex.toString();
+    }
+
+    private static void digest(final Configuration config,
+        final MessageDigest digest) throws CheckstyleException {
+        ParsedChecks.update(digest, config.getName());
+        final String[] names = config.getPropertyNames();
+        Arrays.sort(names);
+        for (final String name : names) {
+            ParsedChecks.update(digest, name);
+            ParsedChecks.update(digest, config.getProperty(name));
+        }
+        for (final Map.Entry<String, String> message
+            : new TreeMap<>(config.getMessages()).entrySet()) {
+            ParsedChecks.update(digest, message.getKey());
+            ParsedChecks.update(digest, message.getValue());
+        }
+        for (final Configuration child : config.getChildren()) {
+            ParsedChecks.digest(child, digest);
+        }
+        ParsedChecks.update(digest, "");
+    }
+
+    private static void update(final MessageDigest digest, final String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private Configuration parse() {
+        final Properties props = new Properties();
+        props.setProperty("cache.file", "");
+        DefaultConfiguration root;
+        try (InputStream stream = ParsedChecks.class.getResourceAsStream("checks.xml")) {
+            if (stream == null) {
+                throw new IllegalStateException(
+                    "Checkstyle configuration file 'checks.xml' not found in classpath."
+                );
+            }
+            final Configuration loaded = ConfigurationLoader.loadConfiguration(
+                new InputSource(stream),
+                new PropertiesExpander(props),
+                ConfigurationLoader.IgnoredModulesOptions.OMIT
+            );
+            root = new DefaultConfiguration(loaded.getName());
+            for (final String name : loaded.getPropertyNames()) {
+                if (!"cacheFile".equals(name)) {
+                    root.addProperty(name, loaded.getProperty(name));
+                }
+            }
+            for (final Configuration child : loaded.getChildren()) {
+                root.addChild(child);
+            }
+            ParsedChecks.strip(root, this.dropped);
+            if (this.timed) {
+                root = ParsedChecks.timed(root, TimedFileSetCheck.class);
+            }
+        } catch (final CheckstyleException | IOException ex) {
+            throw new IllegalStateException("Failed to load config", ex);
+        }
+        return root;
+    }
+
+    private static DefaultConfiguration timed(final Configuration config,
+        final Class<?> wrapper) throws CheckstyleException {
+        final DefaultConfiguration copy = new DefaultConfiguration(config.getName());
+        for (final String name : config.getPropertyNames()) {
+            copy.addProperty(name, config.getProperty(name));
+        }
+        for (final Map.Entry<String, String> message
+            : config.getMessages().entrySet()) {
+            copy.addMessage(message.getKey(), message.getValue());
+        }
+        for (final Configuration child : config.getChildren()) {
+            final String name = child.getName();
+            if ("TreeWalker".equals(name)) {
+                copy.addChild(ParsedChecks.timed(child, TimedCheck.class));
+            } else if (name.endsWith("Filter") || name.endsWith("Holder")) {
+                copy.addChild(child);
+            } else {
+                final DefaultConfiguration timer =
+                    new DefaultConfiguration(wrapper.getName());
+                timer.addChild(child);
+                copy.addChild(timer);
+            }
+        }
+        return copy;
+    }
+
+    private static void strip(final Configuration config,
+        final Set<String> names) {
+        for (final Configuration child : config.getChildren()) {
+            final String name = child.getName();
+            final String simple = name.substring(name.lastIndexOf('.') + 1);
+            if (names.contains(simple)) {
+                ((DefaultConfiguration) config).removeChild(child);
+            } else {
+                ParsedChecks.strip(child, names);
+            }
+        }
+    }
+}
@@ -7,8 +7,6 @@ package com.qulice.checkstyle;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Checks if inner classes are properly accessed using their qualified name
@@ -18,28 +16,20 @@ import java.util.Set;
 public final class QualifyInnerClassCheck extends AbstractCheck {
 
     /**
-     * Set of all nested classes.
+     * Imports and nested types of the file being checked.
      */
-    private final Set<String> nested;
-
-    /**
-     * Whether we already visited root class of the .java file.
-     */
-    private boolean root;
+    private ImportIndex imports;
 
     /**
      * Default constructor.
      */
     public QualifyInnerClassCheck() {
-        this.nested = new HashSet<>();
+        // nothing to initialize
     }
 
     @Override
     public int[] getDefaultTokens() {
         return new int[]{
-            TokenTypes.CLASS_DEF,
-            TokenTypes.ENUM_DEF,
-            TokenTypes.INTERFACE_DEF,
             TokenTypes.LITERAL_NEW,
         };
     }
@@ -56,67 +46,16 @@ public final class QualifyInnerClassCheck extends AbstractCheck {
 
     @Override
     public void beginTree(final DetailAST ast) {
-        this.nested.clear();
-        this.root = false;
+        this.imports = ImportIndex.of(ast);
     }
 
     @Override
     public void visitToken(final DetailAST ast) {
-        if (ast.getType() == TokenTypes.CLASS_DEF
-            || ast.getType() == TokenTypes.ENUM_DEF
-            || ast.getType() == TokenTypes.INTERFACE_DEF) {
-            this.scanForNestedClassesIfNecessary(ast);
-        }
-        if (ast.getType() == TokenTypes.LITERAL_NEW) {
-            this.visitNewExpression(ast);
-        }
-    }
-
-    private void visitNewExpression(final DetailAST expr) {
-        final DetailAST child = expr.getFirstChild();
+        final DetailAST child = ast.getFirstChild();
         if (child != null
             && child.getType() == TokenTypes.IDENT
-            && this.nested.contains(child.getText())) {
+            && this.imports.nests(child.getText())) {
             this.log(child, "Static inner class should be qualified with outer class");
         }
     }
-
-    private void scanForNestedClassesIfNecessary(final DetailAST node) {
-        if (!this.root) {
-            this.root = true;
-            this.scanClass(node);
-        }
-    }
-
-    private void scanClass(final DetailAST node) {
-        final DetailAST content = node.findFirstToken(TokenTypes.OBJBLOCK);
-        if (content == null) {
-            return;
-        }
-        for (
-            DetailAST child = content.getFirstChild();
-            child != null;
-            child = child.getNextSibling()
-        ) {
-            if (child.getType() == TokenTypes.CLASS_DEF
-                || child.getType() == TokenTypes.ENUM_DEF
-                || child.getType() == TokenTypes.INTERFACE_DEF) {
-                this.nested.add(getClassName(child));
-                this.scanClass(child);
-            }
-        }
-    }
-
-    private static String getClassName(final DetailAST clazz) {
-        for (
-            DetailAST child = clazz.getFirstChild();
-            child != null;
-            child = child.getNextSibling()
-        ) {
-            if (child.getType() == TokenTypes.IDENT) {
-                return child.getText();
-            }
-        }
-        throw new IllegalStateException("Unable to find class name");
-    }
 }
@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Plain strings that every match of a regular expression contains.
+ *
+ * <p>The expression is read left to right, and every run of literal
+ * characters found outside of groups, character classes and alternations
+ * becomes one string, for example {@code synchronized } and
+ * {@code (this) } in {@code synchronized +\(this\) +\{}. A character
+ * followed by a quantifier that allows zero repetitions is dropped, one
+ * followed by {@code +} ends the run it closes. A text that lacks any of
+ * the strings cannot match the expression, which lets a search skip the
+ * expression altogether. When the expression holds anything this class
+ * is not sure about, such as a top-level alternation, an inline flag or
+ * a quoted sequence, there are no strings at all, and the expression
+ * has to be tried on every text.</p>
+ *
+ * @since 1.0
+ */
+final class RequiredLiterals {
+
+    /**
+     * The regular expression.
+     */
+    private final String regex;
+
+    /**
+     * Constructor.
+     * @param regex The regular expression
+     */
+    RequiredLiterals(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * The strings every match contains.
+     * @return Strings, empty if nothing is certain
+     * @checkstyle CyclomaticComplexity (100 lines)
+     * @checkstyle ExecutableStatementCount (100 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    Collection<String> value() {
+        final Collection<String> found = new ArrayList<>(0);
+        final StringBuilder run = new StringBuilder(0);
+        boolean sure = true;
+        int pos = 0;
+        while (sure && pos < this.regex.length()) {
+            final char chr = this.regex.charAt(pos);
+            if (chr == '\\' && pos + 1 < this.regex.length()) {
+                final char next = this.regex.charAt(pos + 1);
+                final char plain = RequiredLiterals.escaped(next);
+                if (plain == 0) {
+                    sure = "QEpPkxuNc0".indexOf(next) < 0;
+                    RequiredLiterals.flush(run, found);
+                } else {
+                    run.append(plain);
+                }
+                pos += 2;
+            } else if (chr == '(') {
+                sure = this.regex.startsWith("(?:", pos)
+                    || this.regex.startsWith("(?=", pos)
+                    || this.regex.startsWith("(?!", pos)
+                    || this.regex.startsWith("(?<=", pos)
+                    || this.regex.startsWith("(?<!", pos)
+                    || this.regex.charAt(pos + 1) != '?';
+                RequiredLiterals.flush(run, found);
+                pos = this.close(pos, '(', ')');
+            } else if (chr == '[') {
+                RequiredLiterals.flush(run, found);
+                pos = this.close(pos, '[', ']');
+            } else if (chr == '|') {
+                sure = false;
+            } else if (chr == '?' || chr == '*' || chr == '{') {
+                if (run.length() > 0) {
+                    run.setLength(run.length() - 1);
+                }
+                RequiredLiterals.flush(run, found);
+                if (chr == '{') {
+                    pos = this.regex.indexOf('}', pos);
+                    sure = pos > 0;
+                }
+                pos = this.lazy(pos + 1);
+            } else if (chr == '+') {
+                RequiredLiterals.flush(run, found);
+                pos = this.lazy(pos + 1);
+            } else if (chr == '.' || chr == '^' || chr == '$') {
+                RequiredLiterals.flush(run, found);
+                pos += 1;
+            } else {
+                run.append(chr);
+                pos += 1;
+            }
+        }
+        RequiredLiterals.flush(run, found);
+        final Collection<String> result;
+        if (sure) {
+            result = found;
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    private int close(final int start, final char open, final char end) {
+        int depth = 0;
+        int pos = start;
+        boolean klass = false;
+        while (pos < this.regex.length()) {
+            final char chr = this.regex.charAt(pos);
+            if (chr == '\\') {
+                pos += 1;
+            } else if (chr == '[' && open == '(') {
+                klass = true;
+            } else if (chr == ']' && klass) {
+                klass = false;
+            } else if (chr == open && !klass) {
+                depth += 1;
+            } else if (chr == end && !klass && pos > start + 1
+                && !(open == '[' && pos == start + 2
+                && this.regex.charAt(start + 1) == '^')) {
+                depth -= 1;
+            }
+            pos += 1;
+            if (depth == 0) {
+                break;
+            }
+        }
+        return pos;
+    }
+
+    private int lazy(final int pos) {
+        int next = pos;
+        if (next < this.regex.length()
+            && (this.regex.charAt(next) == '?' || this.regex.charAt(next) == '+')) {
+            next += 1;
+        }
+        return next;
+    }
+
+    private static char escaped(final char next) {
+        final char plain;
+        if (next == 'n') {
+            plain = '\n';
+        } else if (next == 'r') {
+            plain = '\r';
+        } else if (next == 't') {
+            plain = '\t';
+        } else if (next == 'f') {
+            plain = '\f';
+        } else if (Character.isLetterOrDigit(next)) {
+            plain = 0;
+        } else {
+            plain = next;
+        }
+        return plain;
+    }
+
+    private static void flush(final StringBuilder run,
+        final Collection<String> found) {
+        if (run.length() > 0) {
+            found.add(run.toString());
+            run.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+/**
+ * One {@code @checkstyle} suppression as written, before its range is
+ * known.
+ *
+ * <p>It is either the {@code (N lines)} form, which carries the number of
+ * lines it covers, or one half of a {@code disable}/{@code enable} pair,
+ * which {@link Suppressions} puts together.</p>
+ *
+ * @since 1.0
+ */
+final class SuppressionMark {
+
+    /**
+     * Name of the check.
+     */
+    private final String check;
+
+    /**
+     * Line of the mark.
+     */
+    private final int line;
+
+    /**
+     * What follows the name: the number of lines, {@code disable} or
+     * {@code enable}.
+     */
+    private final String form;
+
+    /**
+     * Constructor.
+     * @param check Name of the check
+     * @param line Line of the mark
+     * @param form The number of lines, {@code disable} or {@code enable}
+     */
+    SuppressionMark(final String check, final int line, final String form) {
+        this.check = check;
+        this.line = line;
+        this.form = form;
+    }
+
+    /**
+     * Name of the suppressed check.
+     * @return The name
+     */
+    String check() {
+        return this.check;
+    }
+
+    /**
+     * Line of the mark.
+     * @return Line number
+     */
+    int line() {
+        return this.line;
+    }
+
+    /**
+     * Does it open a {@code disable}/{@code enable} range?
+     * @return TRUE if it does
+     */
+    boolean disables() {
+        return "disable".equals(this.form);
+    }
+
+    /**
+     * Does it close a {@code disable}/{@code enable} range?
+     * @return TRUE if it does
+     */
+    boolean enables() {
+        return "enable".equals(this.form);
+    }
+
+    /**
+     * Number of lines it covers, in the {@code (N lines)} form.
+     * @return Number of lines, or -1 for the other forms
+     */
+    int lines() {
+        final int lines;
+        if (this.disables() || this.enables()) {
+            lines = -1;
+        } else {
+            lines = Integer.parseInt(this.form);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code @checkstyle} suppressions written in a piece of text, with
+ * their lines.
+ *
+ * <p>One pattern finds all three forms the filters of {@code checks.xml}
+ * honor, and the line of every mark is counted on the way, from the end
+ * of the previous one, so the text is read once whatever the number of
+ * marks in it. {@link UnknownSuppressionCheck} reads the marks of one
+ * comment with it, {@link Suppressions} the marks of a whole file.</p>
+ *
+ * @since 1.0
+ */
+final class SuppressionMarks implements Iterable<SuppressionMark> {
+
+    /**
+     * The forms of suppression that the filters of {@code checks.xml} honor.
+     */
+    private static final Pattern TAG = Pattern.compile(
+        "@checkstyle (\\w+) (?:\\((\\d+) lines?\\)|(disable|enable))"
+    );
+
+    /**
+     * The text.
+     */
+    private final String text;
+
+    /**
+     * Number of the first line of the text.
+     */
+    private final int first;
+
+    /**
+     * Constructor.
+     * @param text The text
+     * @param first Number of its first line
+     */
+    SuppressionMarks(final String text, final int first) {
+        this.text = text;
+        this.first = first;
+    }
+
+    @Override
+    public Iterator<SuppressionMark> iterator() {
+        final Collection<SuppressionMark> marks = new ArrayList<>(0);
+        final Matcher matcher = SuppressionMarks.TAG.matcher(this.text);
+        int line = this.first;
+        int pos = 0;
+        while (matcher.find()) {
+            while (pos < matcher.start()) {
+                if (this.text.charAt(pos) == '\n') {
+                    ++line;
+                }
+                ++pos;
+            }
+            String form = matcher.group(2);
+            if (form == null) {
+                form = matcher.group(3);
+            }
+            marks.add(new SuppressionMark(matcher.group(1), line, form));
+        }
+        return marks.iterator();
+    }
+}
@@ -4,9 +4,6 @@
  */
 package com.qulice.checkstyle;
 
-import com.puppycrawl.tools.checkstyle.api.AuditEvent;
-import java.util.Collection;
-
 /**
  * One {@code @checkstyle} suppression comment and the range it covers.
  *
@@ -76,15 +73,12 @@ final class SuppressionTag {
      * check.
      *
      * @param events Events collected with the nearby filters removed
+     * @param file Name of the file the suppression is in
      * @return True if no event of the check falls in the influence range
      */
-    boolean unused(final Collection<AuditEvent> events) {
-        return events.stream().noneMatch(this::covers);
-    }
-
-    private boolean covers(final AuditEvent event) {
-        return event.getSourceName().contains(this.check)
-            && event.getLine() >= this.first
-            && event.getLine() <= this.last;
+    boolean unused(final EventIndex events, final String file) {
+        return !events.any(
+            file, this.check, new LineRange(this.first, this.last)
+        );
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultContext;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Check of a {@code TreeWalker} that runs the check nested into it and
+ * adds the time spent in it to {@link CheckProfile}.
+ *
+ * <p>The nested check is set up the way {@code TreeWalker} would set it
+ * up, with its own tokens, and gets every call of the tree walk. The
+ * time of {@code beginTree}, {@code visitToken}, {@code leaveToken} and
+ * {@code finishTree} is added up, and so is the number of tokens
+ * visited. The violations come out of the nested check unchanged, so
+ * their source names and ids are the same as without this module.</p>
+ *
+ * @since 1.0
+ */
+public final class TimedCheck extends AbstractCheck {
+
+    /**
+     * Profile to add the numbers to.
+     */
+    private final CheckProfile profile;
+
+    /**
+     * Nested check, set up in {@link #setupChild(Configuration)}.
+     */
+    private AbstractCheck inner;
+
+    /**
+     * Nanoseconds spent in the nested check.
+     */
+    private LongAdder nanos;
+
+    /**
+     * Tokens visited by the nested check.
+     */
+    private LongAdder tokens;
+
+    /**
+     * Default constructor.
+     */
+    public TimedCheck() {
+        this.profile = new CheckProfile();
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        final int[] result;
+        final String[] names = this.inner.getTokenNames().toArray(new String[0]);
+        if (names.length == 0) {
+            result = this.inner.getDefaultTokens();
+        } else {
+            final int[] required = this.inner.getRequiredTokens();
+            result = Arrays.copyOf(required, required.length + names.length);
+            for (int idx = 0; idx < names.length; idx += 1) {
+                result[required.length + idx] = TokenUtil.getTokenId(names[idx]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return this.inner.getAcceptableTokens();
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return this.inner.getRequiredTokens();
+    }
+
+    @Override
+    public boolean isCommentNodesRequired() {
+        return this.inner.isCommentNodesRequired();
+    }
+
+    @Override
+    public void init() {
+        this.inner.init();
+    }
+
+    @Override
+    public void beginTree(final DetailAST root) {
+        this.inner.setFileContents(this.getFileContents());
+        this.inner.clearViolations();
+        final long start = System.nanoTime();
+        this.inner.beginTree(root);
+        this.nanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public void visitToken(final DetailAST ast) {
+        final long start = System.nanoTime();
+        this.inner.visitToken(ast);
+        this.nanos.add(System.nanoTime() - start);
+        this.tokens.increment();
+    }
+
+    @Override
+    public void leaveToken(final DetailAST ast) {
+        final long start = System.nanoTime();
+        this.inner.leaveToken(ast);
+        this.nanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public void finishTree(final DetailAST root) {
+        final long start = System.nanoTime();
+        this.inner.finishTree(root);
+        this.nanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public SortedSet<Violation> getViolations() {
+        return this.inner.getViolations();
+    }
+
+    @Override
+    public void destroy() {
+        this.inner.destroy();
+        super.destroy();
+    }
+
+    @Override
+    protected void setupChild(final Configuration child)
+        throws CheckstyleException {
+        if (this.inner != null) {
+            throw new CheckstyleException(
+                String.format(
+                    "%s can't have more than one child, %s is extra",
+                    this.getClass().getName(), child.getName()
+                )
+            );
+        }
+        final DefaultContext context = new DefaultContext();
+        context.add("severity", this.getSeverityLevel().getName());
+        context.add("tabWidth", String.valueOf(this.getTabWidth()));
+        final InnerModule module = new InnerModule(child);
+        this.inner = module.value(AbstractCheck.class, context);
+        final String name = module.name(this.inner);
+        this.nanos = this.profile.nanos(name);
+        this.tokens = this.profile.tokens(name);
+    }
+}
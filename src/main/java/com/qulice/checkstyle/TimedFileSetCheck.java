@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.DefaultContext;
+import com.puppycrawl.tools.checkstyle.api.AbstractFileSetCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * File set check that runs the check nested into it and adds the time
+ * spent in it to {@link CheckProfile}.
+ *
+ * <p>The nested check is set up the way {@code Checker} would set it up,
+ * with its own file extensions, and gets every file. The time of
+ * {@code processFiltered} and {@code finishProcessing} is added up. The
+ * violations come out of the nested check unchanged, so their source
+ * names and ids are the same as without this module.</p>
+ *
+ * @since 1.0
+ */
+public final class TimedFileSetCheck extends AbstractFileSetCheck {
+
+    /**
+     * Profile to add the numbers to.
+     */
+    private final CheckProfile profile;
+
+    /**
+     * Charset of the files, given by {@code Checker}.
+     */
+    private String charset;
+
+    /**
+     * Nested check, set up in {@link #setupChild(Configuration)}.
+     */
+    private AbstractFileSetCheck inner;
+
+    /**
+     * Nanoseconds spent in the nested check.
+     */
+    private LongAdder nanos;
+
+    /**
+     * Default constructor.
+     */
+    public TimedFileSetCheck() {
+        this.profile = new CheckProfile();
+        this.charset = StandardCharsets.UTF_8.name();
+    }
+
+    /**
+     * Set the charset of the files, for the nested check.
+     * @param name Name of the charset
+     */
+    public void setCharset(final String name) {
+        this.charset = name;
+    }
+
+    @Override
+    public void init() {
+        this.inner.init();
+    }
+
+    @Override
+    public void beginProcessing(final String encoding) {
+        this.inner.setMessageDispatcher(this.getMessageDispatcher());
+        this.inner.beginProcessing(encoding);
+    }
+
+    @Override
+    public void finishProcessing() {
+        final long start = System.nanoTime();
+        this.inner.finishProcessing();
+        this.nanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    public void destroy() {
+        this.inner.destroy();
+        super.destroy();
+    }
+
+    @Override
+    protected void processFiltered(final File file, final FileText text)
+        throws CheckstyleException {
+        final long start = System.nanoTime();
+        this.addViolations(this.inner.process(file, text));
+        this.nanos.add(System.nanoTime() - start);
+    }
+
+    @Override
+    protected void setupChild(final Configuration child)
+        throws CheckstyleException {
+        if (this.inner != null) {
+            throw new CheckstyleException(
+                String.format(
+                    "%s can't have more than one child, %s is extra",
+                    this.getClass().getName(), child.getName()
+                )
+            );
+        }
+        final DefaultContext context = new DefaultContext();
+        context.add("severity", this.getSeverityLevel().getName());
+        context.add("charset", this.charset);
+        final InnerModule module = new InnerModule(child);
+        this.inner = module.value(AbstractFileSetCheck.class, context);
+        this.nanos = this.profile.nanos(module.name(this.inner));
+    }
+}
@@ -7,8 +7,6 @@ package com.qulice.checkstyle;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Checks that every {@code @checkstyle} suppression names an enabled check.
@@ -26,13 +24,6 @@ import java.util.regex.Pattern;
  */
 public final class UnknownSuppressionCheck extends AbstractCheck {
 
-    /**
-     * The forms of suppression that the filters of {@code checks.xml} honor.
-     */
-    private static final Pattern TAG = Pattern.compile(
-        "@checkstyle (\\w+) (?:\\(\\d+ lines?\\)|disable|enable)"
-    );
-
     /**
      * Checks that {@code checks.xml} enables.
      */
@@ -67,30 +58,17 @@ public final class UnknownSuppressionCheck extends AbstractCheck {
 
     @Override
     public void visitToken(final DetailAST ast) {
-        final String text = ast.getText();
-        final Matcher matcher = UnknownSuppressionCheck.TAG.matcher(text);
-        while (matcher.find()) {
-            final String name = matcher.group(1);
-            if (!this.checks.covers(name)) {
+        for (final SuppressionMark mark
+            : new SuppressionMarks(ast.getText(), ast.getLineNo())) {
+            if (!this.checks.covers(mark.check())) {
                 this.log(
-                    ast.getLineNo()
-                        + UnknownSuppressionCheck.breaks(text, matcher.start()),
+                    mark.line(),
                     String.format(
                         "Check \"%s\" is not enabled, this suppression has no effect",
-                        name
+                        mark.check()
                     )
                 );
             }
         }
     }
-
-    private static int breaks(final String text, final int position) {
-        int count = 0;
-        for (int idx = 0; idx < position; ++idx) {
-            if (text.charAt(idx) == '\n') {
-                ++count;
-            }
-        }
-        return count;
-    }
 }
@@ -4,25 +4,16 @@
  */
 package com.qulice.checkstyle;
 
-import com.puppycrawl.tools.checkstyle.Checker;
-import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
-import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
-import com.puppycrawl.tools.checkstyle.PropertiesExpander;
-import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
-import com.puppycrawl.tools.checkstyle.api.Configuration;
 import com.qulice.spi.Environment;
 import com.qulice.spi.Relative;
 import com.qulice.spi.Violation;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Properties;
 import java.util.Set;
-import org.xml.sax.InputSource;
 
 /**
  * The {@code @checkstyle} suppressions that cover no violation.
@@ -38,7 +29,10 @@ import org.xml.sax.InputSource;
  *
  * <p>The second run leaves alone the files that the first run took from
  * its cache, since Checkstyle collects no events for them, and their
- * suppressions cannot be judged.</p>
+ * suppressions cannot be judged. The second run keeps a cache of its
+ * own between builds: Checkstyle caches only the files it reported no
+ * event for, so a file it takes from there has no event to report,
+ * which is the same answer it would give by checking the file.</p>
  *
  * @since 1.0
  */
@@ -78,8 +72,9 @@ final class UnusedSuppressions {
         if (!files.isEmpty()) {
             final CheckstyleListener sink = new CheckstyleListener(this.env);
             this.collect(files, sink);
+            final EventIndex events = sink.index();
             for (final File file : files) {
-                results.addAll(this.unused(file, sink.events()));
+                results.addAll(this.unused(file, events));
             }
         }
         return results;
@@ -87,45 +82,36 @@ final class UnusedSuppressions {
 
     private void collect(final Collection<File> files,
         final CheckstyleListener sink) {
-        final Checker checker = new Checker();
-        checker.setModuleClassLoader(
-            Thread.currentThread().getContextClassLoader()
-        );
-        final File cache = this.cache();
+        final ParsedChecks checks = new ParsedChecks(UnusedSuppressions.FILTERS);
         try {
-            checker.configure(this.configuration(cache));
-            checker.addListener(sink);
-            checker.process(new ArrayList<>(files));
+            new Checkers(checks).process(
+                new ArrayList<>(files),
+                new CacheFiles(
+                    new File(this.env.tempdir(), "checkstyle")
+                ).of(checks),
+                sink
+            );
         } catch (final CheckstyleException ex) {
             throw new IllegalStateException(
                 "Failed to re-run Checkstyle without suppression filters", ex
             );
-        } finally {
-            checker.destroy();
-            cache.delete();
         }
     }
 
     private Collection<Violation> unused(final File file,
-        final Collection<AuditEvent> events) {
+        final EventIndex events) {
         final Collection<Violation> results = new ArrayList<>(0);
         if (!this.env.exclude(
             "checkstyle", new Relative(this.env.basedir(), file).path()
         )) {
-            final Collection<AuditEvent> here = new ArrayList<>(0);
-            for (final AuditEvent event : events) {
-                if (file.getPath().equals(event.getFileName())) {
-                    here.add(event);
-                }
-            }
             for (final SuppressionTag tag : new Suppressions(this.read(file))) {
-                if (tag.unused(here)) {
+                if (tag.unused(events, file.getPath())) {
                     results.add(
-                        new Violation.Default(
+                        new Violation.Compact(
                             "Checkstyle",
                             "UnusedSuppressionCheck",
                             file.getPath(),
-                            String.valueOf(tag.line()),
+                            tag.line(),
                             String.format(
                                 "This suppression covers no violation of \"%s\"",
                                 tag.check()
@@ -147,54 +133,4 @@ final class UnusedSuppressions {
             );
         }
     }
-
-    private File cache() {
-        final File dir = new File(this.env.tempdir(), "checkstyle");
-        if (!dir.exists() && !dir.mkdirs()) {
-            throw new IllegalStateException(
-                String.format("Unable to create %s", dir)
-            );
-        }
-        try {
-            return Files.createTempFile(dir.toPath(), "unused", ".cache").toFile();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(
-                "Failed to create a cache file for the second Checkstyle run", ex
-            );
-        }
-    }
-
-    private Configuration configuration(final File cache) {
-        final Properties props = new Properties();
-        props.setProperty("cache.file", cache.getPath());
-        final Configuration config;
-        try (InputStream stream = this.getClass().getResourceAsStream("checks.xml")) {
-            if (stream == null) {
-                throw new IllegalStateException(
-                    "Checkstyle configuration file 'checks.xml' not found in classpath."
-                );
-            }
-            config = ConfigurationLoader.loadConfiguration(
-                new InputSource(stream),
-                new PropertiesExpander(props),
-                ConfigurationLoader.IgnoredModulesOptions.OMIT
-            );
-        } catch (final CheckstyleException | IOException ex) {
-            throw new IllegalStateException("Failed to load config", ex);
-        }
-        UnusedSuppressions.strip(config);
-        return config;
-    }
-
-    private static void strip(final Configuration config) {
-        for (final Configuration child : config.getChildren()) {
-            final String name = child.getName();
-            final String simple = name.substring(name.lastIndexOf('.') + 1);
-            if (UnusedSuppressions.FILTERS.contains(simple)) {
-                ((DefaultConfiguration) config).removeChild(child);
-            } else {
-                UnusedSuppressions.strip(child);
-            }
-        }
-    }
 }
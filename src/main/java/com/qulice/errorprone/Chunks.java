@@ -0,0 +1,316 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One batch of {@link Batches} cut into chunks that a {@code javac} pass
+ * compiles at a bounded cost.
+ *
+ * <p>A batch holds a whole source root, which may be many thousands of
+ * files, and {@code javac} keeps the trees of all the files it compiles
+ * in memory at once, so a batch over the budget, in files or in bytes,
+ * is cut. It is cut between packages: the packages are lined up so that
+ * the ones that import one another come next to each other, which is
+ * worked out from the {@code import} lines alone, and then taken in that
+ * order, as many at a time as the budget allows. A package bigger than
+ * the budget on its own is cut between its files. Whatever a chunk
+ * refers to in another chunk is read from the classes the project
+ * compiled, when they are all {@link #compiled(List, Collection)} and
+ * not older than their sources, so a chunk parses and checks its own
+ * files only and the budget bounds its cost. When they are not, it is
+ * read from its source, found on the {@link #sourcepath(List)} of the
+ * batch, and then a chunk costs as much as all the sources it reaches,
+ * which may be most of the batch.</p>
+ *
+ * @since 1.0
+ */
+final class Chunks {
+
+    /**
+     * The {@code package} line of a source.
+     */
+    private static final Pattern PACKAGE = Pattern.compile(
+        "^\\s*package\\s+([\\w.]+)\\s*;"
+    );
+
+    /**
+     * An {@code import} line of a source.
+     */
+    private static final Pattern IMPORT = Pattern.compile(
+        "^\\s*import\\s+(?:static\\s+)?([\\w.]+?)(?:\\.\\*)?\\s*;"
+    );
+
+    /**
+     * The line where the imports are over.
+     */
+    private static final Pattern TYPE = Pattern.compile(
+        "\\b(?:class|interface|enum|record)\\s"
+    );
+
+    /**
+     * Most files in a chunk.
+     */
+    private final int files;
+
+    /**
+     * Most bytes in a chunk.
+     */
+    private final long bytes;
+
+    /**
+     * Encoding of the sources.
+     */
+    private final Charset encoding;
+
+    /**
+     * Constructor.
+     * @param files Most files in a chunk
+     * @param bytes Most bytes in a chunk
+     * @param encoding Encoding of the sources
+     */
+    Chunks(final int files, final long bytes, final Charset encoding) {
+        this.files = files;
+        this.bytes = bytes;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Cut a batch.
+     * @param sources Sources of the batch
+     * @return Chunks, in order, none of them empty, just one when the
+     *  batch is within the budget
+     */
+    List<List<File>> split(final List<File> sources) {
+        final List<List<File>> chunks;
+        if (sources.size() <= this.files && Chunks.size(sources) <= this.bytes) {
+            chunks = Collections.singletonList(sources);
+        } else {
+            final Map<String, List<File>> packages = new TreeMap<>();
+            final Map<String, Set<String>> imports = new TreeMap<>();
+            for (final File source : sources) {
+                final Set<String> names = new TreeSet<>();
+                final String pkg = this.read(source, names);
+                packages.computeIfAbsent(pkg, key -> new ArrayList<>(1))
+                    .add(source);
+                imports.computeIfAbsent(pkg, key -> new TreeSet<>())
+                    .addAll(names);
+            }
+            chunks = new ArrayList<>(0);
+            List<File> chunk = new ArrayList<>(0);
+            long weight = 0L;
+            for (final String pkg : Chunks.lined(packages.keySet(), imports)) {
+                final List<File> more = packages.get(pkg);
+                if (!chunk.isEmpty()
+                    && (chunk.size() + more.size() > this.files
+                    || weight + Chunks.size(more) > this.bytes)) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>(0);
+                    weight = 0L;
+                }
+                for (final File source : more) {
+                    final long length = source.length();
+                    if (!chunk.isEmpty()
+                        && (chunk.size() >= this.files
+                        || weight + length > this.bytes)) {
+                        chunks.add(chunk);
+                        chunk = new ArrayList<>(0);
+                        weight = 0L;
+                    }
+                    chunk.add(source);
+                    weight += length;
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Are all the sources of a batch compiled, into a directory of this
+     * classpath, after they were last changed?
+     *
+     * <p>A source is looked up by its package and the name of its file,
+     * so a source whose type is named otherwise is never found, and the
+     * batch is taken for not compiled. The {@code package-info.java} and
+     * {@code module-info.java} of a batch don't count.</p>
+     *
+     * @param sources Sources of the batch
+     * @param classpath Entries of the classpath
+     * @return TRUE if every source has a class that is not older
+     */
+    boolean compiled(final List<File> sources, final Collection<String> classpath) {
+        final List<File> dirs = new ArrayList<>(1);
+        for (final String entry : classpath) {
+            final File dir = new File(entry.replace("%20", " "));
+            if (dir.isDirectory()) {
+                dirs.add(dir);
+            }
+        }
+        boolean compiled = !dirs.isEmpty();
+        for (int idx = 0; compiled && idx < sources.size(); ++idx) {
+            final File source = sources.get(idx);
+            final String name = source.getName();
+            if (!"package-info.java".equals(name)
+                && !"module-info.java".equals(name)) {
+                compiled = Chunks.fresh(
+                    dirs, this.klass(source), source.lastModified()
+                );
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Source roots of a batch, for {@code -sourcepath}.
+     *
+     * <p>The root of a source is its directory without the directories
+     * of its package; a source that doesn't sit where its package says
+     * it should adds no root.</p>
+     *
+     * @param sources Sources of the batch
+     * @return Absolute paths of the roots, separated by the path separator
+     */
+    String sourcepath(final List<File> sources) {
+        final Set<String> roots = new LinkedHashSet<>(1);
+        for (final File source : sources) {
+            File root = source.getAbsoluteFile().getParentFile();
+            final String pkg = this.read(source, new TreeSet<>());
+            if (!pkg.isEmpty()) {
+                final String[] parts = pkg.split("\\.");
+                for (int idx = parts.length - 1; idx >= 0 && root != null; --idx) {
+                    if (parts[idx].equals(root.getName())) {
+                        root = root.getParentFile();
+                    } else {
+                        root = null;
+                    }
+                }
+            }
+            if (root != null) {
+                roots.add(root.getAbsolutePath());
+            }
+        }
+        return String.join(File.pathSeparator, roots);
+    }
+
+    private String klass(final File source) {
+        final String pkg = this.read(source, new TreeSet<>());
+        final String name = source.getName();
+        final StringBuilder path = new StringBuilder(0);
+        if (!pkg.isEmpty()) {
+            path.append(pkg.replace('.', '/')).append('/');
+        }
+        return path.append(name, 0, name.length() - ".java".length())
+            .append(".class")
+            .toString();
+    }
+
+    private static boolean fresh(final List<File> dirs, final String path,
+        final long changed) {
+        boolean fresh = false;
+        for (int idx = 0; !fresh && idx < dirs.size(); ++idx) {
+            final File klass = new File(dirs.get(idx), path);
+            fresh = klass.isFile() && klass.lastModified() >= changed;
+        }
+        return fresh;
+    }
+
+    private String read(final File source, final Set<String> names) {
+        String pkg = "";
+        try (BufferedReader reader = Files.newBufferedReader(
+            source.toPath(), this.encoding
+        )) {
+            for (String line = reader.readLine();
+                line != null && !Chunks.TYPE.matcher(line).find();
+                line = reader.readLine()) {
+                final Matcher declared = Chunks.PACKAGE.matcher(line);
+                final Matcher imported = Chunks.IMPORT.matcher(line);
+                if (declared.find()) {
+                    pkg = declared.group(1);
+                } else if (imported.find()) {
+                    names.add(imported.group(1));
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Unable to read %s", source), ex
+            );
+        }
+        return pkg;
+    }
+
+    private static List<String> lined(final Set<String> packages,
+        final Map<String, Set<String>> imports) {
+        final Map<String, Set<String>> links = new TreeMap<>();
+        for (final String pkg : packages) {
+            links.computeIfAbsent(pkg, key -> new TreeSet<>());
+            for (final String name : imports.get(pkg)) {
+                final String target = Chunks.owner(name, packages);
+                if (!target.isEmpty() && !target.equals(pkg)) {
+                    links.get(pkg).add(target);
+                    links.computeIfAbsent(target, key -> new TreeSet<>())
+                        .add(pkg);
+                }
+            }
+        }
+        final List<String> lined = new ArrayList<>(packages.size());
+        final Set<String> seen = new HashSet<>(packages.size());
+        for (final String start : packages) {
+            final Deque<String> queue = new ArrayDeque<>(0);
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                final String pkg = queue.poll();
+                if (seen.add(pkg)) {
+                    lined.add(pkg);
+                    queue.addAll(links.get(pkg));
+                }
+            }
+        }
+        return lined;
+    }
+
+    private static String owner(final String name, final Set<String> packages) {
+        String owner = name;
+        while (!owner.isEmpty() && !packages.contains(owner)) {
+            final int dot = owner.lastIndexOf('.');
+            if (dot < 0) {
+                owner = "";
+            } else {
+                owner = owner.substring(0, dot);
+            }
+        }
+        return owner;
+    }
+
+    private static long size(final List<File> sources) {
+        long size = 0L;
+        for (final File source : sources) {
+            size += source.length();
+        }
+        return size;
+    }
+}
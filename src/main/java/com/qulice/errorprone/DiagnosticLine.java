@@ -0,0 +1,207 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.InaccessibleObjectException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaFileObject;
+
+/**
+ * Listener that prints every diagnostic of a {@code javac} in a forked
+ * JVM as one line, for {@link Diagnostics} to read back.
+ *
+ * <p>The line starts with {@link #MARK} and holds, separated by tabs,
+ * the kind of the diagnostic, its file, the line it points at, the last
+ * line of the code it covers, its lint category and its whole message,
+ * with tabs, line breaks and backslashes escaped, so a message of many
+ * lines stays on one. A diagnostic of no file has an empty one and line
+ * zero. Notes are not printed, since they were never violations.</p>
+ *
+ * <p>The lint category, such as {@code removal}, is what {@code javac}
+ * prints in brackets ahead of a lint warning in text, and it is not a
+ * part of the message. It is read from the {@code JCDiagnostic} behind
+ * the diagnostic by reflection, which the {@code --add-exports} flags of
+ * the fork permit, and it is empty when there is none or it can't be
+ * read.</p>
+ *
+ * @since 1.0
+ */
+final class DiagnosticLine implements DiagnosticListener<JavaFileObject> {
+
+    /**
+     * Prefix of every line printed.
+     */
+    static final String MARK = "qulice-diagnostic";
+
+    /**
+     * Where to print.
+     */
+    private final PrintStream out;
+
+    /**
+     * Offsets of the first characters of the lines, by source file.
+     */
+    private final Map<JavaFileObject, List<Integer>> starts;
+
+    /**
+     * Constructor.
+     * @param out Where to print
+     */
+    DiagnosticLine(final PrintStream out) {
+        this.out = out;
+        this.starts = new HashMap<>(0);
+    }
+
+    @Override
+    public void report(final Diagnostic<? extends JavaFileObject> diagnostic) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR
+            || diagnostic.getKind() == Diagnostic.Kind.WARNING
+            || diagnostic.getKind() == Diagnostic.Kind.MANDATORY_WARNING) {
+            final JavaFileObject source = diagnostic.getSource();
+            String file = "";
+            long begin = 0L;
+            long end = 0L;
+            if (source != null) {
+                file = source.getName();
+                begin = Math.max(diagnostic.getLineNumber(), 0L);
+                end = Math.max(begin, this.line(source, diagnostic.getEndPosition()));
+            }
+            synchronized (this.out) {
+                this.out.println(
+                    String.join(
+                        "\t",
+                        DiagnosticLine.MARK,
+                        diagnostic.getKind().name(),
+                        DiagnosticLine.escaped(file),
+                        String.valueOf(begin),
+                        String.valueOf(end),
+                        DiagnosticLine.category(diagnostic),
+                        DiagnosticLine.escaped(diagnostic.getMessage(Locale.ROOT))
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Forget the sources of the compilation before, ahead of the next one.
+     */
+    void forget() {
+        this.starts.clear();
+    }
+
+    /**
+     * Escape tabs, line breaks and backslashes.
+     * @param text The text
+     * @return The text on one line, with no tabs
+     */
+    static String escaped(final String text) {
+        final StringBuilder out = new StringBuilder(text.length());
+        for (int idx = 0; idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            if (chr == '\\') {
+                out.append("\\\\");
+            } else if (chr == '\t') {
+                out.append("\\t");
+            } else if (chr == '\n') {
+                out.append("\\n");
+            } else if (chr == '\r') {
+                out.append("\\r");
+            } else {
+                out.append(chr);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Undo {@link #escaped(String)}.
+     * @param text The escaped text
+     * @return The text as it was
+     */
+    static String unescaped(final String text) {
+        final StringBuilder out = new StringBuilder(text.length());
+        for (int idx = 0; idx < text.length(); ++idx) {
+            char chr = text.charAt(idx);
+            if (chr == '\\' && idx + 1 < text.length()) {
+                idx += 1;
+                chr = text.charAt(idx);
+                if (chr == 't') {
+                    chr = '\t';
+                } else if (chr == 'n') {
+                    chr = '\n';
+                } else if (chr == 'r') {
+                    chr = '\r';
+                }
+            }
+            out.append(chr);
+        }
+        return out.toString();
+    }
+
+    private static String category(final Diagnostic<?> diagnostic) {
+        String category = "";
+        try {
+            Object target = diagnostic;
+            if (target.getClass().getName().endsWith("DiagnosticSourceUnwrapper")) {
+                target = target.getClass().getField("d").get(target);
+            }
+            final Object lint = target.getClass().getMethod("getLintCategory")
+                .invoke(target);
+            if (lint != null) {
+                category = String.valueOf(lint.getClass().getField("option").get(lint));
+            }
+        } catch (final ReflectiveOperationException
+            | InaccessibleObjectException ex) {
+            category = "";
+        }
+        return category;
+    }
+
+    private long line(final JavaFileObject source, final long position) {
+        long line = 0L;
+        if (position != Diagnostic.NOPOS) {
+            final List<Integer> lines = this.starts.computeIfAbsent(
+                source, DiagnosticLine::starts
+            );
+            int low = 0;
+            int high = lines.size() - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (lines.get(mid) <= position) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            line = low;
+        }
+        return line;
+    }
+
+    private static List<Integer> starts(final JavaFileObject source) {
+        final List<Integer> starts = new ArrayList<>(0);
+        starts.add(0);
+        try {
+            final CharSequence text = source.getCharContent(true);
+            for (int idx = 0; idx < text.length(); ++idx) {
+                if (text.charAt(idx) == '\n') {
+                    starts.add(idx + 1);
+                }
+            }
+        } catch (final IOException ex) {
+            starts.clear();
+        }
+        return starts;
+    }
+}
@@ -15,6 +15,14 @@ import java.util.regex.Pattern;
 /**
  * What a forked {@code javac} printed, read as violations.
  *
+ * <p>A line that {@link DiagnosticLine} printed carries the whole
+ * message of its diagnostic, its lint category and the first and the
+ * last line of the code it covers, and is read by splitting it on tabs;
+ * a message with no {@code [Name]} of its own is named after the lint
+ * category, the way {@code javac} prints it in text. Any other line is read
+ * the way {@code javac} prints a diagnostic in text, which is what a
+ * compiler outside of {@link ForkedJavac} prints.</p>
+ *
  * <p>Every diagnostic counts, not just the ones ErrorProne labels with
  * its {@code [CheckName]} prefix: a plain {@code cannot find symbol} is
  * the loudest signal of all, because {@code javac} stops before the
@@ -44,6 +52,13 @@ final class Diagnostics {
         "^(?:warning|error): (?:\\[([A-Za-z][A-Za-z0-9_]*)] )?(.+)$"
     );
 
+    /**
+     * Message that opens with the {@code [Name]} of its check.
+     */
+    private static final Pattern NAMED = Pattern.compile(
+        "^\\[([A-Za-z][A-Za-z0-9_]*)] (.*)$", Pattern.DOTALL
+    );
+
     /**
      * Check name for a diagnostic that carries no bracketed name of its own.
      */
@@ -77,42 +92,107 @@ final class Diagnostics {
     Collection<Violation> violations(final List<String> output) {
         final Collection<Violation> violations = new ArrayList<>(0);
         for (final String line : output) {
+            this.violation(line).ifPresent(violations::add);
+        }
+        return violations;
+    }
+
+    /**
+     * Read one line of the compiler's output.
+     * @param line The line
+     * @return The violation, if the line is a diagnostic
+     */
+    Optional<Violation> violation(final String line) {
+        Optional<Violation> violation = Optional.empty();
+        if (line.startsWith(DiagnosticLine.MARK)) {
+            final String[] parts = line.split("\t", -1);
+            if (parts.length == 7) {
+                String body = DiagnosticLine.unescaped(parts[6]);
+                if (!Diagnostics.NAMED.matcher(body).matches()) {
+                    String check = parts[5];
+                    if (check.isEmpty()) {
+                        check = Diagnostics.JAVAC;
+                    }
+                    body = String.format("[%s] %s", check, body);
+                }
+                String file = DiagnosticLine.unescaped(parts[2]);
+                if (file.isEmpty()) {
+                    file = this.fallback;
+                }
+                violation = Optional.of(
+                    this.violation(file, parts[3], parts[4], body)
+                );
+            }
+        } else {
             final Matcher positioned = Diagnostics.POSITIONED.matcher(line);
             final Matcher global = Diagnostics.GLOBAL.matcher(line);
             if (positioned.matches()) {
-                violations.add(
+                violation = Optional.of(
                     this.violation(
                         positioned.group(1),
-                        positioned.group(2),
-                        Diagnostics.check(positioned.group(3)),
-                        positioned.group(4)
+                        positioned.group(2), positioned.group(2),
+                        String.format(
+                            "[%s] %s",
+                            Diagnostics.check(positioned.group(3)),
+                            positioned.group(4)
+                        )
                     )
                 );
             } else if (global.matches()) {
-                violations.add(
+                violation = Optional.of(
                     this.violation(
-                        this.fallback,
-                        "0",
-                        Diagnostics.check(global.group(1)),
-                        global.group(2)
+                        this.fallback, "0", "0",
+                        String.format(
+                            "[%s] %s",
+                            Diagnostics.check(global.group(1)),
+                            global.group(2)
+                        )
                     )
                 );
             }
         }
-        return violations;
+        return violation;
     }
 
-    private Violation violation(final String file, final String lines,
-        final String check, final String message) {
-        return new Violation.Default(
-            this.validator,
-            check,
-            file,
-            lines,
-            String.format("[%s] %s", check, message)
+    /**
+     * Violation of a compiler that failed and reported nothing.
+     * @param code Exit code of the forked process
+     * @return The violation, blamed on the project
+     */
+    Violation failure(final int code) {
+        return this.violation(
+            this.fallback, "0", "0",
+            String.format(
+                "[%s] javac failed with exit code %d and reported nothing",
+                Diagnostics.JAVAC, code
+            )
         );
     }
 
+    private Violation violation(final String file, final String begin,
+        final String end, final String message) {
+        final Matcher named = Diagnostics.NAMED.matcher(message);
+        final String check;
+        if (named.matches()) {
+            check = named.group(1);
+        } else {
+            check = Diagnostics.JAVAC;
+        }
+        final int first = Integer.parseInt(begin);
+        final int last = Integer.parseInt(end);
+        final Violation violation;
+        if (last > first) {
+            violation = new Violation.Compact(
+                this.validator, check, file, first, last, message
+            );
+        } else {
+            violation = new Violation.Compact(
+                this.validator, check, file, first, message
+            );
+        }
+        return violation;
+    }
+
     private static String check(final String name) {
         return Optional.ofNullable(name).orElse(Diagnostics.JAVAC);
     }
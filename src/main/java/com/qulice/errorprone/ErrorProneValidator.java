@@ -9,49 +9,83 @@ import com.jcabi.log.Logger;
 import com.qulice.spi.Environment;
 import com.qulice.spi.Ignored;
 import com.qulice.spi.Relative;
+import com.qulice.spi.Reporter;
 import com.qulice.spi.ResourceValidator;
 import com.qulice.spi.Violation;
-import com.yegor256.Jaxec;
-import com.yegor256.Result;
 import java.io.File;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Validates source code with Google ErrorProne.
  *
- * <p>Runs the {@code javac} executable from the active JDK as a forked
- * process, with ErrorProne wired in as a {@code -Xplugin:ErrorProne} so
- * that every bug pattern fires while {@code javac} type-checks the
- * project's Java sources. The {@code --add-exports} and {@code --add-opens}
- * flags ErrorProne needs to reach internal {@code jdk.compiler} packages
- * are passed to the forked JVM via {@code javac}'s {@code -J} prefix; the
- * JVM hosting Maven and Qulice is unaffected, so consumers do not have to
- * touch their own {@code .mvn/jvm.config} to use this validator.</p>
+ * <p>Runs the {@code javac} of the active JDK in a forked JVM, through
+ * {@link ForkedJavac}, with ErrorProne wired in as a
+ * {@code -Xplugin:ErrorProne} so that every bug pattern fires while
+ * {@code javac} type-checks the project's Java sources. The
+ * {@code --add-exports} and {@code --add-opens} flags ErrorProne needs to
+ * reach internal {@code jdk.compiler} packages are passed to the forked
+ * JVM only; the JVM hosting Maven and Qulice is unaffected, so consumers
+ * do not have to touch their own {@code .mvn/jvm.config} to use this
+ * validator.</p>
  *
- * <p>The combined stdout/stderr stream is handed to {@link Diagnostics},
- * which turns every diagnostic it finds there into a {@link Violation} —
- * ErrorProne findings, {@code javac} lint warnings and plain compile
- * errors alike — and passes over the carets, symbol hints and counters
- * the compiler prints around them. {@code -proc:none} is passed to keep
- * regular annotation processors (Lombok, Hibernate-Validator, etc.) out
- * of the ErrorProne pass.</p>
+ * <p>The forked JVMs are {@link Workers}, which stay up after a batch and
+ * take the next one, of this module or of a later one, unless the
+ * {@code qulice.errorprone-workers} parameter is {@code false}. A pass
+ * that takes longer than {@code qulice.errorprone-timeout} minutes, ten
+ * by default, kills its fork and fails.</p>
+ *
+ * <p>The combined stdout/stderr stream is read line by line while the
+ * fork runs and every line is handed to {@link Diagnostics}, which turns
+ * every diagnostic there into a {@link Violation} — ErrorProne findings,
+ * {@code javac} lint warnings and plain compile errors alike — handed to
+ * the {@link Reporter} right away. A fork that fails without a single
+ * diagnostic is a violation too.
+ * {@code -proc:none} is passed to keep regular annotation processors
+ * (Lombok, Hibernate-Validator, etc.) out of the ErrorProne pass.</p>
+ *
+ * <p>Of the jars the plugin runs with, only ErrorProne and the ones it
+ * needs go to the {@code -processorpath}, which {@link ProcessorPath}
+ * picks.</p>
+ *
+ * <p>With {@code qulice.errorprone-cds} set to {@code true}, every fork
+ * shares one {@link SharedArchive} of the classes it loads.</p>
  *
  * <p>Which bug patterns fire is up to {@link Xplugin}, which also takes
  * in the {@code -Xep} flags of the project, read from the
  * {@code qulice.errorprone} parameter.</p>
  *
  * <p>The sources are not fed to one {@code javac} pass but to as many as
- * the project has source roots, which is what {@link Batches} works out;
- * the name of each batch tells the passes apart on disk, both in the
- * argfile they read and in the directory they write classes to.</p>
+ * the project has source roots, which is what {@link Batches} works out,
+ * and a root with more than {@code qulice.errorprone-files} files, 1000
+ * by default, or {@code qulice.errorprone-bytes} bytes, 8 MiB by
+ * default, is cut further by {@link Chunks}. The chunks of a root read
+ * one another from the classes the project compiled, which are on the
+ * {@code -classpath}, when all of them are there and current. Otherwise
+ * they read one another from the {@code -sourcepath}, with
+ * {@code -implicit:none}, which costs as much as the sources a chunk
+ * reaches, and report only what they find in their own files. The
+ * passes run one at a time, or as many at once as the
+ * {@code qulice.errorprone-forks} parameter says, and every fork gets a
+ * heap of 512 MiB plus 64 times the byte budget of a pass, so with the
+ * classes compiled how much memory ErrorProne takes is up to these three
+ * parameters. The name of each pass tells the passes
+ * apart on disk, both in the argfile they read and in the directory they
+ * write classes to.</p>
  *
  * @since 1.0
  */
@@ -59,8 +93,7 @@ public final class ErrorProneValidator implements ResourceValidator {
 
     /**
      * JVM module-access flags ErrorProne requires to reach internal
-     * {@code jdk.compiler} APIs. Forwarded to the embedded JVM via
-     * {@code javac}'s {@code -J} prefix.
+     * {@code jdk.compiler} APIs, given to the forked JVM.
      */
     private static final List<String> JVM_FLAGS = List.of(
         "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
@@ -84,10 +117,44 @@ public final class ErrorProneValidator implements ResourceValidator {
     private static final String PARAM = "qulice.errorprone";
 
     /**
-     * Splits a multi-line stdout block into individual lines, on any
-     * line terminator (\\n, \\r, \\r\\n, etc.).
+     * Name of the parameter that asks for a Class Data Sharing archive of
+     * the forked {@code javac}.
+     */
+    private static final String CDS = "qulice.errorprone-cds";
+
+    /**
+     * Name of the parameter that keeps the forked JVMs for later batches,
+     * unless it is {@code false}.
      */
-    private static final Pattern NEWLINE = Pattern.compile("\\R");
+    private static final String WORKERS = "qulice.errorprone-workers";
+
+    /**
+     * Name of the parameter with the most files of one {@code javac} pass.
+     */
+    private static final String FILES = "qulice.errorprone-files";
+
+    /**
+     * Name of the parameter with the most bytes of sources of one
+     * {@code javac} pass.
+     */
+    private static final String BYTES = "qulice.errorprone-bytes";
+
+    /**
+     * Name of the parameter with the most {@code javac} passes to run at
+     * once.
+     */
+    private static final String FORKS = "qulice.errorprone-forks";
+
+    /**
+     * Name of the parameter with the most minutes of one {@code javac}
+     * pass.
+     */
+    private static final String TIMEOUT = "qulice.errorprone-timeout";
+
+    /**
+     * Heap of a fork with no sources at all, in MiB.
+     */
+    private static final long HEAP = 512L;
 
     /**
      * Environment to use.
@@ -104,8 +171,14 @@ public final class ErrorProneValidator implements ResourceValidator {
 
     @Override
     public Collection<Violation> validate(final Collection<File> files) {
-        final List<File> sources = this.relevant(files);
         final Collection<Violation> violations = new ArrayList<>(0);
+        this.validate(files, new Reporter.Collected(violations));
+        return violations;
+    }
+
+    @Override
+    public void validate(final Collection<File> files, final Reporter reporter) {
+        final List<File> sources = this.relevant(files);
         if (sources.isEmpty()) {
             Logger.debug(
                 this,
@@ -117,17 +190,95 @@ public final class ErrorProneValidator implements ResourceValidator {
             final Diagnostics diagnostics = new Diagnostics(
                 this.name(), this.env.basedir().getAbsolutePath()
             );
+            final Chunks chunks = new Chunks(
+                Integer.parseInt(this.env.param(ErrorProneValidator.FILES, "1000")),
+                this.bytes(),
+                this.env.encoding()
+            );
+            final Map<File, Set<String>> jobs = new LinkedHashMap<>(0);
             for (final Map.Entry<String, List<File>> batch
                 : new Batches(this.env, sources).split().entrySet()) {
-                violations.addAll(
-                    diagnostics.violations(
-                        this.run(batch.getKey(), batch.getValue())
-                    )
-                );
+                final List<List<File>> cut = chunks.split(batch.getValue());
+                String sourcepath = "";
+                if (cut.size() > 1
+                    && !chunks.compiled(batch.getValue(), this.env.classpath())) {
+                    sourcepath = chunks.sourcepath(batch.getValue());
+                    Logger.info(
+                        this,
+                        String.join(
+                            " ",
+                            "The classes of '%s' are missing or stale, so its",
+                            "%d chunks read each other's sources, which takes",
+                            "more memory; run 'compile' first to avoid it"
+                        ),
+                        batch.getKey(), cut.size()
+                    );
+                }
+                for (int idx = 0; idx < cut.size(); ++idx) {
+                    String name = batch.getKey();
+                    final Set<String> mine = new HashSet<>(0);
+                    if (cut.size() > 1) {
+                        name = String.format("%s-%d", batch.getKey(), idx + 1);
+                        for (final File source : cut.get(idx)) {
+                            mine.add(source.getAbsolutePath());
+                        }
+                    }
+                    jobs.put(
+                        this.argfile(
+                            name, batch.getKey(), cut.get(idx), sourcepath
+                        ),
+                        mine
+                    );
+                }
             }
+            this.run(jobs, diagnostics, reporter);
             Logger.debug(this, "ErrorProne processed %d files", sources.size());
         }
-        return violations;
+    }
+
+    private void run(final Map<File, Set<String>> jobs,
+        final Diagnostics diagnostics, final Reporter reporter) {
+        int reuse = 1;
+        if (Boolean.parseBoolean(this.env.param(ErrorProneValidator.WORKERS, "true"))) {
+            reuse = Workers.JOBS;
+        }
+        final List<String> command = this.command();
+        int forks = Integer.parseInt(this.env.param(ErrorProneValidator.FORKS, "1"));
+        if (SharedArchive.dumping(command)) {
+            forks = 1;
+        }
+        final Workers workers = new Workers(
+            command, reuse,
+            TimeUnit.MINUTES.toMillis(
+                Long.parseLong(this.env.param(ErrorProneValidator.TIMEOUT, "10"))
+            )
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(1, forks)
+        );
+        final List<Future<?>> futures = new ArrayList<>(jobs.size());
+        for (final Map.Entry<File, Set<String>> job : jobs.entrySet()) {
+            futures.add(
+                pool.submit(
+                    () -> workers.run(
+                        job.getKey(), diagnostics,
+                        new OwnFiles(reporter, job.getValue())
+                    )
+                )
+            );
+        }
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
     }
 
     @Override
@@ -142,38 +293,44 @@ public final class ErrorProneValidator implements ResourceValidator {
         ).patterns();
     }
 
-    private List<String> run(final String batch, final List<File> sources) {
-        final Result result = new Jaxec(this.command(batch, sources))
-            .withRedirect(true)
-            .withCheck(false)
-            .exec();
-        final String stdout = result.stdout();
-        final List<String> lines;
-        if (stdout.isEmpty()) {
-            lines = List.of();
-        } else {
-            lines = List.of(ErrorProneValidator.NEWLINE.split(stdout));
-        }
-        return lines;
-    }
-
-    private List<String> command(final String batch, final List<File> sources) {
+    private List<String> command() {
         final List<String> command = new ArrayList<>(
-            ErrorProneValidator.JVM_FLAGS.size() + 2
+            ErrorProneValidator.JVM_FLAGS.size() + 7
+        );
+        command.add(ErrorProneValidator.java());
+        command.add(
+            String.format(
+                "-Xmx%dm",
+                ErrorProneValidator.HEAP + this.bytes() * 64L / 1_048_576L
+            )
         );
-        command.add(ErrorProneValidator.javac());
-        for (final String flag : ErrorProneValidator.JVM_FLAGS) {
-            command.add("-J".concat(flag));
+        command.addAll(ErrorProneValidator.JVM_FLAGS);
+        if (Boolean.parseBoolean(this.env.param(ErrorProneValidator.CDS, "false"))) {
+            command.addAll(
+                new SharedArchive(
+                    new File(System.getProperty("user.home"), ".qulice/cds"),
+                    ErrorProneValidator.pluginClasspath()
+                ).flags()
+            );
         }
+        command.add("-classpath");
+        command.add(ErrorProneValidator.codeSource(ForkedJavac.class));
+        command.add(ForkedJavac.class.getName());
+        command.add(ForkedJavac.WORKER);
+        return command;
+    }
+
+    private File argfile(final String name, final String batch,
+        final List<File> sources, final String sourcepath) {
         final File outdir = new File(
-            this.env.tempdir(), String.format("errorprone-classes-%s", batch)
+            this.env.tempdir(), String.format("errorprone-classes-%s", name)
         );
         if (!outdir.exists() && !outdir.mkdirs()) {
             throw new IllegalStateException(
                 String.format("Unable to create %s", outdir)
             );
         }
-        final List<String> args = new ArrayList<>(sources.size() + 12);
+        final List<String> args = new ArrayList<>(sources.size() + 15);
         args.add("-XDcompilePolicy=simple");
         args.add("-XDaddTypeAnnotationsToSymbol=true");
         args.add("--should-stop=ifError=FLOW");
@@ -196,21 +353,21 @@ public final class ErrorProneValidator implements ResourceValidator {
             args.add("-classpath");
             args.add(String.join(File.pathSeparator, classpath));
         }
+        if (!sourcepath.isEmpty()) {
+            args.add("-sourcepath");
+            args.add(sourcepath);
+            args.add("-implicit:none");
+        }
         for (final File source : sources) {
             args.add(source.getAbsolutePath());
         }
-        command.add(
-            "@".concat(
-                new Argfile(
-                    new File(
-                        this.env.tempdir(),
-                        String.format("errorprone-args-%s.txt", batch)
-                    ),
-                    args
-                ).save().getAbsolutePath()
-            )
-        );
-        return command;
+        return new Argfile(
+            new File(
+                this.env.tempdir(),
+                String.format("errorprone-args-%s.txt", name)
+            ),
+            args
+        ).save();
     }
 
     private List<File> relevant(final Collection<File> files) {
@@ -231,13 +388,33 @@ public final class ErrorProneValidator implements ResourceValidator {
         return sources;
     }
 
-    private static String javac() {
+    private long bytes() {
+        return Long.parseLong(
+            this.env.param(ErrorProneValidator.BYTES, "8388608")
+        );
+    }
+
+    private static String java() {
         return new File(
             new File(System.getProperty("java.home"), "bin"),
-            "javac"
+            "java"
         ).getAbsolutePath();
     }
 
+    private static String codeSource(final Class<?> klass) {
+        final CodeSource source = klass.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null) {
+            throw new IllegalStateException(
+                String.format("Unable to locate the classes of %s", klass)
+            );
+        }
+        return new Unencoded(source.getLocation()).path().orElseThrow(
+            () -> new IllegalStateException(
+                String.format("%s is not a local file", source.getLocation())
+            )
+        );
+    }
+
     private static String pluginClasspath() {
         final Set<String> entries = new LinkedHashSet<>();
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
@@ -258,17 +435,6 @@ public final class ErrorProneValidator implements ResourceValidator {
                 entries.add(new File(entry).getAbsolutePath());
             }
         }
-        ErrorProneValidator.addCodeSource(entries, javax.inject.Inject.class);
-        return String.join(File.pathSeparator, entries);
-    }
-
-    private static void addCodeSource(
-        final Set<String> entries, final Class<?> klass
-    ) {
-        final java.security.CodeSource source =
-            klass.getProtectionDomain().getCodeSource();
-        if (source != null && source.getLocation() != null) {
-            new Unencoded(source.getLocation()).path().ifPresent(entries::add);
-        }
+        return new ProcessorPath(entries).value();
     }
 }
@@ -0,0 +1,280 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.Plugin;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.regex.Pattern;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Entry point of the JVM that {@link ErrorProneValidator} forks to run
+ * {@code javac} with ErrorProne.
+ *
+ * <p>It takes the arguments {@code javac} would take, argfiles included,
+ * and runs the compiler of the JDK with a {@link DiagnosticLine} as its
+ * listener, so every diagnostic reaches the standard output as one line
+ * the moment the compiler reports it, rather than in the text format of
+ * {@code javac}, which has to be read back with regular expressions and
+ * spreads one diagnostic over many lines. Every argument that names a
+ * {@code .java} file is a source, the rest are options. The exit code is
+ * the one of {@code javac}: zero when it compiled, one when it did not
+ * and two when the options are wrong.</p>
+ *
+ * <p>With {@link #WORKER} as its only argument it stays up instead, as
+ * one of {@link Workers}: it reads the path of one argfile per line of
+ * its standard input, compiles it, and closes the answer with a
+ * {@link #DONE} line that holds the exit code, until the input ends. The
+ * compilations of a worker share the file managers of
+ * {@link SharedFiles}, which keep the jars they have opened, and one
+ * class loader of the processor path, so the classes of ErrorProne are
+ * loaded, and compiled by the JIT, once: the plugin is found and started
+ * by this class, the way {@code javac} does it for {@code -Xplugin},
+ * rather than by {@code javac}, which would load it again for every
+ * compilation.</p>
+ *
+ * <p>This class runs with nothing but itself on the classpath of the
+ * fork, so it, {@link DiagnosticLine} and {@link SharedFiles} use the JDK
+ * alone. A class of ErrorProne missing from the processor path fails
+ * the compilation with a diagnostic, rather than the whole worker.</p>
+ *
+ * @since 1.0
+ */
+public final class ForkedJavac {
+
+    /**
+     * The argument that makes it a worker.
+     */
+    static final String WORKER = "--worker";
+
+    /**
+     * Prefix of the line that ends the answer of a worker.
+     */
+    static final String DONE = "qulice-done";
+
+    /**
+     * Splits the {@code -Xplugin} option into the name and the arguments
+     * of the plugin.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Where to print.
+     */
+    private final PrintStream out;
+
+    /**
+     * The compiler.
+     */
+    private final JavaCompiler javac;
+
+    /**
+     * Listener of the diagnostics.
+     */
+    private final DiagnosticLine listener;
+
+    /**
+     * File managers of the compilations.
+     */
+    private final SharedFiles files;
+
+    /**
+     * Plugins, by processor path and name.
+     */
+    private final Map<String, Class<? extends Plugin>> plugins;
+
+    /**
+     * Constructor.
+     * @param out Where to print
+     */
+    private ForkedJavac(final PrintStream out) {
+        this.out = out;
+        this.javac = ToolProvider.getSystemJavaCompiler();
+        this.listener = new DiagnosticLine(out);
+        this.files = new SharedFiles(this.javac, this.listener);
+        this.plugins = new HashMap<>(1);
+    }
+
+    /**
+     * Run {@code javac}, once or as a worker.
+     * @param args Arguments of {@code javac}, or {@link #WORKER}
+     * @throws IOException If an argfile or the input can't be read
+     */
+    public static void main(final String... args) throws IOException {
+        final PrintStream out = new PrintStream(
+            new FileOutputStream(FileDescriptor.out), true, StandardCharsets.UTF_8
+        );
+        final ForkedJavac fork = new ForkedJavac(out);
+        int code = 0;
+        if (args.length == 1 && ForkedJavac.WORKER.equals(args[0])) {
+            final BufferedReader input = new BufferedReader(
+                new InputStreamReader(System.in, StandardCharsets.UTF_8)
+            );
+            for (String line = input.readLine(); line != null;
+                line = input.readLine()) {
+                if (!line.isEmpty()) {
+                    final int result = fork.compile(
+                        ForkedJavac.expanded(Arrays.asList(line))
+                    );
+                    out.println(
+                        String.join("\t", ForkedJavac.DONE, String.valueOf(result))
+                    );
+                    out.flush();
+                }
+            }
+        } else {
+            code = fork.compile(ForkedJavac.expanded(Arrays.asList(args)));
+        }
+        out.flush();
+        System.exit(code);
+    }
+
+    private int compile(final List<String> args) {
+        final List<String> options = new ArrayList<>(args.size());
+        final List<File> sources = new ArrayList<>(0);
+        String path = "";
+        String plugin = "";
+        for (int idx = 0; idx < args.size(); ++idx) {
+            final String arg = args.get(idx);
+            if ("-processorpath".equals(arg) && idx + 1 < args.size()) {
+                idx += 1;
+                path = args.get(idx);
+            } else if (arg.startsWith("-Xplugin:")) {
+                plugin = arg.substring("-Xplugin:".length()).trim();
+            } else if (arg.endsWith(".java") && !arg.startsWith("-")) {
+                sources.add(new File(arg));
+            } else {
+                options.add(arg);
+            }
+        }
+        this.listener.forget();
+        int code;
+        try {
+            final StandardJavaFileManager manager = this.files.files(options);
+            final JavacTask task = (JavacTask) this.javac.getTask(
+                new PrintWriter(this.out, true), manager, this.listener,
+                options, null, manager.getJavaFileObjectsFromFiles(sources)
+            );
+            if (!plugin.isEmpty()) {
+                final String[] parts = ForkedJavac.SPACES.split(plugin);
+                this.plugin(path, parts[0]).getDeclaredConstructor()
+                    .newInstance()
+                    .init(task, Arrays.copyOfRange(parts, 1, parts.length));
+            }
+            if (task.call()) {
+                code = 0;
+            } else {
+                code = 1;
+            }
+        } catch (final IllegalArgumentException | IllegalStateException
+            | UncheckedIOException | ReflectiveOperationException
+            | LinkageError ex) {
+            this.out.println(
+                String.join(
+                    "\t", DiagnosticLine.MARK, "ERROR", "", "0", "0", "",
+                    DiagnosticLine.escaped(ex.toString())
+                )
+            );
+            code = 2;
+        }
+        return code;
+    }
+
+    private Class<? extends Plugin> plugin(final String path, final String name) {
+        final String key = String.join(File.pathSeparator, path, name);
+        Class<? extends Plugin> plugin = this.plugins.get(key);
+        if (plugin == null) {
+            final List<URL> urls = new ArrayList<>(0);
+            for (final String entry : path.split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    try {
+                        urls.add(new File(entry).toURI().toURL());
+                    } catch (final MalformedURLException ex) {
+                        throw new IllegalArgumentException(ex);
+                    }
+                }
+            }
+            for (final Plugin found : ServiceLoader.load(
+                Plugin.class,
+                new URLClassLoader(
+                    urls.toArray(new URL[0]), ForkedJavac.class.getClassLoader()
+                )
+            )) {
+                if (found.getName().equals(name)) {
+                    plugin = found.getClass();
+                }
+            }
+            if (plugin == null) {
+                throw new IllegalStateException(
+                    String.format("Plugin not found: %s", name)
+                );
+            }
+            this.plugins.put(key, plugin);
+        }
+        return plugin;
+    }
+
+    private static List<String> expanded(final List<String> args)
+        throws IOException {
+        final List<String> all = new ArrayList<>(args.size());
+        for (final String arg : args) {
+            if (arg.startsWith("@")) {
+                for (final String line : Files.readAllLines(
+                    Paths.get(arg.substring(1)), StandardCharsets.UTF_8
+                )) {
+                    final String token = ForkedJavac.token(line.trim());
+                    if (!token.isEmpty()) {
+                        all.add(token);
+                    }
+                }
+            } else {
+                all.add(arg);
+            }
+        }
+        return all;
+    }
+
+    private static String token(final String line) {
+        final String token;
+        if (line.length() >= 2 && line.startsWith("\"") && line.endsWith("\"")) {
+            final StringBuilder out = new StringBuilder(line.length());
+            for (int idx = 1; idx < line.length() - 1; ++idx) {
+                char chr = line.charAt(idx);
+                if (chr == '\\' && idx + 1 < line.length() - 1) {
+                    idx += 1;
+                    chr = line.charAt(idx);
+                }
+                out.append(chr);
+            }
+            token = out.toString();
+        } else {
+            token = line;
+        }
+        return token;
+    }
+}
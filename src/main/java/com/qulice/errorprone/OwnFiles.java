@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.util.Set;
+
+/**
+ * Reporter that hands over only the violations of the files of a chunk,
+ * dropping the ones it finds in the sources it reads from the
+ * {@code -sourcepath}.
+ *
+ * <p>An empty set of files hands over all the violations, since the pass
+ * then has all the sources of its root.</p>
+ *
+ * @since 1.0
+ */
+final class OwnFiles implements Reporter {
+
+    /**
+     * Where to hand the violations.
+     */
+    private final Reporter origin;
+
+    /**
+     * Absolute paths of the files of the chunk, empty for all of them.
+     */
+    private final Set<String> sources;
+
+    /**
+     * Constructor.
+     * @param origin Where to hand the violations
+     * @param sources Absolute paths of the files, empty for all of them
+     */
+    OwnFiles(final Reporter origin, final Set<String> sources) {
+        this.origin = origin;
+        this.sources = sources;
+    }
+
+    @Override
+    public void report(final Violation violation) {
+        if (this.sources.isEmpty() || this.sources.contains(violation.file())) {
+            this.origin.report(violation);
+        }
+    }
+
+    @Override
+    public void close() {
+        // intentionally empty
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.google.errorprone.ErrorProneOptions;
+import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The {@code -processorpath} of a forked {@code javac}: ErrorProne and
+ * the jars it needs at runtime, and nothing else.
+ *
+ * <p>The class loaders of the plugin hold Checkstyle, PMD, Maven and
+ * all their dependencies too, and a {@code javac} given all of them opens
+ * and indexes every one in every batch. So the jars are picked the way
+ * Maven picked them for ErrorProne: starting at {@code error_prone_core},
+ * every compile or runtime dependency its {@code pom.xml} declares, and
+ * every one of theirs, is found among the candidates by group and
+ * artifact, whatever version Maven settled on. A jar knows which artifact
+ * it is by the {@code META-INF/maven} directory Maven put in it. The jars
+ * of the classes the plugin itself hands to ErrorProne are always kept,
+ * and when no candidate is {@code error_prone_core} at all, all of them
+ * are kept, as before. The dependencies a {@code pom.xml} inherits are
+ * read from the {@code .pom} files of its parents in the local
+ * repository the jar sits in. A jar that ErrorProne needs and the walk
+ * misses would fail the fork with a {@link NoClassDefFoundError}, so
+ * when a parent can't be found, or a dependency is named with a property
+ * that can't be told, all the candidates are kept too. The path is
+ * worked out once per JVM for the same candidates, so every batch of
+ * every module gets it for free.</p>
+ *
+ * @since 1.0
+ */
+final class ProcessorPath {
+
+    /**
+     * The artifact to start from.
+     */
+    private static final String ROOT = "com.google.errorprone:error_prone_core";
+
+    /**
+     * Classes whose jars are always on the path.
+     */
+    private static final List<Class<?>> ANCHORS = List.of(
+        BuiltInCheckerSuppliers.class,
+        ErrorProneOptions.class,
+        javax.inject.Inject.class
+    );
+
+    /**
+     * Entry of a jar with the {@code pom.xml} Maven put in it, with the
+     * group and the artifact.
+     */
+    private static final Pattern POM = Pattern.compile(
+        "META-INF/maven/([^/]+)/([^/]+)/pom\\.xml"
+    );
+
+    /**
+     * Scopes of the dependencies that are needed at runtime.
+     */
+    private static final Set<String> SCOPES = Set.of("", "compile", "runtime");
+
+    /**
+     * Paths already worked out in this JVM, by their candidates.
+     */
+    private static final Map<String, String> PATHS = new ConcurrentHashMap<>(1);
+
+    /**
+     * Absolute paths of the jars and directories to pick from.
+     */
+    private final Collection<String> candidates;
+
+    /**
+     * Constructor.
+     * @param candidates Absolute paths of the jars and directories to
+     *  pick from
+     */
+    ProcessorPath(final Collection<String> candidates) {
+        this.candidates = candidates;
+    }
+
+    /**
+     * The path.
+     * @return Absolute paths of the jars, separated by the path separator
+     */
+    String value() {
+        return ProcessorPath.PATHS.computeIfAbsent(
+            String.join(File.pathSeparator, this.candidates),
+            key -> this.minimal()
+        );
+    }
+
+    private String minimal() {
+        final Map<String, String> jars = new HashMap<>(this.candidates.size());
+        final Map<String, Collection<String>> deps =
+            new HashMap<>(this.candidates.size());
+        final Set<String> unknown = new HashSet<>(0);
+        for (final String candidate : this.candidates) {
+            final File file = new File(candidate);
+            if (file.isFile()) {
+                ProcessorPath.index(file, jars, deps, unknown);
+            }
+        }
+        final Set<String> path = new LinkedHashSet<>(0);
+        boolean complete = jars.containsKey(ProcessorPath.ROOT);
+        if (complete) {
+            final Deque<String> queue = new ArrayDeque<>(0);
+            queue.add(ProcessorPath.ROOT);
+            final Set<String> seen = new HashSet<>(0);
+            while (!queue.isEmpty()) {
+                final String artifact = queue.pop();
+                if (seen.add(artifact) && jars.containsKey(artifact)) {
+                    path.add(jars.get(artifact));
+                    queue.addAll(deps.getOrDefault(artifact, List.of()));
+                    complete = complete && !unknown.contains(artifact);
+                }
+            }
+        }
+        if (!complete) {
+            path.clear();
+            path.addAll(this.candidates);
+        }
+        for (final Class<?> anchor : ProcessorPath.ANCHORS) {
+            final CodeSource source = anchor.getProtectionDomain().getCodeSource();
+            if (source != null && source.getLocation() != null) {
+                new Unencoded(source.getLocation()).path().ifPresent(path::add);
+            }
+        }
+        Logger.debug(
+            ProcessorPath.class,
+            "ErrorProne processor path has %d of %d candidates",
+            path.size(), this.candidates.size()
+        );
+        return String.join(File.pathSeparator, path);
+    }
+
+    private static void index(final File file, final Map<String, String> jars,
+        final Map<String, Collection<String>> deps, final Set<String> unknown) {
+        try (JarFile jar = new JarFile(file)) {
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                final Matcher matcher = ProcessorPath.POM.matcher(entry.getName());
+                if (matcher.matches()) {
+                    final String artifact = String.format(
+                        "%s:%s", matcher.group(1), matcher.group(2)
+                    );
+                    jars.putIfAbsent(artifact, file.getAbsolutePath());
+                    try (InputStream stream = jar.getInputStream(entry)) {
+                        final Collection<String> found = new ArrayList<>(0);
+                        final boolean complete = ProcessorPath.dependencies(
+                            new XMLDocument(
+                                new String(
+                                    stream.readAllBytes(), StandardCharsets.UTF_8
+                                )
+                            ),
+                            matcher.group(1),
+                            ProcessorPath.repository(
+                                file, matcher.group(1), matcher.group(2)
+                            ),
+                            found
+                        );
+                        deps.put(artifact, found);
+                        if (!complete) {
+                            unknown.add(artifact);
+                        }
+                    }
+                }
+            }
+        } catch (final IOException | IllegalArgumentException ex) {
+            Logger.debug(
+                ProcessorPath.class, "Cannot index %s: %s", file, ex.getMessage()
+            );
+        }
+    }
+
+    private static boolean dependencies(final XML pom, final String group,
+        final File repo, final Collection<String> found) throws IOException {
+        boolean complete = true;
+        for (final XML dep : pom.nodes(
+            "/*[local-name()='project']/*[local-name()='dependencies']/*[local-name()='dependency']"
+        )) {
+            final String scope = ProcessorPath.text(dep, "scope");
+            if (ProcessorPath.SCOPES.contains(scope)
+                && !"true".equals(ProcessorPath.text(dep, "optional"))) {
+                final String coords = String.format(
+                    "%s:%s",
+                    ProcessorPath.text(dep, "groupId")
+                        .replace("${project.groupId}", group)
+                        .replace("${groupId}", group),
+                    ProcessorPath.text(dep, "artifactId")
+                );
+                complete = complete && !coords.contains("${");
+                found.add(coords);
+            }
+        }
+        final List<XML> parents = pom.nodes(
+            "/*[local-name()='project']/*[local-name()='parent']"
+        );
+        if (!parents.isEmpty()) {
+            final String artifact = ProcessorPath.text(parents.get(0), "artifactId");
+            final String version = ProcessorPath.text(parents.get(0), "version");
+            final File parent = new File(
+                repo,
+                String.format(
+                    "%s/%s/%s/%s-%s.pom",
+                    ProcessorPath.text(parents.get(0), "groupId").replace('.', '/'),
+                    artifact, version, artifact, version
+                )
+            );
+            if (parent.isFile()) {
+                complete = ProcessorPath.dependencies(
+                    new XMLDocument(parent), group, repo, found
+                ) && complete;
+            } else {
+                complete = false;
+            }
+        }
+        return complete;
+    }
+
+    private static File repository(final File jar, final String group,
+        final String artifact) {
+        final List<String> names = new ArrayList<>(Arrays.asList(group.split("\\.")));
+        names.add(artifact);
+        File dir = jar.getAbsoluteFile().getParentFile();
+        boolean matches = dir != null;
+        for (int idx = names.size() - 1; matches && idx >= 0; --idx) {
+            dir = dir.getParentFile();
+            matches = dir != null && names.get(idx).equals(dir.getName());
+        }
+        File repo = new File("");
+        if (matches && dir.getParentFile() != null) {
+            repo = dir.getParentFile();
+        }
+        return repo;
+    }
+
+    private static String text(final XML node, final String name) {
+        final List<String> texts = node.xpath(
+            String.format("*[local-name()='%s']/text()", name)
+        );
+        final String text;
+        if (texts.isEmpty()) {
+            text = "";
+        } else {
+            text = texts.get(0).trim();
+        }
+        return text;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class Data Sharing archive of a forked {@code javac} that runs
+ * ErrorProne.
+ *
+ * <p>Every fork loads the same thousands of classes of {@code javac} and
+ * the JDK, so one fork dumps them into an archive and every later one
+ * maps the archive instead. The classes of ErrorProne itself are not in
+ * it, since the fork loads them from the processor path with a class
+ * loader of its own, which a dynamic archive doesn't cover. The archive
+ * is named by a hash of the JVM and the processor path, so a new JDK or
+ * a new ErrorProne gets an archive of its own and never a stale one.
+ * From Java 19 on the JVM creates the archive on its own, and recreates
+ * it if it no longer fits. Before that, the JVM writes it at exit right
+ * into its place, so only the fork that claims the lock file of the
+ * archive dumps it, and is the only fork of its command, see
+ * {@link #dumping(List)}, while the others run without an archive until
+ * it is there; a lock a day old whose archive never came is given up. A
+ * JVM that can't map an archive runs without it, so the worst case is a
+ * fork as slow as without this option.</p>
+ *
+ * <p>The archives of older JDKs and older ErrorProne versions would pile
+ * up in the directory, so it keeps only the few used last, touched
+ * whenever they are used, and deletes the rest.</p>
+ *
+ * @since 1.0
+ */
+final class SharedArchive {
+
+    /**
+     * The first Java version that creates archives on its own.
+     */
+    private static final int AUTO = 19;
+
+    /**
+     * The flag that makes a JVM dump the archive at exit.
+     */
+    private static final String DUMP = "-XX:ArchiveClassesAtExit=";
+
+    /**
+     * How many archives to keep.
+     */
+    private static final int KEEP = 4;
+
+    /**
+     * Milliseconds after which a lock whose archive never came is given up.
+     */
+    private static final long STALE = TimeUnit.DAYS.toMillis(1L);
+
+    /**
+     * Directory of the archives.
+     */
+    private final File dir;
+
+    /**
+     * Processor path of the fork.
+     */
+    private final String path;
+
+    /**
+     * Constructor.
+     * @param dir Directory of the archives
+     * @param path Processor path of the fork
+     */
+    SharedArchive(final File dir, final String path) {
+        this.dir = dir;
+        this.path = path;
+    }
+
+    /**
+     * JVM flags of the fork, without the {@code -J} prefix.
+     * @return The flags
+     */
+    List<String> flags() {
+        if (!this.dir.exists() && !this.dir.mkdirs()) {
+            throw new IllegalStateException(
+                String.format("Unable to create %s", this.dir)
+            );
+        }
+        final File archive = new File(
+            this.dir, String.format("errorprone-%s.jsa", this.hash())
+        );
+        final File lock = new File(
+            this.dir, String.format("errorprone-%s.lock", this.hash())
+        );
+        final List<String> flags;
+        if (Runtime.version().feature() >= SharedArchive.AUTO) {
+            flags = List.of(
+                "-XX:+AutoCreateSharedArchive",
+                String.format("-XX:SharedArchiveFile=%s", archive.getAbsolutePath())
+            );
+        } else if (archive.isFile()) {
+            flags = List.of(
+                String.format("-XX:SharedArchiveFile=%s", archive.getAbsolutePath())
+            );
+        } else if (SharedArchive.claimed(lock)) {
+            flags = List.of(SharedArchive.DUMP.concat(archive.getAbsolutePath()));
+        } else {
+            flags = List.of();
+        }
+        if (archive.isFile()) {
+            archive.setLastModified(System.currentTimeMillis());
+            lock.delete();
+        }
+        this.prune(archive);
+        return flags;
+    }
+
+    /**
+     * Do these flags dump the archive at exit?
+     * @param flags Flags of the fork
+     * @return TRUE if only one fork may run with them
+     */
+    static boolean dumping(final List<String> flags) {
+        boolean dumping = false;
+        for (final String flag : flags) {
+            dumping = dumping || flag.startsWith(SharedArchive.DUMP);
+        }
+        return dumping;
+    }
+
+    private void prune(final File used) {
+        final File[] files = this.dir.listFiles(
+            (parent, name) -> name.endsWith(".jsa")
+        );
+        if (files != null && files.length > SharedArchive.KEEP) {
+            Arrays.sort(
+                files,
+                Comparator.comparingLong(File::lastModified).reversed()
+            );
+            for (final File file : Arrays.copyOfRange(
+                files, SharedArchive.KEEP, files.length
+            )) {
+                if (!file.equals(used)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+    private static boolean claimed(final File lock) {
+        if (lock.isFile()
+            && System.currentTimeMillis() - lock.lastModified() > SharedArchive.STALE) {
+            lock.delete();
+        }
+        final boolean claimed;
+        try {
+            claimed = lock.createNewFile();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Unable to create %s", lock), ex
+            );
+        }
+        return claimed;
+    }
+
+    private String hash() {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(
+                String.format(
+                    "%s|%s|%s", System.getProperty("java.home"),
+                    System.getProperty("java.vm.version"), this.path
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final StringBuilder hex = new StringBuilder(0);
+        for (int idx = 0; idx < 8; ++idx) {
+            hex.append(String.format("%02x", hash[idx]));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+
+/**
+ * File managers that the compilations of one {@link ForkedJavac} worker
+ * share.
+ *
+ * <p>A file manager opens every jar of the classpath once and keeps it
+ * open, which is most of what a compilation of a small module costs, and
+ * the modules of a reactor build mostly share their jars. So a file
+ * manager is kept for every set of the flags that choose the platform
+ * classes, {@code --release}, {@code -source} and {@code -target}, which
+ * a file manager keeps as much as it keeps the jars. The options of a
+ * compilation set the locations of the file manager they name and leave
+ * the others as they were, so every location an option may set, the
+ * classpath, the sourcepath of a chunk, the output directories and the
+ * processor and module paths, is cleared before every compilation. A
+ * sourcepath left over from a chunk of one module would otherwise make
+ * the next module compile, and report, its sources instead of its jar. A
+ * jar that changed since a file manager opened it, such as the jar of a
+ * module built again by a later build of a Maven daemon, makes the file
+ * manager go away with all it has open.</p>
+ *
+ * @since 1.0
+ */
+final class SharedFiles {
+
+    /**
+     * Options that choose the platform classes.
+     */
+    private static final Set<String> PLATFORM = Set.of(
+        "--release", "-source", "-target"
+    );
+
+    /**
+     * Locations that the options of a compilation may set, and that are
+     * reset to what a new file manager has before the next one. The
+     * module source path is left alone, since no option qulice passes
+     * sets it and a file manager can't unset it.
+     */
+    private static final List<StandardLocation> RESET = List.of(
+        StandardLocation.SOURCE_PATH,
+        StandardLocation.CLASS_OUTPUT,
+        StandardLocation.SOURCE_OUTPUT,
+        StandardLocation.NATIVE_HEADER_OUTPUT,
+        StandardLocation.ANNOTATION_PROCESSOR_PATH,
+        StandardLocation.MODULE_PATH,
+        StandardLocation.UPGRADE_MODULE_PATH
+    );
+
+    /**
+     * The compiler.
+     */
+    private final JavaCompiler javac;
+
+    /**
+     * Listener of the diagnostics.
+     */
+    private final DiagnosticListener<JavaFileObject> listener;
+
+    /**
+     * File managers, by the options that choose the platform classes.
+     */
+    private final Map<String, StandardJavaFileManager> managers;
+
+    /**
+     * Sizes and modification times of the jars seen, by their paths.
+     */
+    private final Map<String, String> stamps;
+
+    /**
+     * Constructor.
+     * @param javac The compiler
+     * @param listener Listener of the diagnostics
+     */
+    SharedFiles(final JavaCompiler javac,
+        final DiagnosticListener<JavaFileObject> listener) {
+        this.javac = javac;
+        this.listener = listener;
+        this.managers = new HashMap<>(1);
+        this.stamps = new HashMap<>(0);
+    }
+
+    /**
+     * File manager of a compilation.
+     * @param options Options of the compilation
+     * @return The file manager, with no classpath and no other location
+     *  an option may set
+     */
+    StandardJavaFileManager files(final List<String> options) {
+        final StringBuilder platform = new StringBuilder(0);
+        for (int idx = 0; idx < options.size(); ++idx) {
+            final String option = options.get(idx);
+            if ("-classpath".equals(option) && idx + 1 < options.size()) {
+                this.check(options.get(idx + 1));
+            }
+            if (SharedFiles.PLATFORM.contains(option) && idx + 1 < options.size()) {
+                platform.append(option).append(' ').append(options.get(idx + 1))
+                    .append(' ');
+            }
+        }
+        final StandardJavaFileManager files = this.managers.computeIfAbsent(
+            platform.toString(),
+            key -> this.javac.getStandardFileManager(
+                this.listener, null, StandardCharsets.UTF_8
+            )
+        );
+        try {
+            files.setLocation(StandardLocation.CLASS_PATH, List.of());
+            for (final StandardLocation location : SharedFiles.RESET) {
+                files.setLocation(location, null);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return files;
+    }
+
+    private void check(final String classpath) {
+        boolean stale = false;
+        for (final String entry : classpath.split(File.pathSeparator)) {
+            final File file = new File(entry);
+            if (file.isFile()) {
+                final String stamp = String.format(
+                    "%d:%d", file.length(), file.lastModified()
+                );
+                final String before = this.stamps.put(entry, stamp);
+                if (before != null && !before.equals(stamp)) {
+                    stale = true;
+                }
+            }
+        }
+        if (stale) {
+            for (final StandardJavaFileManager files : this.managers.values()) {
+                try {
+                    files.close();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            this.managers.clear();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A forked JVM that runs {@link ForkedJavac} as a worker, one
+ * compilation after another.
+ *
+ * <p>It is sent the path of an argfile and answers with the lines of the
+ * diagnostics, read by {@link Diagnostics} as they arrive, and a line
+ * with the exit code of {@code javac}. A worker that compiled nothing
+ * and failed gets a violation of its own, so a failure never goes
+ * unnoticed. Closing it ends its input, which makes it exit.</p>
+ *
+ * <p>A compilation that takes longer than the timeout kills the worker,
+ * so a hung {@code javac} never blocks the build for ever. A worker that
+ * is gone before it answered anything, because it died while it waited
+ * for the compilation, fails with an {@link EOFException}, which tells
+ * {@link Workers} that a fresh one may try again.</p>
+ *
+ * @since 1.0
+ */
+final class Worker {
+
+    /**
+     * Kills the workers that take too long.
+     */
+    private static final ScheduledExecutorService WATCHDOG =
+        Executors.newSingleThreadScheduledExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "qulice-errorprone-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * The process.
+     */
+    private final Process process;
+
+    /**
+     * Its input.
+     */
+    private final Writer input;
+
+    /**
+     * Its output, with its errors.
+     */
+    private final BufferedReader output;
+
+    /**
+     * Compilations done.
+     */
+    private final AtomicInteger done;
+
+    /**
+     * Most milliseconds of one compilation.
+     */
+    private final long timeout;
+
+    /**
+     * Constructor.
+     * @param command Command that starts it
+     * @param timeout Most milliseconds of one compilation
+     * @throws IOException If it can't be started
+     */
+    Worker(final List<String> command, final long timeout) throws IOException {
+        this.process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .start();
+        this.input = new OutputStreamWriter(
+            this.process.getOutputStream(), StandardCharsets.UTF_8
+        );
+        this.output = new BufferedReader(
+            new InputStreamReader(
+                this.process.getInputStream(), StandardCharsets.UTF_8
+            )
+        );
+        this.done = new AtomicInteger();
+        this.timeout = timeout;
+    }
+
+    /**
+     * Compile.
+     * @param argfile Argfile of {@code javac}
+     * @param diagnostics Reader of the diagnostics
+     * @return Violations found
+     * @throws IOException If the worker is gone
+     */
+    Collection<Violation> run(final File argfile, final Diagnostics diagnostics)
+        throws IOException {
+        final Collection<Violation> violations = new ArrayList<>(0);
+        this.run(argfile, diagnostics, new Reporter.Collected(violations));
+        return violations;
+    }
+
+    /**
+     * Compile, handing every violation to the reporter as soon as the
+     * worker prints its diagnostic.
+     * @param argfile Argfile of {@code javac}
+     * @param diagnostics Reader of the diagnostics
+     * @param reporter Where to hand the violations
+     * @throws IOException If the worker is gone
+     */
+    void run(final File argfile, final Diagnostics diagnostics,
+        final Reporter reporter) throws IOException {
+        try {
+            this.input.write(String.format("@%s%n", argfile.getAbsolutePath()));
+            this.input.flush();
+        } catch (final IOException ex) {
+            throw new EOFException(
+                String.format(
+                    "ErrorProne worker is gone before compiling %s: %s",
+                    argfile, ex.getMessage()
+                )
+            );
+        }
+        final AtomicBoolean expired = new AtomicBoolean();
+        final ScheduledFuture<?> watch = Worker.WATCHDOG.schedule(
+            () -> {
+                expired.set(true);
+                this.kill();
+            },
+            this.timeout, TimeUnit.MILLISECONDS
+        );
+        int found = 0;
+        final String done = ForkedJavac.DONE.concat("\t");
+        final String first;
+        String line;
+        try {
+            first = this.output.readLine();
+            line = first;
+            while (line != null && !line.startsWith(done)) {
+                final Optional<Violation> violation = diagnostics.violation(line);
+                if (violation.isPresent()) {
+                    reporter.report(violation.get());
+                    found += 1;
+                }
+                line = this.output.readLine();
+            }
+        } finally {
+            watch.cancel(false);
+        }
+        if (expired.get()) {
+            throw new IOException(
+                String.format(
+                    "ErrorProne worker took more than %d ms to compile %s",
+                    this.timeout, argfile
+                )
+            );
+        }
+        if (first == null) {
+            throw new EOFException(
+                String.format(
+                    "ErrorProne worker is gone before compiling %s", argfile
+                )
+            );
+        }
+        if (line == null) {
+            throw new IOException(
+                String.format(
+                    "ErrorProne worker exited while compiling %s", argfile
+                )
+            );
+        }
+        final int code = Integer.parseInt(line.substring(done.length()).trim());
+        if (code != 0 && found == 0) {
+            reporter.report(diagnostics.failure(code));
+        }
+        this.done.incrementAndGet();
+    }
+
+    /**
+     * How many compilations it has done.
+     * @return The number of them
+     */
+    int jobs() {
+        return this.done.get();
+    }
+
+    /**
+     * Let it exit.
+     */
+    void close() {
+        try {
+            this.input.close();
+        } catch (final IOException ex) {
+            this.process.destroy();
+        }
+    }
+
+    /**
+     * Stop it now.
+     */
+    void kill() {
+        this.process.destroyForcibly();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of ErrorProne workers, kept warm for the whole JVM.
+ *
+ * <p>A {@link Worker} starts cold: the JVM loads {@code javac} and
+ * ErrorProne, opens the jars of the classpath and runs it all in the
+ * interpreter before the JIT catches up. A worker stays usable after a
+ * compilation, so instead of being let go it goes back to the pool of
+ * its command, and the next batch with the same command, in the next
+ * module of a reactor build or the next build of a Maven daemon, takes it
+ * from there, with its classes loaded and compiled and its jars open. A
+ * worker compiles one batch at a time: the pool holds as many of them as
+ * there were batches at once. A worker that broke down is stopped,
+ * since its state is unknown, and every worker is let go after as many
+ * compilations as it is given, {@link #JOBS} unless reuse is off, so the
+ * heap of none of them grows for ever.</p>
+ *
+ * <p>A worker of the pool may die while it waits, killed for memory or
+ * crashed, so one that is gone before it answered anything is replaced
+ * by a fresh one, once. A worker that waited in the pool for
+ * {@link #LINGER} minutes is let go too, so a Maven daemon doesn't keep
+ * the workers of its busiest build for as long as it lives.</p>
+ *
+ * @since 1.0
+ */
+final class Workers {
+
+    /**
+     * Most compilations of one worker, when workers are reused.
+     */
+    static final int JOBS = 100;
+
+    /**
+     * Minutes a worker waits in the pool before it is let go.
+     */
+    private static final long LINGER = 5L;
+
+    /**
+     * Idle workers, by their commands.
+     */
+    private static final Map<List<String>, Queue<Worker>> IDLE =
+        new ConcurrentHashMap<>(1);
+
+    /**
+     * Lets go of the workers that waited too long.
+     */
+    private static final ScheduledExecutorService REAPER =
+        Executors.newSingleThreadScheduledExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "qulice-errorprone-reaper");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * Command that starts a worker.
+     */
+    private final List<String> command;
+
+    /**
+     * Most compilations of one worker.
+     */
+    private final int jobs;
+
+    /**
+     * Most milliseconds of one compilation.
+     */
+    private final long timeout;
+
+    /**
+     * Constructor.
+     * @param command Command that starts a worker
+     * @param jobs Most compilations of one worker, one to not reuse them
+     * @param timeout Most milliseconds of one compilation
+     */
+    Workers(final List<String> command, final int jobs, final long timeout) {
+        this.command = List.copyOf(command);
+        this.jobs = jobs;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Compile with a worker of the pool.
+     * @param argfile Argfile of {@code javac}
+     * @param diagnostics Reader of the diagnostics
+     * @return Violations found
+     */
+    Collection<Violation> run(final File argfile, final Diagnostics diagnostics) {
+        final Collection<Violation> violations = new ArrayList<>(0);
+        this.run(argfile, diagnostics, new Reporter.Collected(violations));
+        return violations;
+    }
+
+    /**
+     * Compile with a worker of the pool, handing every violation to the
+     * reporter as soon as the worker finds it.
+     * @param argfile Argfile of {@code javac}
+     * @param diagnostics Reader of the diagnostics
+     * @param reporter Where to hand the violations
+     */
+    void run(final File argfile, final Diagnostics diagnostics,
+        final Reporter reporter) {
+        final Queue<Worker> idle = this.idle();
+        Worker worker = idle.poll();
+        final boolean pooled = worker != null;
+        try {
+            if (worker == null) {
+                worker = new Worker(this.command, this.timeout);
+            }
+            try {
+                worker.run(argfile, diagnostics, reporter);
+            } catch (final EOFException ex) {
+                if (!pooled) {
+                    throw ex;
+                }
+                worker.kill();
+                worker = new Worker(this.command, this.timeout);
+                worker.run(argfile, diagnostics, reporter);
+            }
+        } catch (final IOException ex) {
+            if (worker != null) {
+                worker.kill();
+            }
+            throw new IllegalStateException(
+                String.format("Unable to run ErrorProne on %s", argfile), ex
+            );
+        }
+        if (worker.jobs() < this.jobs) {
+            this.park(idle, worker);
+        } else {
+            worker.close();
+        }
+    }
+
+    /**
+     * How many workers of this command wait in the pool.
+     * @return The number of them
+     */
+    int waiting() {
+        return this.idle().size();
+    }
+
+    private Queue<Worker> idle() {
+        return Workers.IDLE.computeIfAbsent(
+            this.command, key -> new ConcurrentLinkedQueue<>()
+        );
+    }
+
+    private void park(final Queue<Worker> idle, final Worker worker) {
+        final int done = worker.jobs();
+        idle.offer(worker);
+        Workers.REAPER.schedule(
+            () -> {
+                if (worker.jobs() == done && idle.remove(worker)) {
+                    worker.close();
+                }
+            },
+            Workers.LINGER, TimeUnit.MINUTES
+        );
+    }
+}
@@ -8,6 +8,8 @@ import com.google.errorprone.ErrorProneOptions;
 import com.google.errorprone.scanner.BuiltInCheckerSuppliers;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -61,6 +63,13 @@ public final class Xplugin {
      */
     private static final Pattern SEPARATOR = Pattern.compile("[\\s,]+");
 
+    /**
+     * Numbers of the bug patterns that fire, by the flags, counted in this
+     * JVM.
+     */
+    private static final Map<List<String>, Integer> COUNTS =
+        new ConcurrentHashMap<>(1);
+
     /**
      * The flags of the project, as it wrote them.
      */
@@ -102,13 +111,20 @@ public final class Xplugin {
      * switches off leaves the count and one the project switches back on
      * rejoins it.</p>
      *
+     * <p>Building the checks of ErrorProne to count them takes a while, so
+     * the count is kept for the rest of the JVM's life, and every module
+     * of a reactor build with the same flags gets it from there.</p>
+     *
      * @return The number of bug patterns that judge every file
      */
     public int patterns() {
-        return BuiltInCheckerSuppliers.defaultChecks()
-            .applyOverrides(ErrorProneOptions.processArgs(this.flags()))
-            .getEnabledChecks()
-            .size();
+        return Xplugin.COUNTS.computeIfAbsent(
+            List.copyOf(this.flags()),
+            flags -> BuiltInCheckerSuppliers.defaultChecks()
+                .applyOverrides(ErrorProneOptions.processArgs(flags))
+                .getEnabledChecks()
+                .size()
+        );
     }
 
     private List<String> flags() {
@@ -5,6 +5,7 @@
 package com.qulice.maven;
 
 import com.jcabi.log.Logger;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import javax.inject.Inject;
@@ -31,6 +32,24 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
      */
     private static final String ERRORPRONE = "qulice.errorprone";
 
+    /**
+     * Name of the parameter that asks {@code CheckstyleValidator} to time
+     * every check.
+     */
+    private static final String PROFILE = "qulice.checkstyle-profile";
+
+    /**
+     * Name of the parameter that asks {@code ErrorProneValidator} for a
+     * Class Data Sharing archive of its forked {@code javac}.
+     */
+    private static final String CDS = "qulice.errorprone-cds";
+
+    /**
+     * Name of the parameter that carries the extra enforcer rules of the
+     * project down to {@code EnforcerValidator}.
+     */
+    private static final String ENFORCER = "qulice.enforcer";
+
     /**
      * Environment to pass to validators.
      */
@@ -86,6 +105,30 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
     )
     private final Collection<String> errorprone;
 
+    /**
+     * Shall we time every Checkstyle check and report the slowest ones?
+     */
+    @Parameter(property = AbstractQuliceMojo.PROFILE, defaultValue = "false")
+    private boolean profile;
+
+    /**
+     * Shall we share a Class Data Sharing archive among the forked
+     * ErrorProne {@code javac} processes?
+     */
+    @Parameter(property = AbstractQuliceMojo.CDS, defaultValue = "false")
+    private boolean cds;
+
+    /**
+     * List of maven-enforcer-plugin rules to check on top of the default
+     * ones, e.g. {@code requireJavaVersion:[11,)} or
+     * {@code banDuplicatePomDependencyVersions}.
+     */
+    @Parameter(
+        property = AbstractQuliceMojo.ENFORCER,
+        required = false
+    )
+    private final Collection<String> enforcer;
+
     /**
      * The source encoding.
      * @parameter expression="${project.build.sourceEncoding}" required="true"
@@ -101,6 +144,7 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
         this.excludes = new ArrayList<>(0);
         this.asserts = new ArrayList<>(0);
         this.errorprone = new ArrayList<>(0);
+        this.enforcer = new ArrayList<>(0);
     }
 
     /**
@@ -146,6 +190,31 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
         this.errorprone.addAll(flags);
     }
 
+    /**
+     * Set ErrorProne Class Data Sharing option.
+     * @param share The "errorprone-cds" option
+     */
+    public final void setCds(final boolean share) {
+        this.cds = share;
+    }
+
+    /**
+     * Set extra enforcer rules.
+     * @param rules Rules, e.g. {@code requireJavaVersion:[11,)}
+     */
+    public final void setEnforcer(final Collection<String> rules) {
+        this.enforcer.clear();
+        this.enforcer.addAll(rules);
+    }
+
+    /**
+     * Set Checkstyle profiling option.
+     * @param prof The "checkstyle-profile" option
+     */
+    public final void setProfile(final boolean prof) {
+        this.profile = prof;
+    }
+
     /**
      * Set source code encoding.
      * @param encoding Source code encoding
@@ -171,6 +240,11 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
         this.environment.setMojoExecutor(
             new MojoExecutor(this.manager, this.sess)
         );
+        if (this.sess != null && this.sess.getLocalRepository() != null) {
+            this.environment.setRepository(
+                new File(this.sess.getLocalRepository().getBasedir())
+            );
+        }
         this.environment.setExcludes(this.excludes);
         this.environment.setAssertion(this.asserts);
         this.environment.setEncoding(this.charset);
@@ -180,6 +254,18 @@ public abstract class AbstractQuliceMojo extends AbstractMojo
                 String.join(" ", this.errorprone)
             );
         }
+        if (this.profile) {
+            this.environment.setProperty(AbstractQuliceMojo.PROFILE, "true");
+        }
+        if (this.cds) {
+            this.environment.setProperty(AbstractQuliceMojo.CDS, "true");
+        }
+        if (!this.enforcer.isEmpty()) {
+            this.environment.setProperty(
+                AbstractQuliceMojo.ENFORCER,
+                String.join("\n", this.enforcer)
+            );
+        }
         Logger.info(
             this,
             "Qulice %s in %[ms]s",
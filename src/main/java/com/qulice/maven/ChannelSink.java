@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Text, written to a file through a buffered channel.
+ *
+ * <p>Keeps one direct buffer and writes it to the channel only when it
+ * gets full or the sink gets closed, so that a report with a line per
+ * violation costs a system call per buffer, not per line. The file is
+ * truncated when the sink opens it, and every write is thread-safe.
+ * A validator that timed out may still be running when the sink gets
+ * closed, so whatever it writes after that is dropped, rather than
+ * failing its thread with a {@link java.nio.channels.ClosedChannelException}.</p>
+ *
+ * @since 1.0
+ */
+final class ChannelSink implements Closeable {
+
+    /**
+     * Size of the buffer, in bytes.
+     */
+    private static final int SIZE = 64 * 1024;
+
+    /**
+     * The channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Where it writes to.
+     */
+    private final File file;
+
+    /**
+     * Constructor.
+     * @param file Where to write
+     */
+    ChannelSink(final File file) {
+        this.file = file;
+        final File dir = file.getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IllegalStateException(
+                String.format("Unable to create %s", dir)
+            );
+        }
+        try {
+            this.channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Unable to open %s", file), ex
+            );
+        }
+        this.buffer = ByteBuffer.allocateDirect(ChannelSink.SIZE);
+    }
+
+    /**
+     * Write this text.
+     * @param text The text
+     */
+    synchronized void write(final String text) {
+        if (this.channel.isOpen()) {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            try {
+                if (bytes.length > this.buffer.remaining()) {
+                    this.drain();
+                }
+                if (bytes.length > this.buffer.capacity()) {
+                    final ByteBuffer big = ByteBuffer.wrap(bytes);
+                    while (big.hasRemaining()) {
+                        this.channel.write(big);
+                    }
+                } else {
+                    this.buffer.put(bytes);
+                }
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(
+                    String.format("Unable to write to %s", this.file), ex
+                );
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel.isOpen()) {
+            try {
+                this.drain();
+            } finally {
+                this.channel.close();
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
@@ -5,16 +5,18 @@
 package com.qulice.maven;
 
 import com.jcabi.log.Logger;
+import com.qulice.spi.Reporter;
 import com.qulice.spi.ResourceValidator;
 import com.qulice.spi.ValidationException;
 import com.qulice.spi.Validator;
 import com.qulice.spi.Violation;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -39,6 +41,11 @@ import org.apache.maven.plugins.annotations.ResolutionScope;
 )
 public final class CheckMojo extends AbstractQuliceMojo {
 
+    /**
+     * How many violations may stay in memory, unless configured.
+     */
+    private static final int MEMORY = 10_000;
+
     /**
      * Executors for validators.
      */
@@ -60,6 +67,28 @@ public final class CheckMojo extends AbstractQuliceMojo {
     @Parameter(property = "qulice.check-timeout", defaultValue = "10")
     private String timeout;
 
+    /**
+     * How many violations may stay in memory before they get sorted and
+     * spilled to disk, under the {@code tempdir} of the build.
+     */
+    @Parameter(property = "qulice.violations-in-memory", defaultValue = "10000")
+    private int memory;
+
+    /**
+     * How many violations of one check to report, zero to report all of
+     * them. The rest are still counted and still fail the build.
+     */
+    @Parameter(property = "qulice.violations-per-check", defaultValue = "0")
+    private int cap;
+
+    /**
+     * Formats of the machine-readable reports to write to
+     * {@code target/qulice} while validators run, {@code jsonl} and
+     * {@code sarif} are supported.
+     */
+    @Parameter(property = "qulice.reports")
+    private final Collection<String> reports;
+
     /**
      * Default constructor.
      */
@@ -73,6 +102,8 @@ public final class CheckMojo extends AbstractQuliceMojo {
      */
     private CheckMojo(final ExecutorService svc) {
         this.executors = svc;
+        this.memory = CheckMojo.MEMORY;
+        this.reports = new ArrayList<>(0);
     }
 
     @Override
@@ -104,6 +135,31 @@ public final class CheckMojo extends AbstractQuliceMojo {
         this.timeout = time;
     }
 
+    /**
+     * Set how many violations may stay in memory.
+     * @param limit Number of violations
+     */
+    public void setViolationsInMemory(final int limit) {
+        this.memory = limit;
+    }
+
+    /**
+     * Set how many violations of one check to report.
+     * @param limit Number of violations, zero for all of them
+     */
+    public void setViolationsPerCheck(final int limit) {
+        this.cap = limit;
+    }
+
+    /**
+     * Set formats of the machine-readable reports.
+     * @param formats Formats, like {@code jsonl} or {@code sarif}
+     */
+    public void setReports(final Collection<String> formats) {
+        this.reports.clear();
+        this.reports.addAll(formats);
+    }
+
     /**
      * Filter files based on excludes.
      * @param env Maven environment
@@ -129,59 +185,27 @@ public final class CheckMojo extends AbstractQuliceMojo {
         return filtered;
     }
 
-    @SuppressWarnings("PMD.CognitiveComplexity")
     private String run() throws ValidationException {
-        final List<Violation> results = new ArrayList<>(0);
         final MavenEnvironment env = this.env();
         final ValidatorsProvider prov = this.validators(env);
         final Collection<ResourceValidator> resources = prov.externalResource();
         final Collection<File> files = env.files("*.*");
+        int total = 0;
         if (!files.isEmpty()) {
-            final Collection<Future<Collection<Violation>>> futures =
-                this.submit(env, files, resources);
-            for (final Future<Collection<Violation>> future : futures) {
-                try {
-                    if ("forever".equalsIgnoreCase(this.timeout)) {
-                        results.addAll(future.get());
-                    } else {
-                        final long value = this.timeoutValue();
-                        final TimeUnit units = this.timeoutUnits();
-                        Logger.debug(
-                            this,
-                            "Waiting up to %d %s for validator result",
-                            value,
-                            units
-                        );
-                        results.addAll(future.get(value, units));
-                    }
-                } catch (final InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException(ex);
-                } catch (final ExecutionException | TimeoutException ex) {
-                    throw new IllegalStateException(ex);
-                }
-            }
-            Collections.sort(results);
-            for (final Violation result : results) {
-                Logger.info(
-                    this,
-                    "%s: %s[%s]: %s (%s)",
-                    result.validator(),
-                    result.file().replace(
-                        String.format(
-                            "%s/", this.session().getExecutionRootDirectory()
-                        ),
-                        ""
-                    ),
-                    result.lines(),
-                    result.message(),
-                    result.name()
-                );
+            try (
+                Reporter reporter = this.reporter(env);
+                Violations results = new Violations(env, this.memory, this.cap)
+            ) {
+                this.collect(this.submit(env, files, resources, reporter, results));
+                this.report(results);
+                total = results.size();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
             }
         }
-        if (!results.isEmpty()) {
+        if (total > 0) {
             throw new ValidationException(
-                String.format("There are %d violations", results.size())
+                String.format("There are %d violations", total)
             );
         }
         for (final Validator validator : prov.external()) {
@@ -195,6 +219,66 @@ public final class CheckMojo extends AbstractQuliceMojo {
         return new Summary(files, resources).toString();
     }
 
+    private void collect(final Collection<Future<Integer>> futures) {
+        for (final Future<Integer> future : futures) {
+            try {
+                if ("forever".equalsIgnoreCase(this.timeout)) {
+                    future.get();
+                } else {
+                    final long value = this.timeoutValue();
+                    final TimeUnit units = this.timeoutUnits();
+                    Logger.debug(
+                        this,
+                        "Waiting up to %d %s for validator result",
+                        value,
+                        units
+                    );
+                    future.get(value, units);
+                }
+            } catch (final InterruptedException ex) {
+                CheckMojo.cancel(futures);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } catch (final ExecutionException | TimeoutException ex) {
+                CheckMojo.cancel(futures);
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    private static void cancel(final Collection<Future<Integer>> futures) {
+        for (final Future<Integer> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private void report(final Violations results) {
+        for (final Violation result : results) {
+            Logger.info(
+                this,
+                "%s: %s[%s]: %s (%s)",
+                result.validator(),
+                result.file().replace(
+                    String.format(
+                        "%s/", this.session().getExecutionRootDirectory()
+                    ),
+                    ""
+                ),
+                result.lines(),
+                result.message(),
+                result.name()
+            );
+        }
+        for (final Map.Entry<String, Integer> entry : results.dropped().entrySet()) {
+            Logger.info(
+                this,
+                "%s: %d more violations not shown",
+                entry.getKey(),
+                entry.getValue()
+            );
+        }
+    }
+
     private ValidatorsProvider validators(final MavenEnvironment env) {
         final ValidatorsProvider prov;
         if (this.provider == null) {
@@ -205,16 +289,29 @@ public final class CheckMojo extends AbstractQuliceMojo {
         return prov;
     }
 
-    private Collection<Future<Collection<Violation>>> submit(
+    private Reporter reporter(final MavenEnvironment env) {
+        final Reporter reporter;
+        if (this.reports.isEmpty()) {
+            reporter = new Reporter.None();
+        } else {
+            reporter = new Reporters(
+                new File(env.project().getBuild().getDirectory(), "qulice"),
+                this.reports
+            );
+        }
+        return reporter;
+    }
+
+    private Collection<Future<Integer>> submit(
         final MavenEnvironment env, final Collection<File> files,
-        final Collection<ResourceValidator> validators
+        final Collection<ResourceValidator> validators, final Reporter reporter,
+        final Violations results
     ) {
-        final Collection<Future<Collection<Violation>>> futures =
-            new ArrayList<>(validators.size());
+        final Collection<Future<Integer>> futures = new ArrayList<>(validators.size());
         for (final ResourceValidator validator : validators) {
             futures.add(
                 this.executors.submit(
-                    new ValidatorCallable(validator, env, files)
+                    new ValidatorCallable(validator, env, files, reporter, results)
                 )
             );
         }
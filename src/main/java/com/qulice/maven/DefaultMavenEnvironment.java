@@ -73,6 +73,11 @@ public final class DefaultMavenEnvironment implements MavenEnvironment {
      */
     private String charset;
 
+    /**
+     * Local Maven repository.
+     */
+    private File repo;
+
     /**
      * Default constructor.
      */
@@ -81,6 +86,12 @@ public final class DefaultMavenEnvironment implements MavenEnvironment {
         this.exc = new ArrayList<>(0);
         this.assertion = new ArrayList<>(0);
         this.charset = "UTF-8";
+        this.repo = new File(
+            System.getProperty(
+                "maven.repo.local",
+                new File(System.getProperty("user.home"), ".m2/repository").getPath()
+            )
+        );
     }
 
     @Override
@@ -199,6 +210,11 @@ public final class DefaultMavenEnvironment implements MavenEnvironment {
         return this.assertion;
     }
 
+    @Override
+    public File repository() {
+        return this.repo;
+    }
+
     @Override
     public Collection<File> files(final String pattern) {
         final Collection<File> files = new ArrayList<>(0);
@@ -268,6 +284,14 @@ public final class DefaultMavenEnvironment implements MavenEnvironment {
         this.exectr = exec;
     }
 
+    /**
+     * Set the local Maven repository.
+     * @param dir Its directory
+     */
+    public void setRepository(final File dir) {
+        this.repo = dir;
+    }
+
     /**
      * Set property.
      * @param name Its name
@@ -16,11 +16,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.stream.Stream;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalysis;
@@ -57,8 +54,10 @@ final class DependenciesValidator implements MavenValidator {
             Logger.info(this, "Dependency analysis suppressed in the project via pom.xml");
             return;
         }
+        final ProjectDependencyAnalysis analysis =
+            DependenciesValidator.analyze(env);
         final Collection<String> unused = Collections2.filter(
-            DependenciesValidator.unused(env),
+            DependenciesValidator.unused(env, analysis),
             Predicates.not(new ExcludePredicate(excludes))
         );
         if (!unused.isEmpty()) {
@@ -70,7 +69,7 @@ final class DependenciesValidator implements MavenValidator {
             );
         }
         final Collection<String> used = Collections2.filter(
-            DependenciesValidator.used(env),
+            DependenciesValidator.used(analysis),
             Predicates.not(new ExcludePredicate(excludes))
         );
         if (!used.isEmpty()) {
@@ -110,9 +109,8 @@ final class DependenciesValidator implements MavenValidator {
         }
     }
 
-    private static Collection<String> used(final MavenEnvironment env) {
-        final ProjectDependencyAnalysis analysis =
-            DependenciesValidator.analyze(env);
+    private static Collection<String> used(
+        final ProjectDependencyAnalysis analysis) {
         final Collection<String> used = new ArrayList<>(0);
         for (final Object artifact : analysis.getUsedUndeclaredArtifacts()) {
             used.add(artifact.toString());
@@ -120,17 +118,17 @@ final class DependenciesValidator implements MavenValidator {
         return used;
     }
 
-    private static Collection<String> unused(final MavenEnvironment env) {
-        final ProjectDependencyAnalysis analysis =
-            DependenciesValidator.analyze(env);
+    private static Collection<String> unused(final MavenEnvironment env,
+        final ProjectDependencyAnalysis analysis) {
         final Set<String> imports = DependenciesValidator.imports(env);
+        final JarIndex jars = new JarIndex(env.repository());
         final Collection<String> unused = new ArrayList<>(0);
         for (final Object obj : analysis.getUnusedDeclaredArtifacts()) {
             final Artifact artifact = (Artifact) obj;
             if (!Artifact.SCOPE_COMPILE.equals(artifact.getScope())) {
                 continue;
             }
-            if (DependenciesValidator.imported(imports, artifact)) {
+            if (DependenciesValidator.imported(imports, jars, artifact)) {
                 Logger.info(
                     DependenciesValidator.class,
                     "Dependency %s is imported in source and treated as used (annotations or inlined constants are invisible to bytecode analysis)",
@@ -202,16 +200,16 @@ final class DependenciesValidator implements MavenValidator {
     }
 
     private static boolean imported(final Set<String> imports,
-        final Artifact artifact) {
+        final JarIndex jars, final Artifact artifact) {
         final File file = artifact.getFile();
         boolean found = false;
         if (!imports.isEmpty() && file != null && file.isFile()) {
-            try (JarFile jar = new JarFile(file)) {
-                final Enumeration<JarEntry> entries = jar.entries();
-                while (!found && entries.hasMoreElements()) {
-                    found = DependenciesValidator.matches(
-                        imports, entries.nextElement().getName()
-                    );
+            try {
+                for (final String entry : jars.entries(file).keySet()) {
+                    if (DependenciesValidator.matches(imports, entry)) {
+                        found = true;
+                        break;
+                    }
                 }
             } catch (final IOException ex) {
                 Logger.warn(
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Classes and resources found in more than one element of a classpath.
+ *
+ * <p>It reports what {@code duplicate-finder-maven-plugin} reports, in
+ * its words: every group of classpath elements that share entries gets
+ * one message, telling whether the shared entries are equal or differ,
+ * which is decided by their CRC-32 checksums, followed by the names of
+ * the classes or resources. An entry is left alone when any of the
+ * ignored patterns of its kind matches its whole path, in any case, the
+ * way the plugin matches its {@code ignoredClassPatterns} and
+ * {@code ignoredResourcePatterns} together with its default lists. The
+ * only difference from the plugin is that every resource under
+ * {@code META-INF/} is ignored, as Qulice always configured it; the
+ * classes of a multi-release jar under {@code META-INF/versions/} are
+ * still compared, by their whole path.</p>
+ *
+ * @since 1.0
+ */
+final class DuplicateEntries {
+
+    /**
+     * Classes that the plugin ignores by default.
+     */
+    private static final Collection<String> CLASSES = List.of(
+        "(META-INF/versions/[0-9]+/)?module-info\\.class"
+    );
+
+    /**
+     * Resources that the plugin ignores by default, and all the resources
+     * of {@code META-INF/}.
+     */
+    private static final Collection<String> DEFAULTS = List.of(
+        "META-INF/.*",
+        "(META-INF/)?ASL2\\.0(\\.TXT)?",
+        "(META-INF/)?[A-Z_-]*LICENSE.*",
+        "(META-INF/)?[A-Z_-]*NOTICE.*",
+        "(META-INF/)?[A-Z_-]*README.*",
+        "OSGI-INF/.*",
+        ".*/package\\.html",
+        ".*/overview\\.html",
+        "about\\.html",
+        "plugin\\.properties"
+    );
+
+    /**
+     * Patterns of the classes to ignore.
+     */
+    private final Collection<Pattern> classes;
+
+    /**
+     * Patterns of the resources to ignore.
+     */
+    private final Collection<Pattern> ignored;
+
+    /**
+     * Constructor.
+     * @param patterns Patterns of the resources to ignore, on top of the
+     *  default ones
+     */
+    DuplicateEntries(final Collection<String> patterns) {
+        this.classes = DuplicateEntries.compiled(DuplicateEntries.CLASSES);
+        final Collection<String> all = new ArrayList<>(patterns);
+        all.addAll(DuplicateEntries.DEFAULTS);
+        this.ignored = DuplicateEntries.compiled(all);
+    }
+
+    /**
+     * Find the duplicates of one classpath.
+     * @param classpath Entries of every element of the classpath, with
+     *  their checksums, by the name of the element, in classpath order
+     * @return Names of the duplicate classes and resources, by the message
+     *  about the group of elements they are found in
+     */
+    Map<String, Collection<String>> conflicts(
+        final Map<String, Map<String, Long>> classpath) {
+        final Map<String, List<String>> owners = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, Map<String, Long>> element
+            : classpath.entrySet()) {
+            for (final String entry : element.getValue().keySet()) {
+                if (this.checked(entry)) {
+                    owners.computeIfAbsent(entry, name -> new ArrayList<>(1))
+                        .add(element.getKey());
+                }
+            }
+        }
+        final Map<String, Collection<String>> conflicts = new TreeMap<>();
+        for (final Map.Entry<String, List<String>> entry : owners.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                final String name = entry.getKey();
+                final boolean klass = name.endsWith(".class");
+                final String kind;
+                final String shown;
+                if (klass) {
+                    kind = "classes";
+                    shown = name.substring(0, name.length() - ".class".length())
+                        .replace('/', '.');
+                } else {
+                    kind = "resources";
+                    shown = name;
+                }
+                final String same;
+                if (DuplicateEntries.equal(name, entry.getValue(), classpath)) {
+                    same = "(but equal)";
+                } else {
+                    same = "and different";
+                }
+                conflicts.computeIfAbsent(
+                    String.format(
+                        "Found duplicate %s %s in %s", same, kind, entry.getValue()
+                    ),
+                    header -> new TreeSet<>()
+                ).add(shown);
+            }
+        }
+        return conflicts;
+    }
+
+    private boolean checked(final String entry) {
+        final Collection<Pattern> patterns;
+        if (entry.endsWith(".class")) {
+            patterns = this.classes;
+        } else {
+            patterns = this.ignored;
+        }
+        return patterns.stream()
+            .noneMatch(pattern -> pattern.matcher(entry).matches());
+    }
+
+    private static Collection<Pattern> compiled(final Collection<String> patterns) {
+        final Collection<Pattern> compiled = new ArrayList<>(patterns.size());
+        for (final String pattern : patterns) {
+            compiled.add(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE));
+        }
+        return compiled;
+    }
+
+    private static boolean equal(final String entry, final List<String> owners,
+        final Map<String, Map<String, Long>> classpath) {
+        final Set<Long> sums = new HashSet<>(owners.size());
+        for (final String owner : owners) {
+            sums.add(classpath.get(owner).get(entry));
+        }
+        return sums.size() == 1 && !sums.contains(-1L);
+    }
+}
@@ -4,16 +4,48 @@
  */
 package com.qulice.maven;
 
+import com.jcabi.log.Logger;
 import com.qulice.spi.ValidationException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Properties;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import org.apache.commons.collections.CollectionUtils;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.apache.maven.artifact.Artifact;
 
 /**
- * Validate with maven-duplicate-finder-plugin.
+ * Validate that no class or resource is on the classpath twice, the way
+ * maven-duplicate-finder-plugin does.
+ *
+ * <p>The compile classpath and the runtime classpath of the project, each
+ * made of its output directory and the jars of the dependencies of the
+ * scopes it includes, are checked apart, as the plugin checks them. The
+ * jars are read through {@link JarIndex} by a pool of threads of its
+ * own, one per processor at most, so a jar that many modules of a
+ * reactor depend on is read once per build, and a jar of the local
+ * repository once per machine. The conflicts are the ones the plugin
+ * finds with {@code failBuildInCaseOfConflict}, which fails on equal
+ * duplicates as much as on different ones, less the entries
+ * {@link DuplicateEntries} ignores.</p>
+ *
  * @since 0.5
  * @todo #1118 ignored dependencies and resources should be placed in different parameters,
  *  and current implementation use ':' symbol as a flag if it is resource or dependency.
@@ -21,6 +53,20 @@ import org.apache.commons.collections.CollectionUtils;
  */
 public final class DuplicateFinderValidator implements MavenValidator {
 
+    /**
+     * Scopes of the dependencies on the compile classpath.
+     */
+    private static final Set<String> COMPILE = Set.of(
+        Artifact.SCOPE_COMPILE, Artifact.SCOPE_PROVIDED, Artifact.SCOPE_SYSTEM
+    );
+
+    /**
+     * Scopes of the dependencies on the runtime classpath.
+     */
+    private static final Set<String> RUNTIME = Set.of(
+        Artifact.SCOPE_COMPILE, Artifact.SCOPE_RUNTIME
+    );
+
     /**
      * Default constructor.
      */
@@ -32,42 +78,143 @@ public final class DuplicateFinderValidator implements MavenValidator {
     public void validate(final MavenEnvironment env)
         throws ValidationException {
         final String prefix = "duplicatefinder";
-        if (!env.exclude(prefix, "")) {
-            final Properties props = new Properties();
-            props.put("failBuildInCaseOfConflict", "true");
-            props.put("checkTestClasspath", "false");
-            props.put("useResultFile", "false");
-            props.put(
-                "ignoredResourcePatterns",
-                CollectionUtils.union(
-                    env.excludes(prefix).stream()
-                        .filter(s -> !s.contains(":"))
-                        .collect(Collectors.toList()),
-                    Arrays.asList("META-INF/.*", "module-info.class")
-                )
-            );
-            final Collection<Properties> deps = new ArrayList<>(0);
+        if (!env.exclude(prefix, "") && !"pom".equals(env.project().getPackaging())) {
+            final Collection<String> patterns = env.excludes(prefix).stream()
+                .filter(s -> !s.contains(":"))
+                .collect(Collectors.toList());
+            final Collection<String[]> deps = new ArrayList<>(0);
             for (final String sdep : env.excludes(prefix)) {
                 final String[] parts = sdep.split(":", -1);
-                if (parts.length < 2) {
-                    continue;
+                if (parts.length >= 2) {
+                    deps.add(parts);
                 }
-                final Properties main = new Properties();
-                final Properties prop = new Properties();
-                prop.put("groupId", parts[0]);
-                prop.put("artifactId", parts[1]);
-                if (parts.length > 2) {
-                    prop.put("version", parts[2]);
+            }
+            final List<Artifact> artifacts = new ArrayList<>(0);
+            for (final Artifact artifact : env.project().getArtifacts()) {
+                final File file = artifact.getFile();
+                if (file != null
+                    && (file.isDirectory() || file.getName().endsWith(".jar"))
+                    && deps.stream().noneMatch(
+                        dep -> DuplicateFinderValidator.matches(dep, artifact)
+                    )) {
+                    artifacts.add(artifact);
+                }
+            }
+            final Map<File, Map<String, Long>> entries =
+                DuplicateFinderValidator.entries(env, artifacts);
+            final DuplicateEntries duplicates = new DuplicateEntries(patterns);
+            final Map<String, Collection<String>> conflicts = new TreeMap<>();
+            for (final Set<String> scopes : Arrays.asList(
+                DuplicateFinderValidator.COMPILE, DuplicateFinderValidator.RUNTIME
+            )) {
+                final Map<String, Map<String, Long>> classpath =
+                    new LinkedHashMap<>(0);
+                classpath.put(
+                    env.outdir().getPath(),
+                    entries.getOrDefault(env.outdir(), Collections.emptyMap())
+                );
+                for (final Artifact artifact : artifacts) {
+                    if (scopes.contains(artifact.getScope())) {
+                        classpath.put(
+                            String.format(
+                                "%s:%s:%s", artifact.getGroupId(),
+                                artifact.getArtifactId(), artifact.getVersion()
+                            ),
+                            entries.getOrDefault(
+                                artifact.getFile(), Collections.emptyMap()
+                            )
+                        );
+                    }
+                }
+                for (final Map.Entry<String, Collection<String>> conflict
+                    : duplicates.conflicts(classpath).entrySet()) {
+                    conflicts.computeIfAbsent(
+                        conflict.getKey(), header -> new TreeSet<>()
+                    ).addAll(conflict.getValue());
+                }
+            }
+            for (final Map.Entry<String, Collection<String>> conflict
+                : conflicts.entrySet()) {
+                Logger.warn(
+                    this, "%s:%n\t%s", conflict.getKey(),
+                    String.join(String.format("%n\t"), conflict.getValue())
+                );
+            }
+            if (!conflicts.isEmpty()) {
+                throw new ValidationException(
+                    String.format(
+                        "Found duplicate classes/resources in %d group(s) of classpath elements",
+                        conflicts.size()
+                    )
+                );
+            }
+        }
+    }
+
+    private static boolean matches(final String[] dep, final Artifact artifact) {
+        return dep[0].equals(artifact.getGroupId())
+            && dep[1].equals(artifact.getArtifactId())
+            && (dep.length < 3 || dep[2].equals(artifact.getVersion()));
+    }
+
+    private static Map<File, Map<String, Long>> entries(
+        final MavenEnvironment env, final Collection<Artifact> artifacts) {
+        final JarIndex jars = new JarIndex(env.repository());
+        final Set<File> files = new LinkedHashSet<>(artifacts.size() + 1);
+        files.add(env.outdir());
+        for (final Artifact artifact : artifacts) {
+            files.add(artifact.getFile());
+        }
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(
+                1, Math.min(files.size(), Runtime.getRuntime().availableProcessors())
+            )
+        );
+        final Map<File, Future<Map<String, Long>>> futures =
+            new LinkedHashMap<>(files.size());
+        for (final File file : files) {
+            if (file.isDirectory()) {
+                futures.put(file, pool.submit(() -> DuplicateFinderValidator.walk(file)));
+            } else if (file.exists()) {
+                futures.put(file, pool.submit(() -> jars.entries(file)));
+            }
+        }
+        final Map<File, Map<String, Long>> entries = new HashMap<>(futures.size());
+        try {
+            for (final Map.Entry<File, Future<Map<String, Long>>> future
+                : futures.entrySet()) {
+                try {
+                    entries.put(future.getKey(), future.getValue().get());
+                } catch (final ExecutionException ex) {
+                    throw new IllegalStateException(
+                        String.format("Cannot read the entries of %s", future.getKey()),
+                        ex.getCause()
+                    );
                 }
-                main.put("dependency", prop);
-                deps.add(main);
             }
-            props.put("ignoredDependencies", deps);
-            env.executor().execute(
-                "org.basepom.maven:duplicate-finder-maven-plugin:2.0.1",
-                "check",
-                props
-            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            pool.shutdownNow();
+        }
+        return entries;
+    }
+
+    private static Map<String, Long> walk(final File dir) throws IOException {
+        final Map<String, Long> entries = new LinkedHashMap<>(0);
+        final Path root = dir.toPath();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (final Path path
+                : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                final CRC32 crc = new CRC32();
+                crc.update(Files.readAllBytes(path));
+                entries.put(
+                    root.relativize(path).toString().replace(File.separatorChar, '/'),
+                    crc.getValue()
+                );
+            }
         }
+        return entries;
     }
 }
@@ -5,14 +5,45 @@
 package com.qulice.maven;
 
 import com.qulice.spi.ValidationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
+import org.apache.maven.project.MavenProject;
 
 /**
- * Validate with maven-enforcer-plugin.
+ * Validate the rules of maven-enforcer-plugin.
+ *
+ * <p>{@code requireMavenVersion 3.0} and {@code requireJavaVersion 1.7}
+ * are always checked, and more rules may be added through the
+ * {@code qulice.enforcer} parameter, one per line, each as its name
+ * optionally followed by a colon and its version, e.g.
+ * {@code requireJavaVersion:[1.8, 17)}, spaces of a range included. A version rule replaces the default
+ * one of the same name. The two version rules are checked right here,
+ * against the running JVM and Maven, with no plugin to resolve and
+ * configure in every module; the plugin is called only for the rules it
+ * alone knows, with the version, if any, as their {@code version}.</p>
+ *
  * @since 0.3
  */
 public final class EnforcerValidator implements MavenValidator {
 
+    /**
+     * Name of the parameter with the extra rules.
+     */
+    private static final String PARAM = "qulice.enforcer";
+
+    /**
+     * Maven version rule.
+     */
+    private static final String MAVEN = "requireMavenVersion";
+
+    /**
+     * Java version rule.
+     */
+    private static final String JAVA = "requireJavaVersion";
+
     /**
      * Default constructor.
      */
@@ -24,20 +55,61 @@ public final class EnforcerValidator implements MavenValidator {
     public void validate(final MavenEnvironment env)
         throws ValidationException {
         if (!env.exclude("enforcer", "")) {
-            final Properties props = new Properties();
+            final Map<String, String> versions = new LinkedHashMap<>(2);
+            versions.put(EnforcerValidator.MAVEN, "3.0");
+            versions.put(EnforcerValidator.JAVA, "1.7");
             final Properties rules = new Properties();
-            props.put("rules", rules);
-            final Properties maven = new Properties();
-            rules.put("requireMavenVersion", maven);
-            maven.put("version", "3.0");
-            final Properties java = new Properties();
-            rules.put("requireJavaVersion", java);
-            java.put("version", "1.7");
-            env.executor().execute(
-                "org.apache.maven.plugins:maven-enforcer-plugin:3.1.0",
-                "enforce",
-                props
-            );
+            for (final String line
+                : env.param(EnforcerValidator.PARAM, "").split("\\R")) {
+                final String rule = line.trim();
+                final String[] parts = rule.split(":", 2);
+                if (versions.containsKey(parts[0])) {
+                    if (parts.length > 1) {
+                        versions.put(parts[0], parts[1]);
+                    }
+                } else if (!rule.isEmpty()) {
+                    final Properties props = new Properties();
+                    if (parts.length > 1) {
+                        props.put("version", parts[1]);
+                    }
+                    rules.put(parts[0], props);
+                }
+            }
+            new VersionRule("Maven", versions.get(EnforcerValidator.MAVEN))
+                .check(EnforcerValidator.maven());
+            new VersionRule("JDK", versions.get(EnforcerValidator.JAVA))
+                .check(EnforcerValidator.java());
+            if (!rules.isEmpty()) {
+                final Properties props = new Properties();
+                props.put("rules", rules);
+                env.executor().execute(
+                    "org.apache.maven.plugins:maven-enforcer-plugin:3.1.0",
+                    "enforce",
+                    props
+                );
+            }
+        }
+    }
+
+    private static String maven() {
+        final Properties props = new Properties();
+        try (InputStream stream = MavenProject.class.getResourceAsStream(
+            "/META-INF/maven/org.apache.maven/maven-core/pom.properties"
+        )) {
+            if (stream != null) {
+                props.load(stream);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Can't read the version of Maven", ex);
         }
+        final String version = props.getProperty("version");
+        if (version == null) {
+            throw new IllegalStateException("Can't find the version of Maven");
+        }
+        return version;
+    }
+
+    private static String java() {
+        return System.getProperty("java.version").replace('_', '-');
     }
 }
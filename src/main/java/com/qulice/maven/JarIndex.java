@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Entries of jars and their checksums, remembered between builds.
+ *
+ * <p>A jar never changes under the same path, size and modification
+ * time, so what is read from it is kept for the rest of the JVM's life
+ * under a hash of those three, and every module of a reactor build that
+ * has the jar on its classpath gets it from there. A jar of the local
+ * Maven repository is also written to an index file of its own, named
+ * by the same hash, the first time it is read, and read back from there
+ * by every later build on the machine. Only the central directory of a
+ * jar is read, never the content of its entries, since it already holds
+ * their CRC-32 checksums. Every index file is written to a temporary
+ * file first and moved in place, so builds running at once never see
+ * half of one.</p>
+ *
+ * <p>Neither the jars read in this JVM nor the index files grow without
+ * bound, since every SNAPSHOT built again and every new version of a
+ * dependency adds one: the JVM keeps the entries of the
+ * {@link #MEMORY} jars it used last, and the directory keeps the index
+ * files used last, a thousand by default, touched whenever they are
+ * read, while the rest are deleted whenever a new one is written, along
+ * with the temporary files, older than an hour, of builds that died before
+ * they moved them in place.</p>
+ *
+ * @since 1.0
+ */
+final class JarIndex {
+
+    /**
+     * How many jars to keep the entries of in this JVM.
+     */
+    private static final int MEMORY = 500;
+
+    /**
+     * Milliseconds after which a temporary index file nobody moved in
+     * place is left over by a build that died.
+     */
+    private static final long ABANDONED = TimeUnit.HOURS.toMillis(1L);
+
+    /**
+     * Entries of the jars read in this JVM, by {@link #key(File)}, the
+     * least recently used first.
+     */
+    private static final Map<String, Map<String, Long>> SCANNED =
+        new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Directory of the index files.
+     */
+    private final File dir;
+
+    /**
+     * Local Maven repository, the only place whose jars get index files.
+     */
+    private final Path repo;
+
+    /**
+     * How many index files to keep.
+     */
+    private final int keep;
+
+    /**
+     * Constructor, with the index files in {@code ~/.qulice/jars}.
+     * @param repo Local Maven repository of the build
+     */
+    JarIndex(final File repo) {
+        this(new File(System.getProperty("user.home"), ".qulice/jars"), repo);
+    }
+
+    /**
+     * Constructor.
+     * @param dir Directory of the index files
+     * @param repo Local Maven repository
+     */
+    JarIndex(final File dir, final File repo) {
+        this(dir, repo, 1000);
+    }
+
+    /**
+     * Constructor.
+     * @param dir Directory of the index files
+     * @param repo Local Maven repository
+     * @param keep How many index files to keep
+     */
+    JarIndex(final File dir, final File repo, final int keep) {
+        this.dir = dir;
+        this.repo = repo.toPath().toAbsolutePath().normalize();
+        this.keep = keep;
+    }
+
+    /**
+     * Entries of the jar, except directories.
+     * @param jar The jar
+     * @return CRC-32 checksums of the entries, by their names, in the
+     *  order of the jar
+     * @throws IOException If the jar can't be read
+     */
+    Map<String, Long> entries(final File jar) throws IOException {
+        final String key = JarIndex.key(jar);
+        Map<String, Long> entries;
+        synchronized (JarIndex.SCANNED) {
+            entries = JarIndex.SCANNED.get(key);
+        }
+        if (entries == null) {
+            if (jar.toPath().toAbsolutePath().normalize().startsWith(this.repo)) {
+                final File index = new File(this.dir, key);
+                if (index.isFile()) {
+                    entries = JarIndex.load(index);
+                    index.setLastModified(System.currentTimeMillis());
+                } else {
+                    entries = JarIndex.read(jar);
+                    this.save(index, entries);
+                    this.prune(index);
+                }
+            } else {
+                entries = JarIndex.read(jar);
+            }
+            synchronized (JarIndex.SCANNED) {
+                JarIndex.SCANNED.put(key, entries);
+                final Iterator<String> oldest = JarIndex.SCANNED.keySet().iterator();
+                while (JarIndex.SCANNED.size() > JarIndex.MEMORY) {
+                    oldest.next();
+                    oldest.remove();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void save(final File index, final Map<String, Long> entries) {
+        final Collection<String> lines = new ArrayList<>(entries.size());
+        for (final Map.Entry<String, Long> entry : entries.entrySet()) {
+            lines.add(
+                String.format(
+                    "%s %s", Long.toHexString(entry.getValue()), entry.getKey()
+                )
+            );
+        }
+        try {
+            Files.createDirectories(this.dir.toPath());
+            final Path temp = Files.createTempFile(this.dir.toPath(), "jar", ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, index.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(temp, index.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException ex) {
+            Logger.warn(
+                this, "Cannot save the index of a jar to %s: %s",
+                index, ex.getMessage()
+            );
+        }
+    }
+
+    private void prune(final File used) {
+        final File[] files = this.dir.listFiles(
+            (parent, name) -> name.endsWith(".idx")
+        );
+        if (files != null && files.length > this.keep) {
+            Arrays.sort(
+                files,
+                Comparator.comparingLong(File::lastModified).reversed()
+            );
+            for (final File file : Arrays.copyOfRange(
+                files, this.keep, files.length
+            )) {
+                if (!file.equals(used)) {
+                    file.delete();
+                }
+            }
+        }
+        final long stale = System.currentTimeMillis() - JarIndex.ABANDONED;
+        final File[] temps = this.dir.listFiles(
+            (parent, name) -> name.startsWith("jar") && name.endsWith(".tmp")
+        );
+        if (temps != null) {
+            for (final File temp : temps) {
+                if (temp.lastModified() < stale) {
+                    temp.delete();
+                }
+            }
+        }
+    }
+
+    private static Map<String, Long> load(final File index) throws IOException {
+        final Map<String, Long> entries = new LinkedHashMap<>(0);
+        for (final String line
+            : Files.readAllLines(index.toPath(), StandardCharsets.UTF_8)) {
+            final int space = line.indexOf(' ');
+            if (space > 0) {
+                entries.put(
+                    line.substring(space + 1),
+                    Long.parseUnsignedLong(line.substring(0, space), 16)
+                );
+            }
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private static Map<String, Long> read(final File file) throws IOException {
+        final Map<String, Long> entries = new LinkedHashMap<>(0);
+        try (JarFile jar = new JarFile(file)) {
+            final Enumeration<JarEntry> all = jar.entries();
+            while (all.hasMoreElements()) {
+                final JarEntry entry = all.nextElement();
+                if (!entry.isDirectory()) {
+                    entries.put(entry.getName(), entry.getCrc());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private static String key(final File jar) {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(
+                String.format(
+                    "%s|%d|%d", jar.getAbsolutePath(), jar.length(),
+                    jar.lastModified()
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final StringBuilder key = new StringBuilder(0);
+        for (int idx = 0; idx < 16; ++idx) {
+            key.append(String.format("%02x", hash[idx]));
+        }
+        return key.append(".idx").toString();
+    }
+}
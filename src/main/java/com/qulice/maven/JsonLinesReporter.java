@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Violations, as JSON Lines, one object per line.
+ *
+ * <p>Every object carries the same five fields a {@link Violation} has,
+ * as strings, for example:</p>
+ *
+ * <pre> {"validator":"Checkstyle","check":"MethodNameCheck",
+ * "file":"/prj/src/main/java/Foo.java","lines":"12","message":"..."}</pre>
+ *
+ * <p>A line is complete as soon as it is written, so the file can be
+ * tailed while the validators are still running.</p>
+ *
+ * @since 1.0
+ */
+final class JsonLinesReporter implements Reporter {
+
+    /**
+     * Where to write.
+     */
+    private final ChannelSink sink;
+
+    /**
+     * Constructor.
+     * @param file Where to write
+     */
+    JsonLinesReporter(final File file) {
+        this.sink = new ChannelSink(file);
+    }
+
+    @Override
+    public void report(final Violation violation) {
+        this.sink.write(
+            String.format(
+                "{\"validator\":%s,\"check\":%s,\"file\":%s,\"lines\":%s,\"message\":%s}\n",
+                new JsonString(violation.validator()),
+                new JsonString(violation.name()),
+                new JsonString(violation.file()),
+                new JsonString(violation.lines()),
+                new JsonString(violation.message())
+            )
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.sink.close();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+/**
+ * Text, as a quoted and escaped JSON string literal.
+ *
+ * @since 1.0
+ */
+final class JsonString {
+
+    /**
+     * The text.
+     */
+    private final String text;
+
+    /**
+     * Constructor.
+     * @param text The text
+     */
+    JsonString(final String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder json = new StringBuilder(this.text.length() + 2);
+        json.append('"');
+        for (int idx = 0; idx < this.text.length(); idx += 1) {
+            final char chr = this.text.charAt(idx);
+            if (chr == '"' || chr == '\\') {
+                json.append('\\').append(chr);
+            } else if (chr == '\n') {
+                json.append("\\n");
+            } else if (chr == '\r') {
+                json.append("\\r");
+            } else if (chr == '\t') {
+                json.append("\\t");
+            } else if (chr < ' ') {
+                json.append(String.format("\\u%04x", (int) chr));
+            } else {
+                json.append(chr);
+            }
+        }
+        return json.append('"').toString();
+    }
+}
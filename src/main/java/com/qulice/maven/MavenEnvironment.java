@@ -54,6 +54,12 @@ interface MavenEnvironment extends Environment {
      */
     Collection<String> asserts();
 
+    /**
+     * Get the local Maven repository of the build.
+     * @return The directory of the repository
+     */
+    File repository();
+
     /**
      * Wrapper of maven environment.
      * @since 0.1
@@ -145,6 +151,11 @@ interface MavenEnvironment extends Environment {
             return this.menv.asserts();
         }
 
+        @Override
+        public File repository() {
+            return this.menv.repository();
+        }
+
         @Override
         public Collection<File> files(final String pattern) {
             return this.env.files(pattern);
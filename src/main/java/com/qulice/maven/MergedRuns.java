@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Violation;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Violations of a few sorted runs, merged into one sorted sequence.
+ *
+ * <p>Keeps one violation of every run in a heap and hands out the least
+ * of them, reading the next one from the same run in its place, so that
+ * the whole merge needs memory only for as many violations as there are
+ * runs. A run gets closed as soon as it has nothing more to give, and
+ * the ones left when the iteration stops early get closed by
+ * {@link #close()}.</p>
+ *
+ * @since 1.0
+ */
+final class MergedRuns implements Iterator<Violation>, Closeable {
+
+    /**
+     * Runs that still have violations, ordered by their heads.
+     */
+    private final PriorityQueue<SortedRun> heap;
+
+    /**
+     * Constructor.
+     * @param runs Runs to merge, none of them read yet
+     */
+    MergedRuns(final Collection<SortedRun> runs) {
+        this.heap = new PriorityQueue<>(
+            Math.max(1, runs.size()),
+            Comparator.comparing(SortedRun::head)
+        );
+        for (final SortedRun run : runs) {
+            this.refill(run);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.heap.isEmpty();
+    }
+
+    @Override
+    public Violation next() {
+        final SortedRun run = this.heap.poll();
+        if (run == null) {
+            throw new NoSuchElementException("All runs are merged already");
+        }
+        final Violation head = run.head();
+        this.refill(run);
+        return head;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (SortedRun run = this.heap.poll(); run != null; run = this.heap.poll()) {
+            run.close();
+        }
+    }
+
+    private void refill(final SortedRun run) {
+        if (run.advance()) {
+            this.heap.add(run);
+        } else {
+            try {
+                run.close();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -29,6 +29,13 @@ import org.codehaus.plexus.util.xml.Xpp3Dom;
 
 /**
  * Executor of plugins.
+ *
+ * <p>Descriptors and realms are kept in {@link SessionPlugins}, so a
+ * goal that every module of a reactor calls is resolved once per build.
+ * The mojo itself is configured for every call and released right after
+ * it, since Maven binds its {@code ${project}} parameters to the module
+ * it is configured for.</p>
+ *
  * @since 0.3
  */
 public final class MojoExecutor {
@@ -64,32 +71,18 @@ public final class MojoExecutor {
      */
     public void execute(final String coords, final String goal,
         final Properties config) throws ValidationException {
-        final Plugin plugin = new Plugin();
-        final String[] sectors = coords.split(":", -1);
-        plugin.setGroupId(sectors[0]);
-        plugin.setArtifactId(sectors[1]);
-        plugin.setVersion(sectors[2]);
-        final MojoDescriptor descriptor = this.descriptor(plugin, goal);
-        try {
-            new DefaultMavenPluginManagerHelper(this.manager).setupPluginRealm(
-                descriptor.getPluginDescriptor(),
-                this.session,
-                Thread.currentThread().getContextClassLoader(),
-                List.of(),
-                List.of()
-            );
-        } catch (final PluginResolutionException ex) {
-            throw new IllegalStateException("Plugin resolution problem", ex);
-        } catch (final PluginContainerException ex) {
-            throw new IllegalStateException("Can't setup realm", ex);
-        }
-        final MojoExecution execution = new MojoExecution(
-            descriptor,
-            Xpp3Dom.mergeXpp3Dom(
-                this.toXppDom(config, "configuration"),
-                this.toXppDom(descriptor.getMojoConfiguration())
+        final String key = String.format("%s:%s", coords, goal);
+        final SessionPlugins plugins = SessionPlugins.of(this.session);
+        final MojoDescriptor descriptor = plugins.descriptor(
+            key, any -> this.prepared(coords, goal)
+        );
+        final Xpp3Dom dom = Xpp3Dom.mergeXpp3Dom(
+            this.toXppDom(config, "configuration"),
+            plugins.defaults(
+                key, any -> this.toXppDom(descriptor.getMojoConfiguration())
             )
         );
+        final MojoExecution execution = new MojoExecution(descriptor, dom);
         final Mojo mojo = this.mojo(execution);
         try {
             Logger.info(this, "Calling %s:%s...", coords, goal);
@@ -152,6 +145,29 @@ public final class MojoExecutor {
         return result;
     }
 
+    private MojoDescriptor prepared(final String coords, final String goal) {
+        final Plugin plugin = new Plugin();
+        final String[] sectors = coords.split(":", -1);
+        plugin.setGroupId(sectors[0]);
+        plugin.setArtifactId(sectors[1]);
+        plugin.setVersion(sectors[2]);
+        final MojoDescriptor descriptor = this.descriptor(plugin, goal);
+        try {
+            new DefaultMavenPluginManagerHelper(this.manager).setupPluginRealm(
+                descriptor.getPluginDescriptor(),
+                this.session,
+                Thread.currentThread().getContextClassLoader(),
+                List.of(),
+                List.of()
+            );
+        } catch (final PluginResolutionException ex) {
+            throw new IllegalStateException("Plugin resolution problem", ex);
+        } catch (final PluginContainerException ex) {
+            throw new IllegalStateException("Can't setup realm", ex);
+        }
+        return descriptor;
+    }
+
     private MojoDescriptor descriptor(final Plugin plugin, final String goal) {
         try {
             return new DefaultMavenPluginManagerHelper(this.manager)
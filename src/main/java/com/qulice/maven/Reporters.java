@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.jcabi.log.Logger;
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+
+/**
+ * Reporters for the formats a project asked for, all fed at once.
+ *
+ * <p>Known formats are {@code jsonl}, written to
+ * {@code violations.jsonl}, and {@code sarif}, written to
+ * {@code violations.sarif}, both in the given directory, usually
+ * {@code target/qulice}. An unknown format is a configuration mistake
+ * and fails the build right away, before any validator runs and before
+ * any report file is opened. A format
+ * listed twice is written once, since two reporters of it would write
+ * over the same file.</p>
+ *
+ * <p>Only the violations of {@link com.qulice.spi.ResourceValidator}s,
+ * Checkstyle, PMD, ErrorProne and the like, get here. Validators that
+ * see the whole environment, and the Maven validators, fail the build
+ * on their own with a {@link com.qulice.spi.ValidationException} and
+ * report nothing.</p>
+ *
+ * @since 1.0
+ */
+final class Reporters implements Reporter {
+
+    /**
+     * Reporters to feed.
+     */
+    private final Collection<Reporter> all;
+
+    /**
+     * Constructor.
+     * @param dir Directory to write reports to
+     * @param formats Names of the formats
+     */
+    Reporters(final File dir, final Collection<String> formats) {
+        final Collection<String> names = new LinkedHashSet<>(formats.size());
+        for (final String format : formats) {
+            final String name = format.trim().toLowerCase(Locale.ENGLISH);
+            if (!"jsonl".equals(name) && !"sarif".equals(name) && !name.isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Unknown report format '%s', only 'jsonl' and 'sarif' are supported",
+                        format
+                    )
+                );
+            }
+            if (!names.add(name)) {
+                Logger.debug(this, "Report format '%s' is listed again", format);
+            }
+        }
+        this.all = new ArrayList<>(names.size());
+        if (names.contains("jsonl")) {
+            this.all.add(new JsonLinesReporter(new File(dir, "violations.jsonl")));
+        }
+        if (names.contains("sarif")) {
+            this.all.add(new SarifReporter(new File(dir, "violations.sarif")));
+        }
+    }
+
+    @Override
+    public void report(final Violation violation) {
+        for (final Reporter reporter : this.all) {
+            reporter.report(violation);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Reporter reporter : this.all) {
+            reporter.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Violations, as a SARIF 2.1.0 log.
+ *
+ * <p>The log holds a single run by the {@code qulice} tool, with a result
+ * per violation: its rule id is the name of the check, the validator goes
+ * to the result properties, and a region appears only when the lines are
+ * a number or a range of numbers. The opening of the log is written right
+ * away and every result the moment it arrives, so nothing is kept in
+ * memory; the log becomes valid JSON once the reporter is closed.</p>
+ *
+ * @since 1.0
+ */
+final class SarifReporter implements Reporter {
+
+    /**
+     * Where to write.
+     */
+    private final ChannelSink sink;
+
+    /**
+     * Have we written any result yet?
+     */
+    private boolean first;
+
+    /**
+     * Constructor.
+     * @param file Where to write
+     */
+    SarifReporter(final File file) {
+        this.sink = new ChannelSink(file);
+        this.first = true;
+        this.sink.write(
+            String.join(
+                "",
+                "{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",",
+                "\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":",
+                "{\"name\":\"qulice\",\"informationUri\":\"https://www.qulice.com\"}},",
+                "\"results\":["
+            )
+        );
+    }
+
+    @Override
+    public synchronized void report(final Violation violation) {
+        final StringBuilder json = new StringBuilder(256);
+        if (!this.first) {
+            json.append(',');
+        }
+        this.first = false;
+        json.append(System.lineSeparator())
+            .append("{\"ruleId\":").append(new JsonString(violation.name()))
+            .append(",\"level\":\"error\",\"message\":{\"text\":")
+            .append(new JsonString(violation.message()))
+            .append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":")
+            .append(new JsonString(new File(violation.file()).toURI().toString()))
+            .append('}')
+            .append(SarifReporter.region(violation.lines()))
+            .append("}}],\"properties\":{\"validator\":")
+            .append(new JsonString(violation.validator()))
+            .append("}}");
+        this.sink.write(json.toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.sink.write(String.format("%n]}]}%n"));
+        this.sink.close();
+    }
+
+    private static String region(final String lines) {
+        final int dash = lines.indexOf('-', 1);
+        String region = "";
+        try {
+            final int begin;
+            final int end;
+            if (dash > 0) {
+                begin = Integer.parseInt(lines.substring(0, dash));
+                end = Integer.parseInt(lines.substring(dash + 1));
+            } else {
+                begin = Integer.parseInt(lines);
+                end = begin;
+            }
+            if (begin > 0) {
+                region = String.format(
+                    ",\"region\":{\"startLine\":%d,\"endLine\":%d}",
+                    begin, Math.max(begin, end)
+                );
+            }
+        } catch (final NumberFormatException ignored) {
+            region = "";
+        }
+        return region;
+    }
+}
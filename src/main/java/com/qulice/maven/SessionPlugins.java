@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+/**
+ * Plugins that {@link MojoExecutor} has set up during one Maven session.
+ *
+ * <p>Resolving the descriptor of a plugin and setting up its class realm
+ * gives the same result for every module of a reactor build, so it is
+ * done once per plugin and goal, and the default configuration of the
+ * goal is converted to {@link Xpp3Dom} once along with it. Configured
+ * mojos are not kept, since Maven binds their {@code ${project}}
+ * parameters to one module. Everything here belongs to the session of
+ * the latest build, told apart by its execution request, which the
+ * copies of the session that a parallel build makes for its modules
+ * share: the first call of {@link #of(MavenSession)} with another build
+ * drops it all, so a Maven daemon does not carry it from one build to
+ * the next.</p>
+ *
+ * @since 1.0
+ */
+final class SessionPlugins {
+
+    /**
+     * Plugins of the latest session.
+     */
+    private static final AtomicReference<SessionPlugins> LATEST =
+        new AtomicReference<>();
+
+    /**
+     * Request of the build they belong to.
+     */
+    private final MavenExecutionRequest request;
+
+    /**
+     * Descriptors, with their realms set up, by plugin coordinates and goal.
+     */
+    private final Map<String, MojoDescriptor> descriptors;
+
+    /**
+     * Default configurations, by plugin coordinates and goal.
+     */
+    private final Map<String, Xpp3Dom> defaults;
+
+    /**
+     * Constructor.
+     * @param request Request of the build they belong to
+     */
+    SessionPlugins(final MavenExecutionRequest request) {
+        this.request = request;
+        this.descriptors = new ConcurrentHashMap<>(2);
+        this.defaults = new ConcurrentHashMap<>(2);
+    }
+
+    /**
+     * Plugins of this session.
+     * @param session The session
+     * @return Plugins, empty if the session is not the latest one
+     */
+    static SessionPlugins of(final MavenSession session) {
+        final MavenExecutionRequest request;
+        if (session == null) {
+            request = null;
+        } else {
+            request = session.getRequest();
+        }
+        return SessionPlugins.LATEST.updateAndGet(
+            latest -> {
+                final SessionPlugins plugins;
+                if (latest != null && latest.request == request) {
+                    plugins = latest;
+                } else {
+                    plugins = new SessionPlugins(request);
+                }
+                return plugins;
+            }
+        );
+    }
+
+    /**
+     * Descriptor of a goal, with the realm of its plugin set up.
+     * @param key Plugin coordinates and goal
+     * @param make Resolves it and sets its realm up, the first time
+     * @return The descriptor
+     */
+    MojoDescriptor descriptor(final String key,
+        final Function<String, MojoDescriptor> make) {
+        return this.descriptors.computeIfAbsent(key, make);
+    }
+
+    /**
+     * Default configuration of a goal.
+     * @param key Plugin coordinates and goal
+     * @param make Converts it, the first time
+     * @return Copy of the configuration, free to modify
+     */
+    Xpp3Dom defaults(final String key, final Function<String, Xpp3Dom> make) {
+        return new Xpp3Dom(this.defaults.computeIfAbsent(key, make));
+    }
+}
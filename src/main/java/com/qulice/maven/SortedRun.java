@@ -0,0 +1,209 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Violation;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+
+/**
+ * Sorted violations, spilled to a file on disk and read back one by one.
+ *
+ * <p>The file opens with the number of violations it holds, followed by
+ * the violations themselves in the order they were given. Each one keeps
+ * its kind, so that a {@link Violation.Compact} comes back as a compact
+ * one and sorts exactly the way it sorted before it was written.</p>
+ *
+ * @since 1.0
+ */
+final class SortedRun implements Closeable {
+
+    /**
+     * Kind of a {@link Violation.Default}, with its lines as text.
+     */
+    private static final int TEXT = 0;
+
+    /**
+     * Kind of a {@link Violation.Compact} made for a single line.
+     */
+    private static final int SINGLE = 1;
+
+    /**
+     * Kind of a {@link Violation.Compact} made for a range of lines.
+     */
+    private static final int RANGE = 2;
+
+    /**
+     * The file.
+     */
+    private final File file;
+
+    /**
+     * Stream to read from, opened by {@link #advance()}.
+     */
+    private DataInputStream input;
+
+    /**
+     * Violations left to read.
+     */
+    private int left;
+
+    /**
+     * The violation read last.
+     */
+    private Violation current;
+
+    /**
+     * Constructor.
+     * @param file The file
+     */
+    SortedRun(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Write these violations to the file, replacing what it had.
+     * @param sorted Violations, already sorted
+     */
+    void write(final Collection<Violation> sorted) {
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(this.file.toPath()))
+        )) {
+            output.writeInt(sorted.size());
+            for (final Violation violation : sorted) {
+                SortedRun.write(output, violation);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Unable to spill violations to %s", this.file), ex
+            );
+        }
+    }
+
+    /**
+     * Read the next violation, which {@link #head()} returns afterwards.
+     * @return FALSE if there was nothing left to read
+     */
+    boolean advance() {
+        try {
+            if (this.input == null) {
+                this.input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(this.file.toPath()))
+                );
+                this.left = this.input.readInt();
+            }
+            final boolean more = this.left > 0;
+            if (more) {
+                this.current = SortedRun.read(this.input);
+                this.left -= 1;
+            } else {
+                this.current = null;
+            }
+            return more;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(
+                String.format("Unable to read violations from %s", this.file), ex
+            );
+        }
+    }
+
+    /**
+     * The violation that {@link #advance()} read last.
+     * @return Violation
+     */
+    Violation head() {
+        if (this.current == null) {
+            throw new IllegalStateException(
+                String.format("Nothing has been read from %s", this.file)
+            );
+        }
+        return this.current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.input != null) {
+            this.input.close();
+            this.input = null;
+        }
+    }
+
+    private static void write(final DataOutputStream output,
+        final Violation violation) throws IOException {
+        if (violation instanceof Violation.Compact) {
+            final Violation.Compact compact = (Violation.Compact) violation;
+            if (compact.lines().indexOf('-', 1) > 0) {
+                output.writeByte(SortedRun.RANGE);
+            } else {
+                output.writeByte(SortedRun.SINGLE);
+            }
+            output.writeInt(compact.begin());
+            output.writeInt(compact.end());
+        } else {
+            output.writeByte(SortedRun.TEXT);
+            SortedRun.write(output, violation.lines());
+        }
+        SortedRun.write(output, violation.validator());
+        SortedRun.write(output, violation.name());
+        SortedRun.write(output, violation.file());
+        SortedRun.write(output, violation.message());
+    }
+
+    private static void write(final DataOutputStream output,
+        final String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static Violation read(final DataInputStream input)
+        throws IOException {
+        final int kind = input.readByte();
+        String lines = "";
+        int begin = 0;
+        int end = 0;
+        if (kind == SortedRun.TEXT) {
+            lines = SortedRun.text(input);
+        } else {
+            begin = input.readInt();
+            end = input.readInt();
+        }
+        final String validator = SortedRun.text(input);
+        final String name = SortedRun.text(input);
+        final String path = SortedRun.text(input);
+        final String message = SortedRun.text(input);
+        final Violation violation;
+        if (kind == SortedRun.TEXT) {
+            violation = new Violation.Default(
+                validator, name, path, lines, message
+            );
+        } else if (kind == SortedRun.RANGE) {
+            violation = new Violation.Compact(
+                validator, name, path, begin, end, message
+            );
+        } else {
+            violation = new Violation.Compact(
+                validator, name, path, begin, message
+            );
+        }
+        return violation;
+    }
+
+    private static String text(final DataInputStream input)
+        throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
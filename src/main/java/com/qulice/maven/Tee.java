@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reporter that hands every violation of a validator both to the
+ * reporters of the run and to its {@link Violations}, and counts them.
+ *
+ * <p>It doesn't close the reporters, since all the validators of the run
+ * share them.</p>
+ *
+ * @since 1.0
+ */
+final class Tee implements Reporter {
+
+    /**
+     * Reporters of the run.
+     */
+    private final Reporter reporter;
+
+    /**
+     * Violations of the run.
+     */
+    private final Violations results;
+
+    /**
+     * Violations handed over so far.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Constructor.
+     * @param reporter Reporters of the run
+     * @param results Violations of the run
+     */
+    Tee(final Reporter reporter, final Violations results) {
+        this.reporter = reporter;
+        this.results = results;
+        this.count = new AtomicInteger();
+    }
+
+    @Override
+    public void report(final Violation violation) {
+        this.reporter.report(violation);
+        this.results.add(violation);
+        this.count.incrementAndGet();
+    }
+
+    /**
+     * How many violations were handed over.
+     * @return Number of violations
+     */
+    int count() {
+        return this.count.get();
+    }
+
+    @Override
+    public void close() {
+        // intentionally empty
+    }
+}
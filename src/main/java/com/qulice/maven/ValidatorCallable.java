@@ -4,17 +4,27 @@
  */
 package com.qulice.maven;
 
+import com.qulice.spi.Reporter;
 import com.qulice.spi.ResourceValidator;
-import com.qulice.spi.Violation;
 import java.io.File;
 import java.util.Collection;
 import java.util.concurrent.Callable;
 
 /**
  * Callable for validators.
+ *
+ * <p>Hands the violations to the reporter and to the {@link Violations}
+ * of the run through
+ * {@link ResourceValidator#validate(Collection, Reporter)}, right in the
+ * thread that produced them, so that a report file grows while the
+ * validators are still running, and a validator that finds violations
+ * one by one, such as Checkstyle and ErrorProne, holds none of them.
+ * Whatever a validator keeps while it runs is as big as the validator
+ * makes it.</p>
+ *
  * @since 0.1
  */
-final class ValidatorCallable implements Callable<Collection<Violation>> {
+final class ValidatorCallable implements Callable<Integer> {
 
     /**
      * Validator to use.
@@ -31,25 +41,42 @@ final class ValidatorCallable implements Callable<Collection<Violation>> {
      */
     private final Collection<File> files;
 
+    /**
+     * Reporter to hand the violations to.
+     */
+    private final Reporter reporter;
+
+    /**
+     * Violations of the run.
+     */
+    private final Violations results;
+
     /**
      * Constructor.
      * @param validator Validator to use
      * @param env Maven environment
      * @param files List of files to validate
+     * @param reporter Reporter to hand the violations to
+     * @param results Violations of the run
      */
     ValidatorCallable(
         final ResourceValidator validator,
-        final MavenEnvironment env, final Collection<File> files
+        final MavenEnvironment env, final Collection<File> files,
+        final Reporter reporter, final Violations results
     ) {
         this.validator = validator;
         this.env = env;
         this.files = files;
+        this.reporter = reporter;
+        this.results = results;
     }
 
     @Override
-    public Collection<Violation> call() {
-        return this.validator.validate(
-            CheckMojo.filter(this.env, this.files, this.validator)
+    public Integer call() {
+        final Tee tee = new Tee(this.reporter, this.results);
+        this.validator.validate(
+            CheckMojo.filter(this.env, this.files, this.validator), tee
         );
+        return tee.count();
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.ValidationException;
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+
+/**
+ * Version rule of maven-enforcer-plugin, such as
+ * {@code requireMavenVersion} or {@code requireJavaVersion}.
+ *
+ * <p>The version is matched the way the plugin matches it: a bare
+ * version, like {@code 3.0}, is the lowest one allowed, while a range,
+ * like {@code [1.8,17)}, must contain the version.</p>
+ *
+ * @since 1.0
+ */
+final class VersionRule {
+
+    /**
+     * What the version is of, e.g. "Maven".
+     */
+    private final String what;
+
+    /**
+     * Version or range of versions allowed.
+     */
+    private final String spec;
+
+    /**
+     * Constructor.
+     * @param what What the version is of, e.g. "Maven"
+     * @param spec Version or range of versions allowed
+     */
+    VersionRule(final String what, final String spec) {
+        this.what = what;
+        this.spec = spec;
+    }
+
+    /**
+     * Check the version.
+     * @param version The version detected
+     * @throws ValidationException If it is not allowed
+     */
+    void check(final String version) throws ValidationException {
+        final VersionRange range;
+        try {
+            range = VersionRange.createFromVersionSpec(this.spec);
+        } catch (final InvalidVersionSpecificationException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid version range '%s' of %s", this.spec, this.what
+                ),
+                ex
+            );
+        }
+        final ArtifactVersion actual = new DefaultArtifactVersion(version);
+        final boolean allowed;
+        if (range.getRecommendedVersion() == null) {
+            allowed = range.containsVersion(actual);
+        } else {
+            allowed = actual.compareTo(range.getRecommendedVersion()) >= 0;
+        }
+        if (!allowed) {
+            throw new ValidationException(
+                String.format(
+                    "Detected %s Version: %s is not in the allowed range %s.",
+                    this.what, version, this.spec
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Environment;
+import com.qulice.spi.Violation;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Violations of one run, sorted, with a bound on how many stay in memory.
+ *
+ * <p>A legacy module may produce hundreds of thousands of violations,
+ * more than the heap of a default build can hold next to everything
+ * else. Once the number of violations in memory reaches the limit, they
+ * get sorted and spilled to a file in the {@code violations} directory
+ * under {@link Environment#tempdir()}, and the iteration merges all such
+ * files with what is still in memory, so the report comes out in one
+ * sorted sequence while only one violation per file is held at a
+ * time.</p>
+ *
+ * <p>With a positive cap, only the first violations of every check are
+ * kept and the rest are only counted: {@link #size()} still reports all
+ * of them, while {@link #dropped()} tells how many of each check were
+ * left out of the iteration.</p>
+ *
+ * <p>Validators add their violations from their own threads as soon as
+ * each of them is done, so adding is synchronized; the iteration starts
+ * once all of them are. The limit bounds what this class holds, not
+ * what a validator holds before it hands its violations over, such as
+ * the events Checkstyle collects for all the files it checks: the peak
+ * is the result of the biggest validator, rather than all of them.</p>
+ *
+ * @since 1.0
+ */
+final class Violations implements Iterable<Violation>, Closeable {
+
+    /**
+     * Environment, to find the directory to spill to.
+     */
+    private final Environment env;
+
+    /**
+     * How many violations may stay in memory.
+     */
+    private final int limit;
+
+    /**
+     * How many violations of one check to keep, zero for all of them.
+     */
+    private final int cap;
+
+    /**
+     * Violations not spilled yet.
+     */
+    private final List<Violation> memory;
+
+    /**
+     * Files spilled so far.
+     */
+    private final List<File> runs;
+
+    /**
+     * Merges handed out by the iteration, closed along with this object
+     * in case the iteration stopped early.
+     */
+    private final List<MergedRuns> merges;
+
+    /**
+     * Violations seen, check by check.
+     */
+    private final Map<String, Integer> checks;
+
+    /**
+     * Violations seen in total.
+     */
+    private int total;
+
+    /**
+     * Constructor.
+     * @param env Environment, to find the directory to spill to
+     * @param limit How many violations may stay in memory
+     * @param cap How many violations of one check to keep, zero for all
+     */
+    Violations(final Environment env, final int limit, final int cap) {
+        this.env = env;
+        this.limit = Math.max(1, limit);
+        this.cap = cap;
+        this.memory = new ArrayList<>(0);
+        this.runs = new ArrayList<>(0);
+        this.merges = new ArrayList<>(0);
+        this.checks = new LinkedHashMap<>(0);
+    }
+
+    /**
+     * Add these violations.
+     * @param violations Violations to add
+     */
+    synchronized void addAll(final Collection<Violation> violations) {
+        for (final Violation violation : violations) {
+            this.add(violation);
+        }
+    }
+
+    /**
+     * Add this violation.
+     * @param violation Violation to add
+     */
+    synchronized void add(final Violation violation) {
+        this.total += 1;
+        final int seen = this.checks.merge(
+            Violations.check(violation), 1, Integer::sum
+        );
+        if (this.cap <= 0 || seen <= this.cap) {
+            this.memory.add(violation);
+            if (this.memory.size() >= this.limit) {
+                this.spill();
+            }
+        }
+    }
+
+    /**
+     * How many violations were added, including the ones left out by
+     * the cap.
+     * @return Number of violations
+     */
+    int size() {
+        return this.total;
+    }
+
+    /**
+     * How many violations of each check were left out by the cap.
+     * @return Check names, as {@code Validator:Check}, and the counts
+     */
+    Map<String, Integer> dropped() {
+        final Map<String, Integer> dropped = new LinkedHashMap<>(0);
+        if (this.cap > 0) {
+            for (final Map.Entry<String, Integer> entry : this.checks.entrySet()) {
+                if (entry.getValue() > this.cap) {
+                    dropped.put(entry.getKey(), entry.getValue() - this.cap);
+                }
+            }
+        }
+        return dropped;
+    }
+
+    @Override
+    public Iterator<Violation> iterator() {
+        Collections.sort(this.memory);
+        final Iterator<Violation> iterator;
+        if (this.runs.isEmpty()) {
+            iterator = Collections.unmodifiableList(this.memory).iterator();
+        } else {
+            final Collection<SortedRun> all = new ArrayList<>(this.runs.size() + 1);
+            for (final File run : this.runs) {
+                all.add(new SortedRun(run));
+            }
+            final File rest = this.file();
+            final SortedRun tail = new SortedRun(rest);
+            tail.write(this.memory);
+            this.runs.add(rest);
+            this.memory.clear();
+            all.add(tail);
+            final MergedRuns merged = new MergedRuns(all);
+            this.merges.add(merged);
+            iterator = merged;
+        }
+        return iterator;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (final MergedRuns merged : this.merges) {
+            merged.close();
+        }
+        this.merges.clear();
+        for (final File run : this.runs) {
+            if (!run.delete() && run.exists()) {
+                throw new IOException(
+                    String.format("Unable to delete spilled violations at %s", run)
+                );
+            }
+        }
+        this.runs.clear();
+        this.memory.clear();
+    }
+
+    private void spill() {
+        Collections.sort(this.memory);
+        final File run = this.file();
+        new SortedRun(run).write(this.memory);
+        this.runs.add(run);
+        this.memory.clear();
+    }
+
+    private File file() {
+        final File dir = new File(this.env.tempdir(), "violations");
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IllegalStateException(
+                String.format("Unable to create %s", dir)
+            );
+        }
+        try {
+            return File.createTempFile("violations", ".run", dir);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Unable to create a run file in %s", dir), ex
+            );
+        }
+    }
+
+    private static String check(final Violation violation) {
+        return String.format("%s:%s", violation.validator(), violation.name());
+    }
+}
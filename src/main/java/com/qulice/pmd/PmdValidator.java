@@ -14,6 +14,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Validates source code with PMD.
@@ -21,6 +23,11 @@ import java.util.Locale;
  */
 public final class PmdValidator implements ResourceValidator {
 
+    /**
+     * Line range the way {@link PmdError.OfRuleViolation} formats it.
+     */
+    private static final Pattern RANGE = Pattern.compile("(\\d+)-(\\d+)");
+
     /**
      * Environment to use.
      */
@@ -50,15 +57,7 @@ public final class PmdValidator implements ResourceValidator {
                 sources, this.env.basedir().getPath()
             );
             for (final PmdError error : errors) {
-                violations.add(
-                    new Violation.Default(
-                        this.name(),
-                        error.name(),
-                        error.fileName(),
-                        error.lines(),
-                        error.description()
-                    )
-                );
+                violations.add(this.violation(error));
             }
         }
         return violations;
@@ -96,4 +95,28 @@ public final class PmdValidator implements ResourceValidator {
         }
         return sources;
     }
+
+    private Violation violation(final PmdError error) {
+        final Matcher range = PmdValidator.RANGE.matcher(error.lines());
+        final Violation violation;
+        if (range.matches()) {
+            violation = new Violation.Compact(
+                this.name(),
+                error.name(),
+                error.fileName(),
+                Integer.parseInt(range.group(1)),
+                Integer.parseInt(range.group(2)),
+                error.description()
+            );
+        } else {
+            violation = new Violation.Default(
+                this.name(),
+                error.name(),
+                error.fileName(),
+                error.lines(),
+                error.description()
+            );
+        }
+        return violation;
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.spi;
+
+import java.io.Closeable;
+import java.util.Collection;
+
+/**
+ * Receiver of violations, as soon as a validator produces them.
+ *
+ * <p>Validators run in parallel, so an implementation must accept
+ * violations from several threads at once. Whatever it writes must be
+ * complete once {@link #close()} returns.</p>
+ *
+ * @since 1.0
+ */
+public interface Reporter extends Closeable {
+
+    /**
+     * Take this violation.
+     * @param violation The violation
+     */
+    void report(Violation violation);
+
+    /**
+     * Reporter that ignores everything.
+     * @since 1.0
+     */
+    final class None implements Reporter {
+
+        @Override
+        public void report(final Violation violation) {
+            // intentionally empty
+        }
+
+        @Override
+        public void close() {
+            // intentionally empty
+        }
+    }
+
+    /**
+     * Reporter that adds every violation to a collection.
+     * @since 1.0
+     */
+    final class Collected implements Reporter {
+
+        /**
+         * Where to add the violations.
+         */
+        private final Collection<Violation> target;
+
+        /**
+         * Constructor.
+         * @param target Where to add the violations
+         */
+        public Collected(final Collection<Violation> target) {
+            this.target = target;
+        }
+
+        @Override
+        public synchronized void report(final Violation violation) {
+            this.target.add(violation);
+        }
+
+        @Override
+        public void close() {
+            // intentionally empty
+        }
+    }
+}
@@ -20,6 +20,24 @@ public interface ResourceValidator {
      */
     Collection<Violation> validate(Collection<File> files);
 
+    /**
+     * Validate and hand every violation to the reporter as soon as it is
+     * found.
+     *
+     * <p>By default the violations are handed over once
+     * {@link #validate(Collection)} returns all of them; a validator that
+     * finds them one by one hands each of them over right away, so that
+     * neither the reports nor the memory wait for the whole result.</p>
+     *
+     * @param files Files to validate
+     * @param reporter Where to hand the violations, from any thread
+     */
+    default void validate(final Collection<File> files, final Reporter reporter) {
+        for (final Violation violation : this.validate(files)) {
+            reporter.report(violation);
+        }
+    }
+
     /**
      * Name of this validator.
      * @return Name of this validator
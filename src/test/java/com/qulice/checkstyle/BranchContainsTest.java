@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import java.io.File;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BranchContains}.
+ * @since 1.0
+ */
+final class BranchContainsTest {
+
+    @Test
+    void findsTokenDeepInsideMethod() throws Exception {
+        final DetailAST root = BranchContainsTest.tree();
+        final DetailAST method = root.findFirstToken(TokenTypes.CLASS_DEF)
+            .findFirstToken(TokenTypes.OBJBLOCK)
+            .findFirstToken(TokenTypes.METHOD_DEF);
+        MatcherAssert.assertThat(
+            "Nested 'this' should be found below the method",
+            new BranchContains(root).check(method, TokenTypes.LITERAL_THIS),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotFindTokenOutsideSubtree() throws Exception {
+        final DetailAST root = BranchContainsTest.tree();
+        MatcherAssert.assertThat(
+            "Modifiers of the class should not contain its 'this'",
+            new BranchContains(root).check(
+                root.findFirstToken(TokenTypes.CLASS_DEF)
+                    .findFirstToken(TokenTypes.MODIFIERS),
+                TokenTypes.LITERAL_THIS
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsTypeOfNodeItself() throws Exception {
+        final DetailAST root = BranchContainsTest.tree();
+        final DetailAST type = root.findFirstToken(TokenTypes.CLASS_DEF);
+        MatcherAssert.assertThat(
+            "A node should always contain its own type",
+            new BranchContains(root).check(type, type.getType()),
+            Matchers.is(true)
+        );
+    }
+
+    private static DetailAST tree() throws Exception {
+        return JavaParser.parse(
+            new FileContents(
+                new FileText(
+                    new File("Foo.java"),
+                    Arrays.asList(
+                        "public final class Foo {",
+                        "    private int size;",
+                        "    int size() {",
+                        "        if (true) {",
+                        "            return this.size;",
+                        "        }",
+                        "        return 0;",
+                        "    }",
+                        "}"
+                    )
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link CacheFiles}.
+ * @since 1.0
+ */
+final class CacheFilesTest {
+
+    @Test
+    void givesEveryFlavorItsOwnFile(@TempDir final Path dir) {
+        final CacheFiles files = new CacheFiles(dir.toFile());
+        MatcherAssert.assertThat(
+            "Flavors with different checks should not share a cache",
+            files.of(new ParsedChecks(Set.of("UseEnhancedSwitch"))),
+            Matchers.not(Matchers.equalTo(files.of(new ParsedChecks(Set.of()))))
+        );
+    }
+
+    @Test
+    void deletesLeastRecentlyUsedFiles(@TempDir final Path dir)
+        throws Exception {
+        for (int idx = 0; idx < 20; idx += 1) {
+            final File old = Files.createFile(
+                dir.resolve(String.format("old%d.cache", idx))
+            ).toFile();
+            old.setLastModified(1_000_000L * (idx + 1));
+        }
+        new CacheFiles(dir.toFile()).of(new ParsedChecks(Set.of()));
+        MatcherAssert.assertThat(
+            "Only the most recent cache files should stay",
+            dir.toFile().list(),
+            Matchers.allOf(
+                Matchers.arrayWithSize(8),
+                Matchers.not(Matchers.hasItemInArray("old0.cache")),
+                Matchers.hasItemInArray("old19.cache")
+            )
+        );
+    }
+}
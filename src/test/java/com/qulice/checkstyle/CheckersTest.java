@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.qulice.spi.Corpus;
+import com.qulice.spi.Environment;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Checkers}.
+ * @since 1.0
+ */
+final class CheckersTest {
+
+    @Test
+    void reportsSameEventsWithReusedChecker() throws Exception {
+        final Environment env = new Corpus(9L)
+            .withViolations("MagicNumberCheck")
+            .mock();
+        final Checkers checkers = new Checkers(new ParsedChecks(Set.of()));
+        final CheckstyleListener first = new CheckstyleListener(env);
+        checkers.process(
+            new ArrayList<>(env.files("*.java")),
+            new File(env.tempdir(), "first.cache"),
+            first
+        );
+        final CheckstyleListener second = new CheckstyleListener(env);
+        checkers.process(
+            new ArrayList<>(env.files("*.java")),
+            new File(env.tempdir(), "second.cache"),
+            second
+        );
+        MatcherAssert.assertThat(
+            "Checker back from the pool should find the same violations",
+            second.violations(),
+            Matchers.allOf(
+                Matchers.greaterThan(0),
+                Matchers.equalTo(first.violations())
+            )
+        );
+    }
+}
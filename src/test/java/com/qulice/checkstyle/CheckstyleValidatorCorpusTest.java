@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.qulice.spi.Corpus;
+import com.qulice.spi.Environment;
+import com.qulice.spi.Violation;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link CheckstyleValidator} over a synthetic
+ * {@link Corpus}: the violations planted into it are found, the
+ * suppressed ones are not, and the time of a run grows no faster than
+ * the number of files it is given. The latter measures wall-clock time,
+ * so it is tagged {@code scaling} and left out of the default build.
+ * @since 1.0
+ */
+final class CheckstyleValidatorCorpusTest {
+
+    @Test
+    void findsViolationsPlantedInCorpus() throws Exception {
+        final Environment env = new Corpus(3L)
+            .withPackages(2)
+            .withClasses(2)
+            .withViolations("MagicNumberCheck", "MethodNameCheck")
+            .withSuppressions()
+            .mock();
+        final Collection<String> found = new CheckstyleValidator(env)
+            .validate(env.files("*.java"))
+            .stream()
+            .map(Violation::name)
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "Every class should violate each planted check once",
+            found.stream().filter("MagicNumberCheck"::equals).count()
+                + found.stream().filter("MethodNameCheck"::equals).count(),
+            Matchers.equalTo(8L)
+        );
+    }
+
+    @Test
+    @Tag("scaling")
+    void scalesNearlyLinearlyWithFileCount() throws Exception {
+        CheckstyleValidatorCorpusTest.millis(4);
+        final long small = CheckstyleValidatorCorpusTest.millis(8);
+        final long large = CheckstyleValidatorCorpusTest.millis(32);
+        MatcherAssert.assertThat(
+            String.format(
+                "Four times more files took %d ms instead of %d ms",
+                large, small
+            ),
+            large,
+            Matchers.lessThan(Math.max(small, 100L) * 4L * 2L)
+        );
+    }
+
+    private static long millis(final int files) throws Exception {
+        final Environment env = new Corpus(5L)
+            .withPackages(files / 4)
+            .withClasses(4)
+            .withMethods(8)
+            .mock();
+        final CheckstyleValidator validator = new CheckstyleValidator(env);
+        final long start = System.nanoTime();
+        validator.validate(env.files("*.java"));
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.coding.MagicNumberCheck;
+import com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link EventIndex}.
+ * @since 1.0
+ */
+final class EventIndexTest {
+
+    @Test
+    void findsEventOfCheckInRange() {
+        MatcherAssert.assertThat(
+            "Event of the check inside the range should be found",
+            EventIndexTest.index().any("A.java", "MagicNumber", new LineRange(5, 9)),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresEventsOutsideRangeOrFile() {
+        final EventIndex index = EventIndexTest.index();
+        MatcherAssert.assertThat(
+            "Events of other lines, files or checks should not count",
+            new boolean[] {
+                index.any("A.java", "MagicNumber", new LineRange(11, 19)),
+                index.any("B.java", "MagicNumber", new LineRange(1, 30)),
+                index.any("A.java", "LineLength", new LineRange(1, 10)),
+            },
+            Matchers.equalTo(new boolean[] {false, false, false})
+        );
+    }
+
+    private static EventIndex index() {
+        return new EventIndex(
+            Arrays.asList(
+                EventIndexTest.event("A.java", 20, MagicNumberCheck.class),
+                EventIndexTest.event("A.java", 7, MagicNumberCheck.class),
+                EventIndexTest.event("A.java", 15, LineLengthCheck.class),
+                EventIndexTest.event("B.java", 3, LineLengthCheck.class)
+            )
+        );
+    }
+
+    private static AuditEvent event(final String file, final int line,
+        final Class<?> check) {
+        return new AuditEvent(
+            file,
+            file,
+            new Violation(line, "messages", "key", new Object[0], null, check, "")
+        );
+    }
+}
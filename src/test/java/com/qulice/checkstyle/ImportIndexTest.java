@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import java.io.File;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ImportIndex}.
+ * @since 1.0
+ */
+final class ImportIndexTest {
+
+    @Test
+    void findsExplicitAndWildcardImports() throws Exception {
+        final ImportIndex index = new ImportIndex(ImportIndexTest.tree());
+        MatcherAssert.assertThat(
+            "Types imported by name or by package should be found",
+            new boolean[] {
+                index.imports("com.sun.jna.Library"),
+                index.imports("java.util.List"),
+                index.imports("java.util.concurrent.Callable"),
+            },
+            Matchers.equalTo(new boolean[] {true, true, false})
+        );
+    }
+
+    @Test
+    void ignoresStaticImports() throws Exception {
+        MatcherAssert.assertThat(
+            "Static import should not count as a type import",
+            new ImportIndex(ImportIndexTest.tree()).imports("java.lang.Math.max"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsNestedTypesAtAnyDepth() throws Exception {
+        final ImportIndex index = new ImportIndex(ImportIndexTest.tree());
+        MatcherAssert.assertThat(
+            "Nested types of the first top-level type should be found",
+            new boolean[] {
+                index.nests("Inner"), index.nests("Deeper"), index.nests("Foo"),
+            },
+            Matchers.equalTo(new boolean[] {true, true, false})
+        );
+    }
+
+    @Test
+    void sharesIndexOfSameTree() throws Exception {
+        final DetailAST root = ImportIndexTest.tree();
+        MatcherAssert.assertThat(
+            "Checks of the same file should get the same index",
+            ImportIndex.of(root),
+            Matchers.sameInstance(ImportIndex.of(root))
+        );
+    }
+
+    private static DetailAST tree() throws Exception {
+        return JavaParser.parse(
+            new FileContents(
+                new FileText(
+                    new File("Foo.java"),
+                    Arrays.asList(
+                        "package foo;",
+                        "import com.sun.jna.Library;",
+                        "import java.util.*;",
+                        "import static java.lang.Math.max;",
+                        "public interface Foo extends Library {",
+                        "    enum Inner {",
+                        "        ONE;",
+                        "        interface Deeper {",
+                        "        }",
+                        "    }",
+                        "}"
+                    )
+                )
+            )
+        );
+    }
+}
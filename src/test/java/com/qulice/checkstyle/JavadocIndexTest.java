@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import java.io.File;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link JavadocIndex}.
+ * @since 1.0
+ */
+final class JavadocIndexTest {
+
+    @Test
+    void findsBlockAboveDeclaration() {
+        final JavadocIndex index = JavadocIndexTest.index();
+        MatcherAssert.assertThat(
+            "Opening and closing lines of the second block should be found",
+            new int[] {index.opening(9), index.closing(9), index.end(9)},
+            Matchers.equalTo(new int[] {5, 9, 9})
+        );
+    }
+
+    @Test
+    void findsNothingAboveFirstBlock() {
+        final JavadocIndex index = JavadocIndexTest.index();
+        MatcherAssert.assertThat(
+            "Nothing should be found above the first opening",
+            new int[] {index.opening(0), index.closing(1), index.comment(9)},
+            Matchers.equalTo(new int[] {0, -1, -1})
+        );
+    }
+
+    @Test
+    void findsFirstTagInRange() {
+        final JavadocIndex index = JavadocIndexTest.index();
+        MatcherAssert.assertThat(
+            "First at-clause should be found only inside the range",
+            new int[] {index.tag(6, 8), index.tag(1, 2)},
+            Matchers.equalTo(new int[] {8, -1})
+        );
+    }
+
+    @Test
+    void findsBlankLines() {
+        final JavadocIndex index = JavadocIndexTest.index();
+        MatcherAssert.assertThat(
+            "Only the line with a lone asterisk should be blank",
+            new boolean[] {index.blank(7), index.blank(6), index.blank(4)},
+            Matchers.equalTo(new boolean[] {true, false, false})
+        );
+    }
+
+    @Test
+    void sharesIndexOfSameContents() {
+        final FileContents contents = JavadocIndexTest.contents();
+        MatcherAssert.assertThat(
+            "Checks of the same file should get the same index",
+            JavadocIndex.of(contents),
+            Matchers.sameInstance(JavadocIndex.of(contents))
+        );
+    }
+
+    @Test
+    void rebuildsIndexOfAnotherFile() {
+        MatcherAssert.assertThat(
+            "Checks of another file should get another index",
+            JavadocIndex.of(JavadocIndexTest.contents()),
+            Matchers.not(
+                Matchers.sameInstance(
+                    JavadocIndex.of(JavadocIndexTest.contents())
+                )
+            )
+        );
+    }
+
+    private static JavadocIndex index() {
+        return new JavadocIndex(JavadocIndexTest.contents());
+    }
+
+    private static FileContents contents() {
+        return new FileContents(
+            new FileText(
+                new File("Foo.java"),
+                Arrays.asList(
+                    "/**",
+                    " * Foo.",
+                    " */",
+                    "public final class Foo {",
+                    "",
+                    "    /**",
+                    "     * Bar.",
+                    "     *",
+                    "     * @return Nothing",
+                    "     */",
+                    "    void bar() {",
+                    "    }",
+                    "}"
+                )
+            )
+        );
+    }
+}
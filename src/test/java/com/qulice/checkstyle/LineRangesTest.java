@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LineRanges}.
+ * @since 1.0
+ */
+final class LineRangesTest {
+
+    @Test
+    void findsLineInsideLongRangeStartedEarlier() {
+        final LineRanges ranges = new LineRanges();
+        ranges.add(new LineRange(1, 100));
+        ranges.add(new LineRange(10, 12));
+        ranges.add(new LineRange(20, 22));
+        MatcherAssert.assertThat(
+            "Line covered by an earlier and longer range should be in range",
+            ranges.inRange(50),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsNoLineBetweenRanges() {
+        final LineRanges ranges = new LineRanges();
+        ranges.add(new LineRange(20, 22));
+        ranges.add(new LineRange(1, 5));
+        MatcherAssert.assertThat(
+            "Lines outside of all the ranges should not be in range",
+            new boolean[] {
+                ranges.inRange(0), ranges.inRange(10), ranges.inRange(23),
+                ranges.inRange(22),
+            },
+            Matchers.equalTo(new boolean[] {false, false, false, true})
+        );
+    }
+
+    @Test
+    void seesRangeAddedAfterQuestion() {
+        final LineRanges ranges = new LineRanges();
+        ranges.add(new LineRange(1, 5));
+        ranges.inRange(3);
+        ranges.add(new LineRange(7, 9));
+        MatcherAssert.assertThat(
+            "Range added after a question should be taken into account",
+            ranges.inRange(8),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsOnlyRangesWithinOthers() {
+        final LineRanges inner = new LineRanges();
+        inner.add(new LineRange(30, 31));
+        inner.add(new LineRange(3, 4));
+        inner.add(new LineRange(8, 12));
+        inner.add(new LineRange(15, 16));
+        final LineRanges outer = new LineRanges();
+        outer.add(new LineRange(14, 40));
+        outer.add(new LineRange(1, 10));
+        final List<Integer> firsts = new ArrayList<>(0);
+        inner.within(outer).iterator().forEachRemaining(
+            range -> firsts.add(range.first())
+        );
+        MatcherAssert.assertThat(
+            "Only ranges entirely inside one of the others should be kept",
+            firsts,
+            Matchers.contains(3, 15, 30)
+        );
+    }
+
+    @Test
+    void findsInnermostRangeAroundLine() {
+        final LineRanges ranges = new LineRanges();
+        ranges.add(new LineRange(1, 100));
+        ranges.add(new LineRange(10, 40));
+        ranges.add(new LineRange(10, 20));
+        ranges.add(new LineRange(22, 30));
+        ranges.add(new LineRange(50, 60));
+        final List<Integer> lasts = new ArrayList<>(0);
+        for (final int line : new int[] {15, 21, 25, 35, 45, 55, 101}) {
+            lasts.add(
+                ranges.innermost(line).map(LineRange::last).orElse(0)
+            );
+        }
+        MatcherAssert.assertThat(
+            "The shortest range around every line should be found",
+            lasts,
+            Matchers.contains(20, 40, 30, 40, 100, 60, 0)
+        );
+    }
+}
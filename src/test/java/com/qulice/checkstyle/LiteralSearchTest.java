@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LiteralSearch}.
+ * @since 1.0
+ */
+final class LiteralSearchTest {
+
+    @Test
+    void findsOverlappingStrings() {
+        MatcherAssert.assertThat(
+            "Strings inside each other should all be found",
+            new LiteralSearch(Arrays.asList("he", "she", "his", "hers"))
+                .found("ushers").toString(),
+            Matchers.equalTo("{0, 1, 3}")
+        );
+    }
+
+    @Test
+    void findsNothingInForeignText() {
+        MatcherAssert.assertThat(
+            "No string should be found in a text without them",
+            new LiteralSearch(Arrays.asList("synchronized", "CharEncoding"))
+                .found("public final class Foo {}").isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsStringAfterFalseStart() {
+        MatcherAssert.assertThat(
+            "A mismatch should not hide the string that follows",
+            new LiteralSearch(Arrays.asList("abd", "bc"))
+                .found("xabcx").toString(),
+            Matchers.equalTo("{1}")
+        );
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import java.util.Arrays;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ParsedChecks}.
+ * @since 1.0
+ */
+final class ParsedChecksTest {
+
+    @Test
+    void parsesSameFlavorOnlyOnce() {
+        MatcherAssert.assertThat(
+            "Same flavor should be parsed once and shared",
+            new ParsedChecks(Set.of("UseEnhancedSwitch")).value(),
+            Matchers.sameInstance(
+                new ParsedChecks(Set.of("UseEnhancedSwitch")).value()
+            )
+        );
+    }
+
+    @Test
+    void dropsRequestedModules() {
+        MatcherAssert.assertThat(
+            "Dropped module should not stay in the configuration",
+            ParsedChecksTest.has(
+                new ParsedChecks(Set.of("UseEnhancedSwitch")).value(),
+                "UseEnhancedSwitch"
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsModulesOfFullFlavor() {
+        MatcherAssert.assertThat(
+            "Full configuration should have every module",
+            ParsedChecksTest.has(
+                new ParsedChecks(Set.of()).value(), "UseEnhancedSwitch"
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void leavesCacheFileOut() {
+        MatcherAssert.assertThat(
+            "Cache file differs between projects and should not be parsed",
+            Arrays.asList(new ParsedChecks(Set.of()).value().getPropertyNames()),
+            Matchers.not(Matchers.hasItem("cacheFile"))
+        );
+    }
+
+    private static boolean has(final Configuration config, final String name) {
+        boolean found = config.getName().equals(name);
+        for (final Configuration child : config.getChildren()) {
+            found = found || ParsedChecksTest.has(child, name);
+        }
+        return found;
+    }
+}
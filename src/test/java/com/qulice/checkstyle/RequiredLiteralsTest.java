@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link RequiredLiterals}.
+ * @since 1.0
+ */
+final class RequiredLiteralsTest {
+
+    @Test
+    void findsLiteralRunsAroundQuantifiers() {
+        MatcherAssert.assertThat(
+            "Runs between quantifiers should be found",
+            new RequiredLiterals("synchronized +\\(this\\) +\\{").value(),
+            Matchers.contains("synchronized ", "(this) ", "{")
+        );
+    }
+
+    @Test
+    void skipsGroupsAndOptionalCharacters() {
+        MatcherAssert.assertThat(
+            "Groups and optional characters should not be required",
+            new RequiredLiterals("new ArrayList(?:<.*?>)?\\(\\)").value(),
+            Matchers.contains("new ArrayList", "()")
+        );
+    }
+
+    @Test
+    void dropsCharacterBeforeStar() {
+        MatcherAssert.assertThat(
+            "A character that may be absent should not be required",
+            new RequiredLiterals("^ab*c$").value(),
+            Matchers.contains("a", "c")
+        );
+    }
+
+    @Test
+    void keepsEscapedLineBreaks() {
+        MatcherAssert.assertThat(
+            "Escaped line breaks should be literal",
+            new RequiredLiterals("\\r\\n$").value(),
+            Matchers.contains(String.format("%c%c", '\r', '\n'))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "foo|bar", "(?i)foo", "\\Qfoo\\E", "\\x41bc", "(?<name>x)foo",
+            "\\s+$", "[abc]+",
+        }
+    )
+    void requiresNothingWhenUnsure(final String regex) {
+        MatcherAssert.assertThat(
+            "Nothing should be required when unsure",
+            new RequiredLiterals(regex).value(),
+            Matchers.empty()
+        );
+    }
+}
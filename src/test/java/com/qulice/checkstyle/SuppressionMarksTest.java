@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SuppressionMarks}.
+ * @since 1.0
+ */
+final class SuppressionMarksTest {
+
+    @Test
+    void findsAllFormsWithTheirLines() {
+        final List<String> found = new ArrayList<>(0);
+        for (final SuppressionMark mark : new SuppressionMarks(
+            String.join(
+                System.lineSeparator(),
+                "/**",
+                " * @checkstyle LineLength (2 lines)",
+                " *",
+                " * @checkstyle MagicNumber disable",
+                " * @checkstyle MagicNumber enable",
+                " */"
+            ),
+            10
+        )) {
+            found.add(
+                String.format(
+                    "%s:%d:%d", mark.check(), mark.line(), mark.lines()
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Every mark should come with its own line",
+            found,
+            Matchers.contains(
+                "LineLength:11:2", "MagicNumber:13:-1", "MagicNumber:14:-1"
+            )
+        );
+    }
+
+    @Test
+    void ignoresTextWithoutMarks() {
+        MatcherAssert.assertThat(
+            "Text without marks should give none",
+            new SuppressionMarks("// @checkstyle is mentioned here", 1),
+            Matchers.emptyIterable()
+        );
+    }
+}
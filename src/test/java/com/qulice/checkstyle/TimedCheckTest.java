@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.checkstyle;
+
+import com.qulice.spi.Corpus;
+import com.qulice.spi.Environment;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link TimedCheck} and {@link TimedFileSetCheck}.
+ * @since 1.0
+ */
+final class TimedCheckTest {
+
+    @Test
+    void reportsSameEventsWhenTimed() throws Exception {
+        final Environment env = new Corpus(11L)
+            .withViolations("MagicNumberCheck")
+            .mock();
+        final CheckstyleListener plain = new CheckstyleListener(env);
+        new Checkers(new ParsedChecks(Set.of())).process(
+            new ArrayList<>(env.files("*.java")),
+            new File(env.tempdir(), "plain.cache"),
+            plain
+        );
+        final CheckstyleListener timed = new CheckstyleListener(env);
+        new Checkers(new ParsedChecks(Set.of(), true)).process(
+            new ArrayList<>(env.files("*.java")),
+            new File(env.tempdir(), "timed.cache"),
+            timed
+        );
+        MatcherAssert.assertThat(
+            "Timed checks should find the same violations",
+            timed.violations(),
+            Matchers.allOf(
+                Matchers.greaterThan(0),
+                Matchers.equalTo(plain.violations())
+            )
+        );
+    }
+
+    @Test
+    void countsTimeAndTokensOfChecks() throws Exception {
+        final Environment env = new Corpus(12L).mock();
+        final CheckProfile profile = new CheckProfile();
+        profile.reset();
+        new Checkers(new ParsedChecks(Set.of(), true)).process(
+            new ArrayList<>(env.files("*.java")),
+            new File(env.tempdir(), "timed.cache"),
+            new CheckstyleListener(env)
+        );
+        MatcherAssert.assertThat(
+            "Magic number check should have visited some tokens",
+            profile.visited("MagicNumberCheck"),
+            Matchers.greaterThan(0L)
+        );
+        MatcherAssert.assertThat(
+            "Profile should list the slowest check first",
+            profile.json(),
+            Matchers.startsWith(
+                String.format(
+                    "{\"checks\":[{\"check\":\"%s\"", profile.slowest().get(0)
+                )
+            )
+        );
+    }
+}
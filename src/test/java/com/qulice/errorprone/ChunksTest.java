@@ -0,0 +1,165 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Chunks}.
+ * @since 1.0
+ */
+final class ChunksTest {
+
+    @Test
+    void keepsBatchWithinBudgetWhole(@TempDir final Path dir)
+        throws IOException {
+        final List<File> sources = Arrays.asList(
+            ChunksTest.source(dir, "a", "A", ""),
+            ChunksTest.source(dir, "b", "B", "import a.A;")
+        );
+        MatcherAssert.assertThat(
+            "a batch within the budget must not be cut",
+            new Chunks(10, 1_000_000L, StandardCharsets.UTF_8).split(sources),
+            Matchers.contains(Matchers.equalTo(sources))
+        );
+    }
+
+    @Test
+    void keepsPackagesTogether(@TempDir final Path dir) throws IOException {
+        final File first = ChunksTest.source(dir, "a", "A", "");
+        final File second = ChunksTest.source(dir, "b", "B", "");
+        final File third = ChunksTest.source(dir, "a", "C", "import b.B;");
+        final File fourth = ChunksTest.source(dir, "b", "D", "");
+        final List<List<File>> chunks = new Chunks(
+            2, 1_000_000L, StandardCharsets.UTF_8
+        ).split(Arrays.asList(first, second, third, fourth));
+        MatcherAssert.assertThat(
+            String.format("a package must not be cut: %s", chunks),
+            chunks,
+            Matchers.containsInAnyOrder(
+                Matchers.containsInAnyOrder(first, third),
+                Matchers.containsInAnyOrder(second, fourth)
+            )
+        );
+    }
+
+    @Test
+    void cutsBigPackageWithinBudget(@TempDir final Path dir)
+        throws IOException {
+        final List<File> sources = Arrays.asList(
+            ChunksTest.source(dir, "a", "A", ""),
+            ChunksTest.source(dir, "a", "B", ""),
+            ChunksTest.source(dir, "a", "C", ""),
+            ChunksTest.source(dir, "b", "D", "import a.A;")
+        );
+        final List<List<File>> chunks = new Chunks(
+            2, 1_000_000L, StandardCharsets.UTF_8
+        ).split(sources);
+        MatcherAssert.assertThat(
+            String.format("every chunk must be within the budget: %s", chunks),
+            chunks.stream().mapToInt(List::size).max().getAsInt(),
+            Matchers.lessThanOrEqualTo(2)
+        );
+    }
+
+    @Test
+    void compilesChunksThatReferToEachOther(@TempDir final Path dir)
+        throws IOException {
+        final List<File> sources = Arrays.asList(
+            ChunksTest.source(dir, "a", "A", "import b.B;", "B peer;"),
+            ChunksTest.source(dir, "b", "B", "import a.A;", "A peer;")
+        );
+        final Chunks chunks = new Chunks(1, 1_000_000L, StandardCharsets.UTF_8);
+        final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        for (final List<File> chunk : chunks.split(sources)) {
+            try (StandardJavaFileManager files = javac.getStandardFileManager(
+                null, null, StandardCharsets.UTF_8
+            )) {
+                MatcherAssert.assertThat(
+                    String.format("chunk %s must compile with no classes", chunk),
+                    javac.getTask(
+                        null, files, null,
+                        List.of(
+                            "-d", dir.resolve("classes").toString(),
+                            "-sourcepath", chunks.sourcepath(sources),
+                            "-implicit:none"
+                        ),
+                        null, files.getJavaFileObjectsFromFiles(chunk)
+                    ).call(),
+                    Matchers.is(true)
+                );
+            }
+        }
+    }
+
+    @Test
+    void tellsBatchCompiledFromStale(@TempDir final Path dir)
+        throws IOException {
+        final List<File> sources = Arrays.asList(
+            ChunksTest.source(dir, "a", "A", "import b.B;", "B peer;"),
+            ChunksTest.source(dir, "b", "B", "")
+        );
+        final Path classes = dir.resolve("classes");
+        final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = javac.getStandardFileManager(
+            null, null, StandardCharsets.UTF_8
+        )) {
+            javac.getTask(
+                null, files, null, List.of("-d", classes.toString()),
+                null, files.getJavaFileObjectsFromFiles(sources)
+            ).call();
+        }
+        final Chunks chunks = new Chunks(1, 1_000_000L, StandardCharsets.UTF_8);
+        final boolean before = chunks.compiled(
+            sources, List.of(classes.toString())
+        );
+        sources.get(1).setLastModified(System.currentTimeMillis() + 60_000L);
+        MatcherAssert.assertThat(
+            "a source changed after it was compiled must make the batch stale",
+            Arrays.asList(
+                before, chunks.compiled(sources, List.of(classes.toString()))
+            ),
+            Matchers.contains(true, false)
+        );
+    }
+
+    private static File source(final Path dir, final String pkg,
+        final String name, final String imports, final String... body)
+        throws IOException {
+        final Path file = dir.resolve(pkg).resolve(String.format("%s.java", name));
+        Files.createDirectories(file.getParent());
+        Files.write(
+            file,
+            ChunksTest.lines(pkg, name, imports, body),
+            StandardCharsets.UTF_8
+        );
+        return file.toFile();
+    }
+
+    private static List<String> lines(final String pkg, final String name,
+        final String imports, final String... body) {
+        final List<String> lines = new ArrayList<>(body.length + 4);
+        lines.add(String.format("package %s;", pkg));
+        lines.add(imports);
+        lines.add(String.format("public final class %s {", name));
+        lines.addAll(Arrays.asList(body));
+        lines.add("}");
+        return lines;
+    }
+}
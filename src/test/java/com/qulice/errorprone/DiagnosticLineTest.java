@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Violation;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link DiagnosticLine}.
+ * @since 1.0
+ */
+final class DiagnosticLineTest {
+
+    @Test
+    void namesLintWarningAfterItsCategory(@TempDir final Path dir)
+        throws IOException {
+        final Path stale = dir.resolve("Stale.java");
+        Files.write(
+            stale,
+            Arrays.asList(
+                "package p;",
+                "public final class Stale {",
+                "    @Deprecated(forRemoval = true)",
+                "    public static void old() {",
+                "    }",
+                "}"
+            ),
+            StandardCharsets.UTF_8
+        );
+        final Path caller = dir.resolve("Caller.java");
+        Files.write(
+            caller,
+            Arrays.asList(
+                "package p;",
+                "final class Caller {",
+                "    void call() {",
+                "        Stale.old();",
+                "    }",
+                "}"
+            ),
+            StandardCharsets.UTF_8
+        );
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final DiagnosticLine listener = new DiagnosticLine(
+            new PrintStream(out, true, StandardCharsets.UTF_8)
+        );
+        final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = javac.getStandardFileManager(
+            listener, null, StandardCharsets.UTF_8
+        )) {
+            javac.getTask(
+                null, files, listener,
+                List.of("-d", dir.resolve("classes").toString()),
+                null, files.getJavaFileObjects(stale, caller)
+            ).call();
+        }
+        final Collection<Violation> violations = new Diagnostics(
+            "ErrorProne", dir.toString()
+        ).violations(
+            Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\\R"))
+        );
+        MatcherAssert.assertThat(
+            String.format("lint category must name the check: %s", violations),
+            violations.stream().map(Violation::name).collect(Collectors.toList()),
+            Matchers.hasItem("removal")
+        );
+    }
+}
@@ -92,4 +92,35 @@ final class DiagnosticsTest {
             Matchers.<Violation>empty()
         );
     }
+
+    @Test
+    void readsRangeOfStructuredDiagnostic() {
+        MatcherAssert.assertThat(
+            "first and last line of the diagnostic must both survive",
+            new Diagnostics("ErrorProne", "/prj").violation(
+                String.join(
+                    "\t", DiagnosticLine.MARK, "WARNING", "/prj/Foo.java",
+                    "12", "15", "", "[SelfAssignment] assigned to itself"
+                )
+            ).orElseThrow().lines(),
+            Matchers.equalTo("12-15")
+        );
+    }
+
+    @Test
+    void keepsWholeMessageOfStructuredDiagnostic() {
+        final String message = String.format(
+            "[UnusedVariable] The local variable 'x' is never read.%n    Did you mean to remove it?"
+        );
+        MatcherAssert.assertThat(
+            "every line of the message must survive",
+            new Diagnostics("ErrorProne", "/prj").violation(
+                String.join(
+                    "\t", DiagnosticLine.MARK, "WARNING", "/prj/Foo.java",
+                    "3", "3", "", DiagnosticLine.escaped(message)
+                )
+            ).orElseThrow().message(),
+            Matchers.equalTo(message)
+        );
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ProcessorPath}.
+ * @since 1.0
+ */
+final class ProcessorPathTest {
+
+    @Test
+    void keepsOnlyRuntimeDependenciesOfErrorProne(@TempDir final Path dir)
+        throws IOException {
+        final String core = ProcessorPathTest.jar(
+            dir, "com.google.errorprone", "error_prone_core",
+            String.join(
+                "",
+                "<project xmlns='http://maven.apache.org/POM/4.0.0'>",
+                "<dependencies>",
+                "<dependency><groupId>${project.groupId}</groupId>",
+                "<artifactId>error_prone_check_api</artifactId></dependency>",
+                "<dependency><groupId>junit</groupId>",
+                "<artifactId>junit</artifactId><scope>test</scope></dependency>",
+                "</dependencies></project>"
+            )
+        );
+        final String api = ProcessorPathTest.jar(
+            dir, "com.google.errorprone", "error_prone_check_api",
+            "<project/>"
+        );
+        final String junit = ProcessorPathTest.jar(
+            dir, "junit", "junit", "<project/>"
+        );
+        final String other = ProcessorPathTest.jar(
+            dir, "com.puppycrawl.tools", "checkstyle", "<project/>"
+        );
+        MatcherAssert.assertThat(
+            "Only ErrorProne and its runtime dependencies should be kept",
+            List.of(
+                new ProcessorPath(List.of(core, api, junit, other))
+                    .value().split(File.pathSeparator)
+            ),
+            Matchers.allOf(
+                Matchers.hasItems(core, api),
+                Matchers.not(Matchers.hasItem(junit)),
+                Matchers.not(Matchers.hasItem(other))
+            )
+        );
+    }
+
+    @Test
+    void followsDependenciesOfParentPom(@TempDir final Path dir)
+        throws IOException {
+        final Path repo = dir.resolve("repo");
+        final Path parent = repo.resolve(
+            "com/google/errorprone/error_prone_parent/1.0"
+        );
+        Files.createDirectories(parent);
+        Files.write(
+            parent.resolve("error_prone_parent-1.0.pom"),
+            String.join(
+                "",
+                "<project xmlns='http://maven.apache.org/POM/4.0.0'>",
+                "<dependencies><dependency><groupId>com.google.guava</groupId>",
+                "<artifactId>guava</artifactId></dependency></dependencies>",
+                "</project>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final String core = ProcessorPathTest.jar(
+            repo.resolve("com/google/errorprone/error_prone_core/1.0"),
+            "com.google.errorprone", "error_prone_core",
+            ProcessorPathTest.child("error_prone_parent")
+        );
+        final String guava = ProcessorPathTest.jar(
+            dir, "com.google.guava", "guava", "<project/>"
+        );
+        final String other = ProcessorPathTest.jar(
+            dir, "com.puppycrawl.tools", "checkstyle", "<project/>"
+        );
+        MatcherAssert.assertThat(
+            "A dependency declared by the parent should be kept",
+            List.of(
+                new ProcessorPath(List.of(core, guava, other))
+                    .value().split(File.pathSeparator)
+            ),
+            Matchers.allOf(
+                Matchers.hasItems(core, guava),
+                Matchers.not(Matchers.hasItem(other))
+            )
+        );
+    }
+
+    @Test
+    void keepsAllCandidatesWhenParentIsMissing(@TempDir final Path dir)
+        throws IOException {
+        final String core = ProcessorPathTest.jar(
+            dir, "com.google.errorprone", "error_prone_core",
+            ProcessorPathTest.child("error_prone_absent")
+        );
+        final String other = ProcessorPathTest.jar(
+            dir, "com.puppycrawl.tools", "checkstyle", "<project/>"
+        );
+        MatcherAssert.assertThat(
+            "A walk that can't read a parent should give up and keep all",
+            List.of(
+                new ProcessorPath(List.of(core, other))
+                    .value().split(File.pathSeparator)
+            ),
+            Matchers.hasItems(core, other)
+        );
+    }
+
+    private static String child(final String parent) {
+        return String.join(
+            "",
+            "<project xmlns='http://maven.apache.org/POM/4.0.0'><parent>",
+            "<groupId>com.google.errorprone</groupId>",
+            String.format("<artifactId>%s</artifactId>", parent),
+            "<version>1.0</version></parent></project>"
+        );
+    }
+
+    private static String jar(final Path dir, final String group,
+        final String artifact, final String pom) throws IOException {
+        Files.createDirectories(dir);
+        final Path jar = dir.resolve(String.format("%s.jar", artifact));
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(
+                new ZipEntry(
+                    String.format("META-INF/maven/%s/%s/pom.xml", group, artifact)
+                )
+            );
+            out.write(pom.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        return jar.toFile().getAbsolutePath();
+    }
+}
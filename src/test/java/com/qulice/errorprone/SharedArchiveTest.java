@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link SharedArchive}.
+ * @since 1.0
+ */
+final class SharedArchiveTest {
+
+    @Test
+    void pointsForkAtArchiveInDirectory(@TempDir final File dir) {
+        MatcherAssert.assertThat(
+            "The archive should live in the given directory",
+            new SharedArchive(dir, "a.jar").flags(),
+            Matchers.hasItem(Matchers.containsString(dir.getAbsolutePath()))
+        );
+    }
+
+    @Test
+    void namesArchiveByProcessorPath(@TempDir final File dir) {
+        MatcherAssert.assertThat(
+            "Another processor path should get another archive",
+            new SharedArchive(dir, "a.jar").flags(),
+            Matchers.not(
+                Matchers.equalTo(new SharedArchive(dir, "b.jar").flags())
+            )
+        );
+    }
+
+    @Test
+    void deletesLeastRecentlyUsedArchives(@TempDir final File dir)
+        throws Exception {
+        for (int idx = 0; idx < 6; idx += 1) {
+            final File old = new File(dir, String.format("old%d.jsa", idx));
+            Files.write(old.toPath(), new byte[] {0});
+            old.setLastModified(1_000_000L * (idx + 1));
+        }
+        new SharedArchive(dir, "a.jar").flags();
+        MatcherAssert.assertThat(
+            "Only the most recently used archives should stay",
+            dir.list((parent, name) -> name.endsWith(".jsa")),
+            Matchers.allOf(
+                Matchers.arrayWithSize(4),
+                Matchers.hasItemInArray("old5.jsa"),
+                Matchers.not(Matchers.hasItemInArray("old0.jsa"))
+            )
+        );
+    }
+
+    @Test
+    void letsOnlyOneForkDumpArchive(@TempDir final File dir) {
+        final long dumping = Stream.of(
+            new SharedArchive(dir, "a.jar").flags(),
+            new SharedArchive(dir, "a.jar").flags()
+        ).filter(SharedArchive::dumping).count();
+        MatcherAssert.assertThat(
+            "At most one fork should ever write the archive at exit",
+            dumping,
+            Matchers.lessThanOrEqualTo(1L)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link SharedFiles}.
+ * @since 1.0
+ */
+final class SharedFilesTest {
+
+    @Test
+    void keepsFileManagerOfSameJars(@TempDir final Path dir) throws Exception {
+        final Path jar = dir.resolve("lib.jar");
+        Files.write(jar, "a".getBytes(StandardCharsets.UTF_8));
+        final SharedFiles files = new SharedFiles(
+            ToolProvider.getSystemJavaCompiler(), null
+        );
+        final List<String> options = List.of("-classpath", jar.toString());
+        MatcherAssert.assertThat(
+            "the jars of a file manager must stay open for the next compilation",
+            files.files(options),
+            Matchers.sameInstance(files.files(options))
+        );
+    }
+
+    @Test
+    void dropsFileManagerWhenJarChanges(@TempDir final Path dir)
+        throws Exception {
+        final Path jar = dir.resolve("lib.jar");
+        Files.write(jar, "a".getBytes(StandardCharsets.UTF_8));
+        final SharedFiles files = new SharedFiles(
+            ToolProvider.getSystemJavaCompiler(), null
+        );
+        final List<String> options = List.of("-classpath", jar.toString());
+        final StandardJavaFileManager before = files.files(options);
+        Files.write(jar, "bb".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "a jar that changed must not be read from a file manager that opened it",
+            files.files(options),
+            Matchers.not(Matchers.sameInstance(before))
+        );
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import com.qulice.spi.Violation;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import javax.tools.ToolProvider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Worker}.
+ * @since 1.0
+ */
+final class WorkerTest {
+
+    @Test
+    void answersEveryArgfileInTurn(@TempDir final Path dir) throws Exception {
+        final Worker worker = new Worker(WorkerTest.command(), 60_000L);
+        try {
+            final Diagnostics diagnostics = new Diagnostics(
+                "ErrorProne", dir.toString()
+            );
+            final Collection<Violation> broken = worker.run(
+                WorkerTest.argfile(dir, "Broken", "int x = \"s\";"), diagnostics
+            );
+            final Collection<Violation> clean = worker.run(
+                WorkerTest.argfile(dir, "Clean", "int x = 1;"), diagnostics
+            );
+            MatcherAssert.assertThat(
+                String.format("each answer must end at its own line: %s", broken),
+                Arrays.asList(broken.size(), clean.size(), worker.jobs()),
+                Matchers.contains(1, 0, 2)
+            );
+        } finally {
+            worker.close();
+        }
+    }
+
+    @Test
+    void failsWhenWorkerIsGoneBeforeAnswering(@TempDir final Path dir)
+        throws Exception {
+        final List<String> command = new ArrayList<>(WorkerTest.command());
+        command.add(1, "--dry-run");
+        final Worker worker = new Worker(command, 60_000L);
+        Assertions.assertThrows(
+            EOFException.class,
+            () -> worker.run(
+                WorkerTest.argfile(dir, "Clean", "int x = 1;"),
+                new Diagnostics("ErrorProne", dir.toString())
+            ),
+            "a worker that is gone must be told apart, so it can be replaced"
+        );
+    }
+
+    @Test
+    void failsWhenWorkerExitsMidRun(@TempDir final Path dir) throws Exception {
+        final Worker worker = new Worker(
+            Arrays.asList(WorkerTest.command().get(0), "-version"), 60_000L
+        );
+        MatcherAssert.assertThat(
+            "a worker that exits with no answer must fail the compilation",
+            Assertions.assertThrows(
+                IOException.class,
+                () -> worker.run(
+                    WorkerTest.argfile(dir, "Clean", "int x = 1;"),
+                    new Diagnostics("ErrorProne", dir.toString())
+                )
+            ).getMessage(),
+            Matchers.containsString("exited while compiling")
+        );
+    }
+
+    @Test
+    void killsWorkerThatTakesTooLong(@TempDir final Path dir) throws Exception {
+        final Path sleeper = dir.resolve("Sleeper.java");
+        Files.write(
+            sleeper,
+            Arrays.asList(
+                "final class Sleeper {",
+                "    public static void main(String... args) throws Exception {",
+                "        Thread.sleep(600_000L);",
+                "    }",
+                "}"
+            ),
+            StandardCharsets.UTF_8
+        );
+        final Worker worker = new Worker(
+            Arrays.asList(WorkerTest.command().get(0), sleeper.toString()), 1_000L
+        );
+        MatcherAssert.assertThat(
+            "a worker must not be waited for longer than the timeout",
+            Assertions.assertThrows(
+                IOException.class,
+                () -> worker.run(
+                    WorkerTest.argfile(dir, "Clean", "int x = 1;"),
+                    new Diagnostics("ErrorProne", dir.toString())
+                )
+            ).getMessage(),
+            Matchers.containsString("took more than")
+        );
+    }
+
+    @Test
+    void forgetsSourcepathOfPreviousChunk(@TempDir final Path dir)
+        throws Exception {
+        final Path good = dir.resolve("good/p/Dep.java");
+        Files.createDirectories(good.getParent());
+        Files.write(
+            good, Arrays.asList("package p;", "public class Dep {}"),
+            StandardCharsets.UTF_8
+        );
+        final Path lib = dir.resolve("lib");
+        MatcherAssert.assertThat(
+            "the jar of the other module must compile",
+            ToolProvider.getSystemJavaCompiler().run(
+                null, null, null, "-d", lib.toString(), good.toString()
+            ),
+            Matchers.equalTo(0)
+        );
+        final Path stale = dir.resolve("a/p/Dep.java");
+        Files.createDirectories(stale.getParent());
+        Files.write(
+            stale,
+            Arrays.asList("package p;", "public class Dep { int x = \"s\"; }"),
+            StandardCharsets.UTF_8
+        );
+        stale.toFile().setLastModified(System.currentTimeMillis() + 60_000L);
+        final Path chunk = dir.resolve("a/p/User.java");
+        Files.write(
+            chunk, Arrays.asList("package p;", "final class User { Dep dep; }"),
+            StandardCharsets.UTF_8
+        );
+        final Path other = dir.resolve("b/q/Use.java");
+        Files.createDirectories(other.getParent());
+        Files.write(
+            other,
+            Arrays.asList("package q;", "final class Use { p.Dep dep; }"),
+            StandardCharsets.UTF_8
+        );
+        final Worker worker = new Worker(WorkerTest.command(), 60_000L);
+        try {
+            final Diagnostics diagnostics = new Diagnostics(
+                "ErrorProne", dir.toString()
+            );
+            worker.run(
+                new Argfile(
+                    dir.resolve("a.txt").toFile(),
+                    Arrays.asList(
+                        "-proc:none", "-d", dir.resolve("a-classes").toString(),
+                        "-sourcepath", dir.resolve("a").toString(),
+                        "-implicit:none", chunk.toString()
+                    )
+                ).save(),
+                diagnostics
+            );
+            MatcherAssert.assertThat(
+                "a module must not compile the sources of the previous chunk",
+                worker.run(
+                    new Argfile(
+                        dir.resolve("b.txt").toFile(),
+                        Arrays.asList(
+                            "-proc:none", "-d", dir.resolve("b-classes").toString(),
+                            "-classpath", lib.toString(), other.toString()
+                        )
+                    ).save(),
+                    diagnostics
+                ),
+                Matchers.empty()
+            );
+        } finally {
+            worker.close();
+        }
+    }
+
+    /**
+     * Command that starts a worker with the classes of this build.
+     * @return The command
+     * @throws URISyntaxException If the classes can't be found
+     */
+    static List<String> command() throws URISyntaxException {
+        return Arrays.asList(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+            "-classpath",
+            Paths.get(
+                ForkedJavac.class.getProtectionDomain().getCodeSource()
+                    .getLocation().toURI()
+            ).toString(),
+            ForkedJavac.class.getName(),
+            ForkedJavac.WORKER
+        );
+    }
+
+    /**
+     * Argfile that compiles one class.
+     * @param dir Where to put it
+     * @param name Name of the class
+     * @param body Body of the class
+     * @return The argfile
+     * @throws IOException If it can't be written
+     */
+    static File argfile(final Path dir, final String name, final String body)
+        throws IOException {
+        final Path source = dir.resolve(String.format("%s.java", name));
+        Files.write(
+            source,
+            Arrays.asList(String.format("final class %s {", name), body, "}"),
+            StandardCharsets.UTF_8
+        );
+        return new Argfile(
+            dir.resolve(String.format("%s.txt", name)).toFile(),
+            Arrays.asList(
+                "-proc:none", "-d", dir.resolve("classes").toString(),
+                source.toString()
+            )
+        ).save();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.errorprone;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Workers}.
+ * @since 1.0
+ */
+final class WorkersTest {
+
+    @Test
+    void letsWorkerGoAfterItsJobs(@TempDir final Path dir) throws Exception {
+        final Workers workers = new Workers(WorkersTest.command(), 2, 60_000L);
+        final Diagnostics diagnostics = new Diagnostics("ErrorProne", dir.toString());
+        workers.run(WorkerTest.argfile(dir, "First", "int x = 1;"), diagnostics);
+        final int after = workers.waiting();
+        workers.run(WorkerTest.argfile(dir, "Second", "int x = 1;"), diagnostics);
+        MatcherAssert.assertThat(
+            "a worker must go back to the pool until it did all its jobs",
+            List.of(after, workers.waiting()),
+            Matchers.contains(1, 0)
+        );
+    }
+
+    @Test
+    void replacesWorkerThatDiedInPool(@TempDir final Path dir)
+        throws Exception {
+        final List<String> command = WorkersTest.command();
+        final Workers workers = new Workers(command, Workers.JOBS, 60_000L);
+        final Diagnostics diagnostics = new Diagnostics("ErrorProne", dir.toString());
+        workers.run(WorkerTest.argfile(dir, "First", "int x = 1;"), diagnostics);
+        ProcessHandle.current().children()
+            .filter(
+                child -> child.info().commandLine()
+                    .map(line -> line.contains(command.get(1)))
+                    .orElse(false)
+            )
+            .forEach(
+                child -> {
+                    child.destroyForcibly();
+                    child.onExit().join();
+                }
+            );
+        MatcherAssert.assertThat(
+            "a worker that died in the pool must be replaced",
+            workers.run(
+                WorkerTest.argfile(dir, "Second", "int x = \"s\";"), diagnostics
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    private static List<String> command() throws Exception {
+        final List<String> command = new ArrayList<>(WorkerTest.command());
+        command.add(
+            1, String.format("-Dqulice.test=%s", UUID.randomUUID().toString())
+        );
+        return command;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link DuplicateEntries}.
+ * @since 1.0
+ */
+final class DuplicateEntriesTest {
+
+    @Test
+    void reportsDifferentAndEqualDuplicates() {
+        final Map<String, Map<String, Long>> classpath = new LinkedHashMap<>(0);
+        classpath.put(
+            "a:a:1",
+            Map.of("com/a/Same.class", 1L, "com/a/Other.class", 2L, "x.xml", 5L)
+        );
+        classpath.put(
+            "b:b:1",
+            Map.of("com/a/Same.class", 1L, "com/a/Other.class", 3L, "x.xml", 5L)
+        );
+        MatcherAssert.assertThat(
+            "Duplicates should be grouped by the way they are duplicate",
+            new DuplicateEntries(Collections.emptyList()).conflicts(classpath),
+            Matchers.allOf(
+                Matchers.hasEntry(
+                    Matchers.equalTo(
+                        "Found duplicate and different classes in [a:a:1, b:b:1]"
+                    ),
+                    Matchers.contains("com.a.Other")
+                ),
+                Matchers.hasEntry(
+                    Matchers.equalTo(
+                        "Found duplicate (but equal) classes in [a:a:1, b:b:1]"
+                    ),
+                    Matchers.contains("com.a.Same")
+                ),
+                Matchers.hasEntry(
+                    Matchers.equalTo(
+                        "Found duplicate (but equal) resources in [a:a:1, b:b:1]"
+                    ),
+                    Matchers.contains("x.xml")
+                )
+            )
+        );
+    }
+
+    @Test
+    void ignoresModuleInfoMetaInfAndIgnoredResources() {
+        final Map<String, Long> entries = Map.of(
+            "module-info.class", 1L,
+            "META-INF/versions/9/module-info.class", 2L,
+            "META-INF/MANIFEST.MF", 3L,
+            "LICENSE.txt", 4L,
+            "com/a/skipped.properties", 5L
+        );
+        final Map<String, Map<String, Long>> classpath = new LinkedHashMap<>(0);
+        classpath.put("a:a:1", entries);
+        classpath.put("b:b:1", entries);
+        MatcherAssert.assertThat(
+            "Ignored entries should never make a conflict",
+            new DuplicateEntries(List.of("com/a/.*\\.properties"))
+                .conflicts(classpath)
+                .entrySet(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void comparesClassesOfMultiReleaseJars() {
+        final Map<String, Map<String, Long>> classpath = new LinkedHashMap<>(0);
+        classpath.put("a:a:1", Map.of("META-INF/versions/11/com/a/A.class", 1L));
+        classpath.put("b:b:1", Map.of("META-INF/versions/11/com/a/A.class", 2L));
+        MatcherAssert.assertThat(
+            "A class of a multi-release jar should be compared like any other",
+            new DuplicateEntries(Collections.emptyList()).conflicts(classpath),
+            Matchers.hasEntry(
+                Matchers.equalTo(
+                    "Found duplicate and different classes in [a:a:1, b:b:1]"
+                ),
+                Matchers.contains("META-INF.versions.11.com.a.A")
+            )
+        );
+    }
+}
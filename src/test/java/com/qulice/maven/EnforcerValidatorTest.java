@@ -5,6 +5,7 @@
 package com.qulice.maven;
 
 import com.qulice.spi.Environment;
+import com.qulice.spi.ValidationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -33,17 +34,78 @@ final class EnforcerValidatorTest {
     }
 
     /**
-     * EnforcerValidator attempts to execute the plugin when the check
-     * is not excluded.
+     * EnforcerValidator checks the default version rules without the
+     * plugin.
      * @throws Exception If something wrong happens inside
      */
     @Test
-    void invokesExecutorWhenNotExcluded() throws Exception {
-        Assertions.assertThrows(
-            UnsupportedOperationException.class,
+    void checksVersionsWithoutExecutor() throws Exception {
+        Assertions.assertDoesNotThrow(
             () -> new EnforcerValidator()
                 .validate(new MavenEnvironmentMocker().mock()),
-            "Enforcer validator must call executor when check is not excluded"
+            "Enforcer validator must not call executor for version rules"
+        );
+    }
+
+    /**
+     * EnforcerValidator fails when a version rule is not met.
+     * @throws Exception If something wrong happens inside
+     */
+    @Test
+    void failsOnTooOldJava() throws Exception {
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> new EnforcerValidator().validate(
+                new MavenEnvironment.Wrap(
+                    new Environment.Mock().withParam(
+                        "qulice.enforcer", "requireJavaVersion:[1.5,1.6]"
+                    ),
+                    new MavenEnvironmentMocker().mock()
+                )
+            ),
+            "Enforcer validator must fail when Java is out of the range"
+        );
+    }
+
+    /**
+     * EnforcerValidator reads a version range with a space inside as one
+     * rule.
+     * @throws Exception If something wrong happens inside
+     */
+    @Test
+    void readsRangeWithSpaceAsOneRule() throws Exception {
+        Assertions.assertDoesNotThrow(
+            () -> new EnforcerValidator().validate(
+                new MavenEnvironment.Wrap(
+                    new Environment.Mock().withParam(
+                        "qulice.enforcer",
+                        "requireMavenVersion:[3.0, 99)\nrequireJavaVersion:[1.8, 99)"
+                    ),
+                    new MavenEnvironmentMocker().mock()
+                )
+            ),
+            "Enforcer validator must not split a range at its space"
+        );
+    }
+
+    /**
+     * EnforcerValidator attempts to execute the plugin for a rule it
+     * can't check itself.
+     * @throws Exception If something wrong happens inside
+     */
+    @Test
+    void invokesExecutorForOtherRules() throws Exception {
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> new EnforcerValidator().validate(
+                new MavenEnvironment.Wrap(
+                    new Environment.Mock().withParam(
+                        "qulice.enforcer", "banDuplicatePomDependencyVersions"
+                    ),
+                    new MavenEnvironmentMocker().mock()
+                )
+            ),
+            "Enforcer validator must call executor for other rules"
         );
     }
 }
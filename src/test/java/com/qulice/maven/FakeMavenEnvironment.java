@@ -75,6 +75,11 @@ final class FakeMavenEnvironment implements MavenEnvironment {
         return this.assrts;
     }
 
+    @Override
+    public File repository() {
+        return new File(this.proj.getBasedir(), "repository");
+    }
+
     @Override
     public File basedir() {
         return this.proj.getBasedir();
@@ -0,0 +1,126 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link JarIndex}.
+ * @since 1.0
+ */
+final class JarIndexTest {
+
+    @Test
+    void indexesJarOfRepository(@TempDir final Path dir) throws Exception {
+        final File repo = dir.resolve("repo").toFile();
+        final File index = dir.resolve("index").toFile();
+        new JarIndex(index, repo).entries(JarIndexTest.jar(repo.toPath()));
+        MatcherAssert.assertThat(
+            "A jar in the repository should be indexed",
+            index.list(),
+            Matchers.arrayWithSize(1)
+        );
+    }
+
+    @Test
+    void listsFileEntriesWithChecksums(@TempDir final Path dir)
+        throws Exception {
+        final File jar = JarIndexTest.jar(dir.resolve("target"));
+        MatcherAssert.assertThat(
+            "Every file entry should come with the CRC-32 of its content",
+            new JarIndex(
+                dir.resolve("index").toFile(), dir.resolve("repo").toFile()
+            ).entries(jar),
+            Matchers.allOf(
+                Matchers.aMapWithSize(4),
+                Matchers.hasEntry("com/fake/Marker.class", 3_523_407_757L)
+            )
+        );
+    }
+
+    @Test
+    void doesNotIndexJarsOutsideRepository(@TempDir final Path dir)
+        throws Exception {
+        final File index = dir.resolve("index").toFile();
+        new JarIndex(index, dir.resolve("repo").toFile()).entries(
+            JarIndexTest.jar(dir.resolve("target"))
+        );
+        MatcherAssert.assertThat(
+            "A jar outside of the repository should not be indexed",
+            index.exists(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void deletesLeastRecentlyUsedIndexFiles(@TempDir final Path dir)
+        throws Exception {
+        final File repo = dir.resolve("repo").toFile();
+        final Path index = Files.createDirectories(dir.resolve("index"));
+        for (int idx = 0; idx < 3; idx += 1) {
+            Files.createFile(index.resolve(String.format("old%d.idx", idx)))
+                .toFile().setLastModified(1_000_000L * (idx + 1));
+        }
+        new JarIndex(index.toFile(), repo, 2).entries(
+            JarIndexTest.jar(repo.toPath())
+        );
+        MatcherAssert.assertThat(
+            "Only the most recently used index files should stay",
+            index.toFile().list(),
+            Matchers.allOf(
+                Matchers.arrayWithSize(2),
+                Matchers.hasItemInArray("old2.idx")
+            )
+        );
+    }
+
+    @Test
+    void deletesTemporaryFilesLeftByDeadBuilds(@TempDir final Path dir)
+        throws Exception {
+        final File repo = dir.resolve("repo").toFile();
+        final Path index = Files.createDirectories(dir.resolve("index"));
+        Files.createFile(index.resolve("jar1.tmp")).toFile()
+            .setLastModified(1_000_000L);
+        Files.createFile(index.resolve("jar2.tmp"));
+        new JarIndex(index.toFile(), repo).entries(JarIndexTest.jar(repo.toPath()));
+        MatcherAssert.assertThat(
+            "Only the temporary files of a build still running should stay",
+            index.toFile().list(),
+            Matchers.allOf(
+                Matchers.arrayWithSize(2),
+                Matchers.hasItemInArray("jar2.tmp"),
+                Matchers.not(Matchers.hasItemInArray("jar1.tmp"))
+            )
+        );
+    }
+
+    private static File jar(final Path dir) throws Exception {
+        Files.createDirectories(dir);
+        final File jar = dir.resolve("fake.jar").toFile();
+        try (
+            JarOutputStream out = new JarOutputStream(
+                Files.newOutputStream(jar.toPath())
+            )
+        ) {
+            for (final String entry : new String[] {
+                "com/fake/Marker.class", "com/fake/Marker$Inner.class",
+                "module-info.class", "META-INF/MANIFEST.MF",
+            }) {
+                out.putNextEntry(new JarEntry(entry));
+                out.write(new byte[]{0});
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link JsonLinesReporter}.
+ * @since 1.0
+ */
+final class JsonLinesReporterTest {
+
+    @Test
+    void writesOneLinePerViolation(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("qulice/violations.jsonl").toFile();
+        try (Reporter reporter = new JsonLinesReporter(file)) {
+            reporter.report(
+                new Violation.Compact(
+                    "Checkstyle", "MethodNameCheck", "/prj/Foo.java", 12,
+                    "Name \"x\" is bad"
+                )
+            );
+            reporter.report(
+                new Violation.Default(
+                    "PMD", "ConfigurationError", "unknown", "unknown", "oops"
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "every violation must become one JSON line",
+            Files.readAllLines(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.contains(
+                String.join(
+                    "",
+                    "{\"validator\":\"Checkstyle\",\"check\":\"MethodNameCheck\",",
+                    "\"file\":\"/prj/Foo.java\",\"lines\":\"12\",",
+                    "\"message\":\"Name \\\"x\\\" is bad\"}"
+                ),
+                String.join(
+                    "",
+                    "{\"validator\":\"PMD\",\"check\":\"ConfigurationError\",",
+                    "\"file\":\"unknown\",\"lines\":\"unknown\",\"message\":\"oops\"}"
+                )
+            )
+        );
+    }
+
+    @Test
+    void dropsViolationsReportedAfterClose(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("violations.jsonl").toFile();
+        final Reporter reporter = new JsonLinesReporter(file);
+        reporter.close();
+        reporter.report(
+            new Violation.Compact(
+                "PMD", "UnusedLocalVariable", "/prj/Late.java", 3, "late"
+            )
+        );
+        MatcherAssert.assertThat(
+            "a validator that outlived the run must not write anything",
+            Files.readAllLines(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void writesFormatListedTwiceOnce(@TempDir final Path temp)
+        throws Exception {
+        try (Reporter reporter = new Reporters(
+            temp.toFile(), List.of("jsonl", " JSONL ")
+        )) {
+            reporter.report(
+                new Violation.Compact(
+                    "PMD", "UnusedLocalVariable", "/prj/Foo.java", 3, "once"
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "a format listed twice must be written by one reporter",
+            Files.readAllLines(
+                temp.resolve("violations.jsonl"), StandardCharsets.UTF_8
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void endsEveryLineWithLineFeed(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("violations.jsonl").toFile();
+        try (Reporter reporter = new JsonLinesReporter(file)) {
+            reporter.report(
+                new Violation.Compact(
+                    "PMD", "UnusedLocalVariable", "/prj/Foo.java", 3, "lf"
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "JSON Lines must be separated by LF on every platform",
+            new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.endsWith("\"lf\"}\n"),
+                Matchers.not(Matchers.containsString("\r"))
+            )
+        );
+    }
+
+    @Test
+    void opensNoReportWhenFormatIsUnknown(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Reporters(temp.toFile(), List.of("jsonl", "html")),
+            "an unknown format must fail the build"
+        );
+        MatcherAssert.assertThat(
+            "no report must be opened before all formats are known",
+            temp.resolve("violations.jsonl").toFile().exists(),
+            Matchers.is(false)
+        );
+    }
+}
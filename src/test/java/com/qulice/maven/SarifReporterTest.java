@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Reporter;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link SarifReporter}.
+ * @since 1.0
+ */
+final class SarifReporterTest {
+
+    @Test
+    void writesRegionOfLineRange(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("violations.sarif").toFile();
+        try (Reporter reporter = new SarifReporter(file)) {
+            reporter.report(
+                new Violation.Compact(
+                    "PMD", "UnusedLocalVariable", "/prj/Foo.java", 7, 9, "unused"
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "a line range must become a SARIF region",
+            Files.readString(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("\"version\":\"2.1.0\""),
+                Matchers.containsString("\"ruleId\":\"UnusedLocalVariable\""),
+                Matchers.containsString("\"region\":{\"startLine\":7,\"endLine\":9}"),
+                Matchers.endsWith(String.format("]}]}%n"))
+            )
+        );
+    }
+
+    @Test
+    void writesEmptyLogWithoutViolations(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("violations.sarif").toFile();
+        new SarifReporter(file).close();
+        MatcherAssert.assertThat(
+            "a log without violations must still have an empty result list",
+            Files.readString(file.toPath(), StandardCharsets.UTF_8),
+            Matchers.containsString(String.format("\"results\":[%n]}]}"))
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link SessionPlugins}.
+ * @since 1.0
+ */
+final class SessionPluginsTest {
+
+    @Test
+    void resolvesDescriptorOncePerGoal() {
+        final SessionPlugins plugins = SessionPlugins.of(null);
+        final AtomicInteger calls = new AtomicInteger();
+        for (int idx = 0; idx < 3; ++idx) {
+            plugins.descriptor(
+                "g:a:1:goal",
+                key -> {
+                    calls.incrementAndGet();
+                    return new MojoDescriptor();
+                }
+            );
+        }
+        MatcherAssert.assertThat(
+            "Descriptor should be resolved only the first time",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void keepsPluginsOfTheSameBuild() {
+        MatcherAssert.assertThat(
+            "Plugins of the same build should be the same",
+            SessionPlugins.of(null),
+            Matchers.sameInstance(SessionPlugins.of(null))
+        );
+    }
+
+    @Test
+    void givesCopiesOfDefaultConfiguration() {
+        final SessionPlugins plugins = SessionPlugins.of(null);
+        plugins.defaults("g:a:2:goal", key -> new Xpp3Dom("configuration"))
+            .addChild(new Xpp3Dom("changed"));
+        MatcherAssert.assertThat(
+            "Cached default configuration should not be modified",
+            plugins.defaults("g:a:2:goal", key -> new Xpp3Dom("other"))
+                .getChildCount(),
+            Matchers.equalTo(0)
+        );
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link VersionRule}.
+ * @since 1.0
+ */
+final class VersionRuleTest {
+
+    @Test
+    void takesBareVersionAsLowest() {
+        Assertions.assertDoesNotThrow(
+            () -> new VersionRule("JDK", "1.7").check("17.0.2"),
+            "A newer version should satisfy a bare version"
+        );
+    }
+
+    @Test
+    void rejectsOlderVersion() {
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> new VersionRule("Maven", "3.6.3").check("3.0.5"),
+            "An older version should not satisfy a bare version"
+        );
+    }
+
+    @Test
+    void rejectsVersionOutOfRange() {
+        Assertions.assertThrows(
+            ValidationException.class,
+            () -> new VersionRule("JDK", "[11,17)").check("17.0.2"),
+            "A version above the range should not be allowed"
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.maven;
+
+import com.qulice.spi.Environment;
+import com.qulice.spi.Violation;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Violations}.
+ * @since 1.0
+ */
+final class ViolationsTest {
+
+    @Test
+    void mergesSpilledViolationsInOrder() throws Exception {
+        final List<String> lines = new ArrayList<>(0);
+        try (Violations violations = new Violations(new Environment.Mock(), 3, 0)) {
+            for (final int line : new int[] {9, 4, 7, 1, 8, 2, 6, 3, 5}) {
+                violations.add(ViolationsTest.violation("Foo", line));
+            }
+            violations.add(
+                new Violation.Default(
+                    "Checkstyle", "Foo", "/src/main/java/A.java", "10-11", "x"
+                )
+            );
+            for (final Violation violation : violations) {
+                lines.add(violation.lines());
+            }
+        }
+        MatcherAssert.assertThat(
+            "spilled violations must come back merged in one sorted sequence",
+            lines,
+            Matchers.contains(
+                "1", "2", "3", "4", "5", "6", "7", "8", "9", "10-11"
+            )
+        );
+    }
+
+    @Test
+    void countsViolationsBeyondTheCap() throws Exception {
+        try (Violations violations = new Violations(new Environment.Mock(), 100, 2)) {
+            for (int line = 1; line <= 5; line += 1) {
+                violations.add(ViolationsTest.violation("Foo", line));
+            }
+            violations.add(ViolationsTest.violation("Bar", 1));
+            MatcherAssert.assertThat(
+                "violations beyond the cap must not be kept",
+                violations,
+                Matchers.iterableWithSize(3)
+            );
+            MatcherAssert.assertThat(
+                "violations beyond the cap must still be counted",
+                violations.size(),
+                Matchers.equalTo(6)
+            );
+            MatcherAssert.assertThat(
+                "violations beyond the cap must be reported per check",
+                violations.dropped(),
+                Matchers.hasEntry("Checkstyle:Foo", 3)
+            );
+        }
+    }
+
+    @Test
+    void deletesSpilledRunsOnClose() throws Exception {
+        final Environment env = new Environment.Mock();
+        final Violations violations = new Violations(env, 1, 0);
+        violations.add(ViolationsTest.violation("Foo", 1));
+        violations.add(ViolationsTest.violation("Foo", 2));
+        violations.close();
+        MatcherAssert.assertThat(
+            "spilled runs must not outlive the report",
+            new File(env.tempdir(), "violations").list(),
+            Matchers.emptyArray()
+        );
+    }
+
+    private static Violation violation(final String check, final int line) {
+        return new Violation.Compact(
+            "Checkstyle", check, "/src/main/java/A.java", line, "message"
+        );
+    }
+}
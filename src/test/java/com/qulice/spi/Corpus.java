@@ -0,0 +1,434 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Builder of a synthetic Java project inside {@link Environment.Mock}.
+ *
+ * <p>Writes {@code packages} packages under {@code src/main/java}, each
+ * with a {@code package-info.java} and {@code classes} classes of
+ * {@code methods} methods. The classes look like the code Qulice is
+ * meant to read: license header, Javadoc, constructors, loops and
+ * lambdas, all drawn from a random generator seeded by the given seed,
+ * so that two corpora with the same seed and settings are identical,
+ * byte for byte. The project comes with its {@code LICENSE.txt} and the
+ * {@code license} parameter pointing to it.</p>
+ *
+ * <p>On top of that, every class may carry one violation of each check
+ * named in {@link #withViolations(String...)}, a method whose magic
+ * number is silenced by a {@code @checkstyle} comment, and every package
+ * may get twins in further test source roots, the way {@code Batches}
+ * meets them in real projects, and non-Java resources of the extensions
+ * {@code CheckstyleValidator} passes to Checkstyle.</p>
+ *
+ * @since 1.0
+ */
+public final class Corpus {
+
+    /**
+     * End of line of the files written.
+     */
+    private static final String EOL = String.valueOf('\n');
+
+    /**
+     * Checks this corpus knows how to violate.
+     */
+    private static final Collection<String> CHECKS = Arrays.asList(
+        "LineLengthCheck", "MagicNumberCheck", "MethodNameCheck",
+        "RegexpSinglelineCheck", "StringLiteralsConcatenationCheck"
+    );
+
+    /**
+     * Extensions of the resources, all among the ones
+     * {@code CheckstyleValidator} passes to Checkstyle.
+     */
+    private static final List<String> EXTENSIONS = Arrays.asList(
+        "txt", "xml", "properties", "md", "yml", "json", "csv", "sql",
+        "sh", "html", "css", "js"
+    );
+
+    /**
+     * Seed of the generator.
+     */
+    private final long seed;
+
+    /**
+     * Checks to violate in every class.
+     */
+    private final Collection<String> checks;
+
+    /**
+     * Test source roots to add, related to basedir.
+     */
+    private final Collection<String> roots;
+
+    /**
+     * Number of packages.
+     */
+    private int packages;
+
+    /**
+     * Number of classes in every package.
+     */
+    private int classes;
+
+    /**
+     * Number of methods in every class.
+     */
+    private int methods;
+
+    /**
+     * Number of resources in every package.
+     */
+    private int resources;
+
+    /**
+     * Do classes carry a suppressed violation?
+     */
+    private boolean suppressed;
+
+    /**
+     * Constructor.
+     * @param seed Seed of the generator
+     */
+    public Corpus(final long seed) {
+        this.seed = seed;
+        this.checks = new ArrayList<>(0);
+        this.roots = new ArrayList<>(0);
+        this.packages = 1;
+        this.classes = 1;
+        this.methods = 1;
+    }
+
+    /**
+     * With this many packages.
+     * @param count Number of packages
+     * @return This object
+     */
+    public Corpus withPackages(final int count) {
+        this.packages = count;
+        return this;
+    }
+
+    /**
+     * With this many classes in every package.
+     * @param count Number of classes
+     * @return This object
+     */
+    public Corpus withClasses(final int count) {
+        this.classes = count;
+        return this;
+    }
+
+    /**
+     * With this many methods in every class.
+     * @param count Number of methods
+     * @return This object
+     */
+    public Corpus withMethods(final int count) {
+        this.methods = count;
+        return this;
+    }
+
+    /**
+     * With one violation of each of these checks in every class.
+     * @param names Simple names of the checks, as Qulice reports them
+     * @return This object
+     */
+    public Corpus withViolations(final String... names) {
+        for (final String name : names) {
+            if (!Corpus.CHECKS.contains(name)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Can't plant a violation of %s, only of %s",
+                        name, Corpus.CHECKS
+                    )
+                );
+            }
+            this.checks.add(name);
+        }
+        return this;
+    }
+
+    /**
+     * With a method in every class whose violation is suppressed.
+     * @return This object
+     */
+    public Corpus withSuppressions() {
+        this.suppressed = true;
+        return this;
+    }
+
+    /**
+     * With a twin of every package and class in each of these test
+     * source roots.
+     * @param dirs Directories, related to basedir, e.g. "src/mock/java"
+     * @return This object
+     */
+    public Corpus withTestRoots(final String... dirs) {
+        this.roots.addAll(Arrays.asList(dirs));
+        return this;
+    }
+
+    /**
+     * With this many non-Java resources in every package.
+     * @param count Number of resources
+     * @return This object
+     */
+    public Corpus withResources(final int count) {
+        this.resources = count;
+        return this;
+    }
+
+    /**
+     * Write the project into a new environment.
+     * @return The environment
+     * @throws IOException If fails to write
+     */
+    public Environment.Mock mock() throws IOException {
+        final Environment.Mock env = new Environment.Mock();
+        env.withFile("LICENSE.txt", String.format("Synthetic corpus.%n"));
+        env.withParam(
+            "license",
+            String.format("file:%s", new File(env.basedir(), "LICENSE.txt"))
+        );
+        final Random random = new Random(this.seed);
+        for (int pkg = 0; pkg < this.packages; pkg += 1) {
+            final String name = String.format("com.example.p%d", pkg);
+            this.root(env, random, "src/main/java", name, "");
+            for (final String dir : this.roots) {
+                this.root(env, random, dir, name, "Test");
+            }
+            for (int res = 0; res < this.resources; res += 1) {
+                final String ext = Corpus.EXTENSIONS.get(
+                    res % Corpus.EXTENSIONS.size()
+                );
+                env.withFile(
+                    String.format(
+                        "src/main/resources/%s/res%d.%s",
+                        name.replace('.', '/'), res, ext
+                    ),
+                    Corpus.resource(ext, random)
+                );
+            }
+        }
+        for (final String dir : this.roots) {
+            if (!dir.startsWith("src/test/")) {
+                env.withTestdir(dir);
+            }
+        }
+        return env;
+    }
+
+    private void root(final Environment.Mock env, final Random random,
+        final String root, final String pkg, final String suffix)
+        throws IOException {
+        final String dir = String.format("%s/%s", root, pkg.replace('.', '/'));
+        env.withFile(
+            String.format("%s/package-info.java", dir),
+            String.join(
+                Corpus.EOL,
+                Corpus.header(),
+                "/**",
+                String.format(" * Package %s.", pkg),
+                " */",
+                String.format("package %s;", pkg),
+                ""
+            )
+        );
+        for (int cls = 0; cls < this.classes; cls += 1) {
+            final String type = String.format("Type%d%s", cls, suffix);
+            env.withFile(
+                String.format("%s/%s.java", dir, type),
+                this.type(random, pkg, type)
+            );
+        }
+    }
+
+    private String type(final Random random, final String pkg,
+        final String name) {
+        final List<String> src = new ArrayList<>(this.methods * 16);
+        src.addAll(
+            Arrays.asList(
+                Corpus.header(),
+                String.format("package %s;", pkg),
+                "",
+                "import java.util.ArrayList;",
+                "import java.util.List;",
+                "",
+                "/**",
+                String.format(" * Generated type %s.", name),
+                " * @since 1.0",
+                " */",
+                String.format("public final class %s {", name),
+                "",
+                "    /**",
+                "     * Items.",
+                "     */",
+                "    private final List<String> items;",
+                "",
+                "    /**",
+                "     * Constructor.",
+                "     */",
+                String.format("    public %s() {", name),
+                "        this.items = new ArrayList<>(0);",
+                "    }"
+            )
+        );
+        for (int idx = 0; idx < this.methods; idx += 1) {
+            src.add("");
+            src.addAll(Corpus.method(random, idx));
+        }
+        for (final String check : this.checks) {
+            src.add("");
+            src.addAll(Corpus.planted(check));
+        }
+        if (this.suppressed) {
+            src.addAll(
+                Arrays.asList(
+                    "",
+                    "    /**",
+                    "     * Magic number, silenced.",
+                    "     * @return The number",
+                    "     * @checkstyle MagicNumber (3 lines)",
+                    "     */",
+                    "    public int silenced() {",
+                    String.format("        return %d;", 1000 + random.nextInt(1000)),
+                    "    }"
+                )
+            );
+        }
+        src.add("}");
+        src.add("");
+        return String.join(Corpus.EOL, src);
+    }
+
+    private static List<String> method(final Random random, final int idx) {
+        final List<String> src = new ArrayList<>(16);
+        final String[] vars = {"idx", "pos", "step"};
+        final int loops = 1 + random.nextInt(vars.length);
+        src.addAll(
+            Arrays.asList(
+                "    /**",
+                String.format("     * Method number %d.", idx),
+                "     * @param text Text to work with",
+                "     * @return Total length",
+                "     */",
+                String.format(
+                    "    public int compute%s(final String text) {",
+                    Corpus.word(idx)
+                ),
+                "        int total = 0;"
+            )
+        );
+        for (int loop = 0; loop < loops; loop += 1) {
+            src.addAll(
+                Arrays.asList(
+                    String.format(
+                        "        for (int %1$s = 0; %1$s < text.length(); ++%1$s) {",
+                        vars[loop]
+                    ),
+                    String.format(
+                        "            this.items.add(text.concat(\"%d\"));",
+                        random.nextInt(1_000_000)
+                    ),
+                    "            total += this.items.stream()",
+                    "                .mapToInt(String::length)",
+                    "                .sum();",
+                    "        }"
+                )
+            );
+        }
+        src.add("        return total;");
+        src.add("    }");
+        return src;
+    }
+
+    private static List<String> planted(final String check) {
+        final String body;
+        final String method;
+        if ("LineLengthCheck".equals(check)) {
+            method = "longer";
+            body = String.format(
+                "        return text.concat(\"%s\").length();",
+                "x".repeat(100)
+            );
+        } else if ("MagicNumberCheck".equals(check)) {
+            method = "magic";
+            body = "        return text.length() * 4242;";
+        } else if ("MethodNameCheck".equals(check)) {
+            method = "bad_name";
+            body = "        return text.length();";
+        } else if ("RegexpSinglelineCheck".equals(check)) {
+            method = "spaces";
+            body = "        return text.length();   ";
+        } else {
+            method = "concat";
+            body = "        return (text + \"planted\").length();";
+        }
+        return Arrays.asList(
+            "    /**",
+            String.format("     * Planted violation of %s.", check),
+            "     * @param text Text to work with",
+            "     * @return Some number",
+            "     */",
+            String.format("    public int %s(final String text) {", method),
+            body,
+            "    }"
+        );
+    }
+
+    private static String resource(final String ext, final Random random) {
+        final int num = random.nextInt(1_000_000);
+        final String body;
+        if ("xml".equals(ext) || "html".equals(ext)) {
+            body = String.format("<root>%d</root>", num);
+        } else if ("properties".equals(ext)) {
+            body = String.format("key=%d", num);
+        } else if ("yml".equals(ext)) {
+            body = String.format("key: %d", num);
+        } else if ("json".equals(ext)) {
+            body = String.format("{\"key\": %d}", num);
+        } else if ("csv".equals(ext)) {
+            body = String.format("key,%d", num);
+        } else if ("sql".equals(ext)) {
+            body = String.format("SELECT %d;", num);
+        } else if ("sh".equals(ext)) {
+            body = String.format("echo %d", num);
+        } else if ("css".equals(ext)) {
+            body = String.format(".c%d { color: red; }", num);
+        } else if ("js".equals(ext)) {
+            body = String.format("const key = %d;", num);
+        } else {
+            body = String.format("Resource number %d.", num);
+        }
+        return String.join(Corpus.EOL, body, "");
+    }
+
+    private static String header() {
+        return String.join(Corpus.EOL, "/*", " * Synthetic corpus.", " */");
+    }
+
+    private static String word(final int idx) {
+        final StringBuilder word = new StringBuilder(4);
+        int rest = idx;
+        do {
+            word.append((char) ('a' + rest % 26));
+            rest /= 26;
+        } while (rest > 0);
+        final String text = word.reverse().toString();
+        return text.substring(0, 1).toUpperCase(Locale.ENGLISH)
+            .concat(text.substring(1));
+    }
+}
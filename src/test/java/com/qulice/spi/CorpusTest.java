@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2011-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.qulice.spi;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Corpus}.
+ * @since 1.0
+ */
+final class CorpusTest {
+
+    @Test
+    void writesSameProjectFromSameSeed() throws Exception {
+        final String name = "src/main/java/com/example/p1/Type2.java";
+        MatcherAssert.assertThat(
+            "Two corpora from one seed should be identical",
+            CorpusTest.content(CorpusTest.corpus(7L), name),
+            Matchers.equalTo(CorpusTest.content(CorpusTest.corpus(7L), name))
+        );
+    }
+
+    @Test
+    void writesDifferentProjectFromDifferentSeed() throws Exception {
+        final String name = "src/main/java/com/example/p0/Type0.java";
+        MatcherAssert.assertThat(
+            "Two corpora from different seeds should differ",
+            CorpusTest.content(CorpusTest.corpus(7L), name),
+            Matchers.not(
+                Matchers.equalTo(CorpusTest.content(CorpusTest.corpus(8L), name))
+            )
+        );
+    }
+
+    @Test
+    void writesAllRequestedFiles() throws Exception {
+        MatcherAssert.assertThat(
+            "Every package should have its classes, twins and resources",
+            CorpusTest.corpus(1L).files("*.*"),
+            Matchers.hasSize(2 * (1 + 3) * 3 + 2 * 4 + 1)
+        );
+    }
+
+    @Test
+    void registersExtraTestRoots() throws Exception {
+        final Environment env = CorpusTest.corpus(1L);
+        MatcherAssert.assertThat(
+            "Root outside of src/test should be declared as a test root",
+            env.testdirs(),
+            Matchers.hasItem(new File(env.basedir(), "src/mock/java"))
+        );
+    }
+
+    @Test
+    void plantsViolationsOfChosenChecks() throws Exception {
+        final Environment env = new Corpus(1L)
+            .withViolations("MagicNumberCheck")
+            .withSuppressions()
+            .mock();
+        MatcherAssert.assertThat(
+            "Class should carry the planted and the silenced violations",
+            CorpusTest.content(env, "src/main/java/com/example/p0/Type0.java"),
+            Matchers.allOf(
+                Matchers.containsString("* 4242;"),
+                Matchers.containsString("@checkstyle MagicNumber (3 lines)")
+            )
+        );
+    }
+
+    @Test
+    void rejectsUnknownCheck() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Corpus(1L).withViolations("NoSuchCheck")
+        );
+    }
+
+    private static Environment corpus(final long seed) throws Exception {
+        return new Corpus(seed)
+            .withPackages(2)
+            .withClasses(3)
+            .withMethods(4)
+            .withTestRoots("src/test/java", "src/mock/java")
+            .withResources(4)
+            .mock();
+    }
+
+    private static String content(final Environment env, final String name)
+        throws Exception {
+        return new String(
+            Files.readAllBytes(new File(env.basedir(), name).toPath()),
+            StandardCharsets.UTF_8
+        );
+    }
+}
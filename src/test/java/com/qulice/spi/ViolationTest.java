@@ -127,4 +127,128 @@ final class ViolationTest {
             Matchers.equalTo(ViolationTest.VALIDATOR)
         );
     }
+
+    @Test
+    void rendersSingleLineOfCompactViolation() {
+        MatcherAssert.assertThat(
+            "compact violation must render a single line as one number",
+            new Violation.Compact(
+                ViolationTest.VALIDATOR, ViolationTest.CHECK,
+                ViolationTest.FOO, 12, ViolationTest.MESSAGE
+            ).lines(),
+            Matchers.equalTo("12")
+        );
+    }
+
+    @Test
+    void rendersRangeOfCompactViolation() {
+        MatcherAssert.assertThat(
+            "compact violation must render a range the way PMD does",
+            new Violation.Compact(
+                "PMD", ViolationTest.CHECK,
+                ViolationTest.FOO, 7, 7, ViolationTest.MESSAGE
+            ).lines(),
+            Matchers.equalTo("7-7")
+        );
+    }
+
+    @Test
+    void ordersCompactViolationsByLineNumber() {
+        final List<Violation> sorted = Arrays.asList(
+            new Violation.Compact(
+                ViolationTest.VALIDATOR, ViolationTest.CHECK,
+                ViolationTest.FOO, 42, ViolationTest.MESSAGE
+            ),
+            new Violation.Compact(
+                ViolationTest.VALIDATOR, ViolationTest.CHECK,
+                ViolationTest.FOO, 5, ViolationTest.MESSAGE
+            )
+        );
+        Collections.sort(sorted);
+        MatcherAssert.assertThat(
+            "compact violations must be sorted by line number",
+            sorted.get(0).lines(),
+            Matchers.equalTo("5")
+        );
+    }
+
+    @Test
+    void ordersRangesTheSameWayInBothForms() {
+        final List<Violation> sorted = Arrays.asList(
+            new Violation.Default(
+                "PMD", ViolationTest.CHECK,
+                ViolationTest.FOO, "12-18", ViolationTest.MESSAGE
+            ),
+            new Violation.Compact(
+                "PMD", ViolationTest.CHECK,
+                ViolationTest.FOO, 9, 30, ViolationTest.MESSAGE
+            )
+        );
+        Collections.sort(sorted);
+        MatcherAssert.assertThat(
+            "a range must sort by its first line in either form",
+            sorted.get(0).lines(),
+            Matchers.equalTo("9-30")
+        );
+    }
+
+    @Test
+    void comparesCompactEqualWhenAllFieldsMatch() {
+        MatcherAssert.assertThat(
+            "compact violations with identical fields must compare as equal",
+            new Violation.Compact(
+                "pmd", "UnusedLocal", ViolationTest.FOO, 3, 7, "unused"
+            ).compareTo(
+                new Violation.Compact(
+                    "pmd", "UnusedLocal", ViolationTest.FOO, 3, 7, "unused"
+                )
+            ),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void ordersMixedFormsTransitively() {
+        final Violation low = new Violation.Compact(
+            "PMD", ViolationTest.CHECK, ViolationTest.FOO, 9, 30,
+            ViolationTest.MESSAGE
+        );
+        final Violation mid = new Violation.Compact(
+            "PMD", ViolationTest.CHECK, ViolationTest.FOO, 9, 100,
+            ViolationTest.MESSAGE
+        );
+        final Violation high = new Violation.Default(
+            "PMD", ViolationTest.CHECK, ViolationTest.FOO, "9-200",
+            ViolationTest.MESSAGE
+        );
+        MatcherAssert.assertThat(
+            "ranges must compare by their last line as numbers in either form",
+            Arrays.asList(
+                Integer.signum(low.compareTo(mid)),
+                Integer.signum(mid.compareTo(high)),
+                Integer.signum(high.compareTo(low)),
+                Integer.signum(low.compareTo(high))
+            ),
+            Matchers.contains(-1, -1, 1, -1)
+        );
+    }
+
+    @Test
+    void tellsSingleLineFromRangeOfOneLine() {
+        MatcherAssert.assertThat(
+            "a single line and a range of one line must not compare as equal",
+            Integer.signum(
+                new Violation.Compact(
+                    "PMD", ViolationTest.CHECK, ViolationTest.FOO, 9,
+                    ViolationTest.MESSAGE
+                ).compareTo(
+                    new Violation.Compact(
+                        "PMD", ViolationTest.CHECK, ViolationTest.FOO, 9, 9,
+                        ViolationTest.MESSAGE
+                    )
+                )
+            ),
+            Matchers.equalTo(-1)
+        );
+    }
 }